@@ -0,0 +1,174 @@
+package org.example.tms.aspect.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tms.model.BaseEntity;
+import org.example.tms.properties.AuditProperties;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Renders method arguments and results for the audit log without walking object graphs.
+ * <p>
+ * Entities are rendered by type and ID only, so lazy associations are never initialized.
+ * Collections, maps and pages are rendered by size. Records are rendered one level deep
+ * with credential-like components masked. Every rendered value is capped at
+ * {@code audit.max-value-length} characters.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditValueRenderer {
+    private static final String MASK = "****";
+
+    private final AuditProperties auditProperties;
+
+    /**
+     * Renders the arguments of a method call.
+     *
+     * @param args the arguments of the call
+     * @return the rendered arguments
+     */
+    public String renderArguments(Object[] args) {
+        var builder = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(render(args[i]));
+        }
+        return builder.append(']')
+                .toString();
+    }
+
+    /**
+     * Renders a single argument or result.
+     *
+     * @param value the value to render
+     * @return the rendered value, at most {@code audit.max-value-length} characters long
+     */
+    public String render(Object value) {
+        var builder = new StringBuilder();
+        append(builder, value, true);
+        return truncate(builder);
+    }
+
+    private void append(StringBuilder builder, Object value, boolean expandRecord) {
+        if (value == null) {
+            builder.append("null");
+
+        } else if (isScalar(value)) {
+            builder.append(value);
+
+        } else if (value instanceof BaseEntity entity) {
+            builder.append(entityName(entity))
+                    .append("[id=")
+                    .append(entity.getId())
+                    .append(']');
+
+        } else if (value instanceof Slice<?> slice) {
+            builder.append(value.getClass()
+                            .getSimpleName())
+                    .append("[number=")
+                    .append(slice.getNumber())
+                    .append(", elements=")
+                    .append(slice.getNumberOfElements())
+                    .append(']');
+
+        } else if (value instanceof Collection<?> collection) {
+            builder.append(value.getClass()
+                            .getSimpleName())
+                    .append("[size=")
+                    .append(collection.size())
+                    .append(']');
+
+        } else if (value instanceof Map<?, ?> map) {
+            builder.append(value.getClass()
+                            .getSimpleName())
+                    .append("[size=")
+                    .append(map.size())
+                    .append(']');
+
+        } else if (value.getClass()
+                .isRecord()) {
+            appendRecord(builder, (Record) value, expandRecord);
+
+        } else {
+            builder.append(value);
+        }
+    }
+
+    private void appendRecord(StringBuilder builder, Record value, boolean expand) {
+        builder.append(value.getClass()
+                .getSimpleName());
+        if (!expand) {
+            return;
+        }
+
+        builder.append('[');
+        RecordComponent[] components = value.getClass()
+                .getRecordComponents();
+        for (int i = 0; i < components.length && builder.length() <= auditProperties.getMaxValueLength(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            var name = components[i].getName();
+            builder.append(name)
+                    .append('=');
+
+            if (isSensitive(name)) {
+                builder.append(MASK);
+            } else {
+                append(builder, readComponent(value, components[i]), false);
+            }
+        }
+        builder.append(']');
+    }
+
+    private Object readComponent(Record value, RecordComponent component) {
+        try {
+            return component.getAccessor()
+                    .invoke(value);
+        } catch (ReflectiveOperationException e) {
+            return "?";
+        }
+    }
+
+    private String truncate(StringBuilder builder) {
+        int maxLength = auditProperties.getMaxValueLength();
+        if (builder.length() <= maxLength) {
+            return builder.toString();
+        }
+        return builder.substring(0, maxLength) + "...(" + builder.length() + " chars)";
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof CharSequence
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Enum<?>
+                || value instanceof UUID
+                || value instanceof TemporalAccessor;
+    }
+
+    private static boolean isSensitive(String name) {
+        var lowerCaseName = name.toLowerCase(Locale.ROOT);
+        return lowerCaseName.contains("password") || lowerCaseName.contains("token");
+    }
+
+    private static String entityName(BaseEntity entity) {
+        if (entity instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer()
+                    .getPersistentClass()
+                    .getSimpleName();
+        }
+        return entity.getClass()
+                .getSimpleName();
+    }
+}
@@ -1,19 +1,38 @@
 package org.example.tms.aspect.logging;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.example.tms.exception.MethodExecutionException;
+import org.example.tms.properties.ExecutionTimeProperties;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class MethodExecutionTimeAspect {
+    public static final String TIMER_NAME = "method.execution";
+
+    private final MeterRegistry meterRegistry;
+    private final ExecutionTimeProperties executionTimeProperties;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
 
     /**
-     * Logs the execution time of methods annotated with @ExecutionTime.
+     * Records the execution time of methods annotated with @ExecutionTime in the {@code method.execution} timer,
+     * tagged by class, method and outcome. Percentiles and histogram buckets are configured through
+     * {@code management.metrics.distribution.*}. Only calls slower than {@code execution-time.slow-call-threshold}
+     * are logged.
      *
      * @param proceedingJoinPoint The join point representing the method execution.
      * @return The result of the method execution.
@@ -21,34 +40,51 @@ public class MethodExecutionTimeAspect {
      */
     @Around("@annotation(org.example.tms.aspect.logging.annotation.ExecutionTime)")
     public Object logExecutionTime(ProceedingJoinPoint proceedingJoinPoint) {
-        var methodName = proceedingJoinPoint.getSignature()
-                .toShortString();
-        long startTime = System.currentTimeMillis();
-
-        if (log.isDebugEnabled()) {
-            log.debug("Execution of method '{}' started at: {}", methodName, startTime);
-        } else {
-            log.info("Execution of method '{}' started", methodName);
-        }
+        var signature = (MethodSignature) proceedingJoinPoint.getSignature();
+        MethodTimers methodTimers = timers.computeIfAbsent(signature.getMethod(), this::registerTimers);
+        long startTime = System.nanoTime();
 
         Object result;
         try {
             result = proceedingJoinPoint.proceed();
 
         } catch (Throwable e) {
-            log.error("Execution of method '{}' failed due to an error", methodName, e);
+            long duration = System.nanoTime() - startTime;
+            methodTimers.error()
+                    .record(duration, TimeUnit.NANOSECONDS);
+
+            var methodName = signature.toShortString();
+            log.error("Execution of method '{}' failed due to an error after {} ms", methodName,
+                    TimeUnit.NANOSECONDS.toMillis(duration), e);
             throw new MethodExecutionException(methodName, e);
+        }
 
-        } finally {
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
+        long duration = System.nanoTime() - startTime;
+        methodTimers.success()
+                .record(duration, TimeUnit.NANOSECONDS);
 
-            if (log.isDebugEnabled()) {
-                log.debug("Execution of method '{}' ended at: {} (Duration: {} ms)", methodName, endTime, duration);
-            } else {
-                log.info("Execution of method '{}' took {} ms", methodName, duration);
-            }
+        if (duration > executionTimeProperties.getSlowCallThreshold()
+                .toNanos()) {
+            log.warn("Slow execution of method '{}' took {} ms", signature.toShortString(),
+                    TimeUnit.NANOSECONDS.toMillis(duration));
         }
         return result;
     }
+
+    private MethodTimers registerTimers(Method method) {
+        return new MethodTimers(timer(method, "success"), timer(method, "error"));
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Execution time of methods annotated with @ExecutionTime")
+                .tag("class", method.getDeclaringClass()
+                        .getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+    }
 }
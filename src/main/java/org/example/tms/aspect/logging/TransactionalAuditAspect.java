@@ -1,57 +1,116 @@
 package org.example.tms.aspect.logging;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.example.tms.exception.TransactionExecutionException;
+import org.example.tms.properties.AuditProperties;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import static org.example.tms.exception.TransactionExecutionException.ErrorType;
 
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class TransactionalAuditAspect {
+    private final AuditProperties auditProperties;
+    private final AuditValueRenderer auditValueRenderer;
 
     /**
-     * Logs the execution of transactional methods and handles exceptions thrown during their execution.
+     * Handles exceptions thrown by transactional methods that are not audited.
+     * Neither the arguments nor the result are rendered.
      *
      * @param proceedingJoinPoint The join point representing the method execution.
      * @return The result of the method execution.
      * @throws TransactionExecutionException If any exceptions related to transaction execution occur.
      */
-    @Around("@annotation(org.springframework.transaction.annotation.Transactional)")
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional) "
+            + "&& !@annotation(org.example.tms.aspect.logging.annotation.Audited)")
+    public Object handleTransactional(ProceedingJoinPoint proceedingJoinPoint) {
+        try {
+            return proceedingJoinPoint.proceed();
+
+        } catch (Throwable e) {
+            throw translate(proceedingJoinPoint.getSignature()
+                    .getName(), "", e);
+        }
+    }
+
+    /**
+     * Logs a sample of the successful calls of transactional methods annotated with @Audited,
+     * with their size-capped arguments and result, and handles exceptions thrown during their execution.
+     * Failed calls are always logged, once, together with their arguments.
+     *
+     * @param proceedingJoinPoint The join point representing the method execution.
+     * @return The result of the method execution.
+     * @throws TransactionExecutionException If any exceptions related to transaction execution occur.
+     */
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional) "
+            + "&& @annotation(org.example.tms.aspect.logging.annotation.Audited)")
     public Object logTransactionalAudit(ProceedingJoinPoint proceedingJoinPoint) {
-        var methodName = proceedingJoinPoint.getSignature()
-                .getName();
-        Object[] args = proceedingJoinPoint.getArgs();
-        log.info("Executing method: {} with arguments: {}", methodName, args);
+        boolean sampled = log.isInfoEnabled() && isSampled();
+        long startTime = sampled ? System.nanoTime() : 0L;
 
+        Object result;
         try {
-            Object result = proceedingJoinPoint.proceed();
-            log.info("Method {} executed successfully with result: {}", methodName, result);
+            result = proceedingJoinPoint.proceed();
 
-            return result;
-
-        } catch (SQLException e) {
-            log.error("SQL Exception occurred while executing method {}: {}", methodName, e.getMessage(), e);
-            throw new TransactionExecutionException(ErrorType.DATABASE_ERROR_EXECUTING_METHOD, methodName, e);
+        } catch (Throwable e) {
+            throw translate(proceedingJoinPoint.getSignature()
+                    .getName(), " with arguments " + auditValueRenderer.renderArguments(
+                    proceedingJoinPoint.getArgs()), e);
+        }
 
-        } catch (IOException e) {
-            log.error("I/O Exception occurred while executing method {}: {}", methodName, e.getMessage(), e);
-            throw new TransactionExecutionException(ErrorType.IO_ERROR_EXECUTING_METHOD, methodName, e);
+        if (sampled) {
+            log.info("Audited method {} completed in {} µs with arguments: {} and result: {}",
+                    proceedingJoinPoint.getSignature()
+                            .getName(),
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime),
+                    auditValueRenderer.renderArguments(proceedingJoinPoint.getArgs()),
+                    auditValueRenderer.render(result));
+        }
+        return result;
+    }
 
-        } catch (Exception e) {
-            log.error("Exception occurred while executing method {}: {}", methodName, e.getMessage(), e);
-            throw new TransactionExecutionException(ErrorType.GENERIC_ERROR_EXECUTING_METHOD, methodName, e);
+    private boolean isSampled() {
+        double sampleRate = auditProperties.getSampleRate();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current()
+                .nextDouble() < sampleRate;
+    }
 
-        } catch (Throwable e) {
-            log.error("Unexpected error occurred while executing method {}: {}", methodName, e.getMessage(), e);
-            throw new RuntimeException("Unexpected error while executing method: " + methodName, e);
+    /**
+     * Logs a failed call once, with the rendered arguments of audited methods, and translates its exception.
+     *
+     * @param methodName the name of the failed method
+     * @param arguments  the rendered arguments prefixed with {@code " with arguments "}, or an empty string
+     * @param e          the exception thrown by the method
+     * @return the exception to rethrow
+     */
+    private RuntimeException translate(String methodName, String arguments, Throwable e) {
+        if (e instanceof SQLException) {
+            log.error("SQL Exception occurred while executing method {}{}: {}", methodName, arguments, e.getMessage(),
+                    e);
+            return new TransactionExecutionException(ErrorType.DATABASE_ERROR_EXECUTING_METHOD, methodName, e);
+        }
+        if (e instanceof IOException) {
+            log.error("I/O Exception occurred while executing method {}{}: {}", methodName, arguments, e.getMessage(),
+                    e);
+            return new TransactionExecutionException(ErrorType.IO_ERROR_EXECUTING_METHOD, methodName, e);
+        }
+        if (e instanceof Exception) {
+            log.error("Exception occurred while executing method {}{}: {}", methodName, arguments, e.getMessage(), e);
+            return new TransactionExecutionException(ErrorType.GENERIC_ERROR_EXECUTING_METHOD, methodName, e);
         }
+        log.error("Unexpected error occurred while executing method {}{}: {}", methodName, arguments, e.getMessage(),
+                e);
+        return new RuntimeException("Unexpected error while executing method: " + methodName, e);
     }
 }
@@ -0,0 +1,15 @@
+package org.example.tms.aspect.logging.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional method whose arguments and result are written to the audit log.
+ * Transactional methods without this annotation only get their failures logged.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audited {
+}
@@ -0,0 +1,10 @@
+package org.example.tms.config;
+
+import org.example.tms.properties.AuditProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+}
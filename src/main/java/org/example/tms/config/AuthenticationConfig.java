@@ -1,28 +1,34 @@
 package org.example.tms.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.example.tms.exception.AuthenticationManagerConfigurationException;
+import org.example.tms.properties.JwtBlacklistProperties;
+import org.example.tms.properties.JwtPrincipalProperties;
+import org.example.tms.properties.PasswordHashingProperties;
+import org.example.tms.security.BoundedPasswordEncoder;
 import org.example.tms.service.UserService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({JwtPrincipalProperties.class, JwtBlacklistProperties.class,
+        PasswordHashingProperties.class})
 public class AuthenticationConfig {
     private final UserService userService;
+    private final PasswordHashingProperties passwordHashingProperties;
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         var provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService());
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
 
         return provider;
     }
@@ -32,17 +38,12 @@ public class AuthenticationConfig {
         return userService::getUserByEmail;
     }
 
+    /**
+     * BCrypt encoder with the configured cost, computing hashes on a bounded pool of dedicated threads.
+     */
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) {
-        try {
-            return config.getAuthenticationManager();
-        } catch (Exception ex) {
-            throw new AuthenticationManagerConfigurationException(ex);
-        }
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(passwordHashingProperties.getStrength()),
+                passwordHashingProperties, meterRegistry);
     }
 }
@@ -0,0 +1,10 @@
+package org.example.tms.config;
+
+import org.example.tms.properties.ExecutionTimeProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExecutionTimeProperties.class)
+public class MetricsConfig {
+}
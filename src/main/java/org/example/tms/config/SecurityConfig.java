@@ -37,9 +37,11 @@ public class SecurityConfig {
                     .csrf(AbstractHttpConfigurer::disable)
                     .cors(Customizer.withDefaults())
                     .authorizeHttpRequests(auth -> auth
+                            .requestMatchers(HttpMethod.POST, "/api/auth/logout")
+                            .authenticated()
                             .requestMatchers("/api/auth/**")
                             .permitAll()
-                            .requestMatchers(HttpMethod.POST, "/api/tasks")
+                            .requestMatchers(HttpMethod.POST, "/api/tasks", "/api/tasks/batch", "/api/tasks/import")
                             .hasRole("ADMIN")
                             .requestMatchers(HttpMethod.DELETE, "/api/tasks/**")
                             .hasRole("ADMIN")
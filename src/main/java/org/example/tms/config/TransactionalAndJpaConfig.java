@@ -1,25 +1,49 @@
 package org.example.tms.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.tms.datasource.ReadWriteRoutingDataSource;
 import org.example.tms.properties.DataSourceProperties;
 import org.example.tms.properties.HibernateProperties;
+import org.example.tms.util.ConstantUtil;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
 import javax.sql.DataSource;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Properties;
 
+import static org.example.tms.datasource.ReadWriteRoutingDataSource.DataSourceType;
+
 @Configuration
 @RequiredArgsConstructor
 @EnableConfigurationProperties({DataSourceProperties.class, HibernateProperties.class})
 public class TransactionalAndJpaConfig {
     private final HibernateProperties hibernateProperties;
     private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     @Bean
     public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
@@ -32,18 +56,53 @@ public class TransactionalAndJpaConfig {
         return factoryBean;
     }
 
+    /**
+     * Application-wide data source. Without {@code spring.datasource.read-only.url} every transaction uses the
+     * read-write pool. With it, connections are only borrowed from a pool when the first statement is executed,
+     * so read-only transactions are routed to the read-only pool.
+     */
     @Bean
+    @Primary
     public DataSource dataSource() {
-        var dataSource = new DriverManagerDataSource();
-        dataSource.setUrl(dataSourceProperties.getUrl());
-        dataSource.setUsername(dataSourceProperties.getUsername());
-        dataSource.setPassword(dataSourceProperties.getPassword());
-
-        if (dataSourceProperties.getDriverClassName() != null) {
-            dataSource.setDriverClassName(dataSourceProperties.getDriverClassName());
+        HikariDataSource readWriteDataSource = readWriteDataSource();
+        if (dataSourceProperties.getReadOnly()
+                .getUrl() == null) {
+            return readWriteDataSource;
         }
 
-        return dataSource;
+        var routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.READ_WRITE, readWriteDataSource,
+                DataSourceType.READ_ONLY, readOnlyDataSource()));
+        routingDataSource.setDefaultTargetDataSource(readWriteDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public HikariDataSource readWriteDataSource() {
+        var hikari = dataSourceProperties.getHikari();
+
+        HikariConfig config = buildPoolConfig(hikari.getPoolName() + "-rw", dataSourceProperties.getUrl(),
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword(), hikari.getMaximumPoolSize());
+
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.datasource.read-only", name = "url")
+    public HikariDataSource readOnlyDataSource() {
+        var hikari = dataSourceProperties.getHikari();
+        var readOnly = dataSourceProperties.getReadOnly();
+
+        HikariConfig config = buildPoolConfig(hikari.getPoolName() + "-ro", readOnly.getUrl(),
+                readOnly.getUsername() != null ? readOnly.getUsername() : dataSourceProperties.getUsername(),
+                readOnly.getPassword() != null ? readOnly.getPassword() : dataSourceProperties.getPassword(),
+                readOnly.getMaximumPoolSize() != null ? readOnly.getMaximumPoolSize() : hikari.getMaximumPoolSize());
+        config.setReadOnly(true);
+
+        return new HikariDataSource(config);
     }
 
     @Bean
@@ -53,7 +112,93 @@ public class TransactionalAndJpaConfig {
         return transactionManager;
     }
 
+    /**
+     * Cache manager backing the Hibernate second-level and query cache with local Caffeine caches.
+     * Entity and query regions are bounded by {@code spring.jpa.second-level-cache.*}. The update timestamps
+     * region is neither bounded nor expired, since losing an entry could let the query cache serve stale results.
+     * <p>
+     * The caches are local to the instance and not invalidated by writes made on other instances, so the cache is
+     * disabled by default and only meant for single-instance deployments.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "spring.jpa.second-level-cache", name = "enabled")
+    public CacheManager hibernateCacheManager() {
+        var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-second-level-cache"), getClass().getClassLoader());
+
+        var secondLevelCache = hibernateProperties.getSecondLevelCache();
+        List.of(ConstantUtil.USER_CACHE_REGION,
+                        ConstantUtil.USER_BY_EMAIL_CACHE_REGION,
+                        RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)
+                .forEach(region -> cacheManager.createCache(region, cacheConfiguration(
+                        OptionalLong.of(secondLevelCache.getMaximumSize()),
+                        OptionalLong.of(secondLevelCache.getExpireAfterWrite()
+                                .toNanos()))));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                cacheConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate settings. Connections are released at the end of each transaction rather than held by the session,
+     * so when a session outlives a transaction, the next transaction borrows a new connection and is routed again
+     * by its own read-only flag instead of inheriting the pool of the first one.
+     */
     private Properties hibernateProperties() {
-        return hibernateProperties.toProperties();
+        Properties properties = hibernateProperties.toProperties();
+        properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION.name());
+
+        if (hibernateProperties.getSecondLevelCache()
+                .isEnabled()) {
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager());
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        }
+        return properties;
+    }
+
+    private static CaffeineConfiguration<Object, Object> cacheConfiguration(OptionalLong maximumSize,
+                                                                           OptionalLong expireAfterWriteNanos) {
+        var configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        return configuration;
+    }
+
+    /**
+     * Builds a pool configuration from the {@code spring.datasource.hikari.*} settings.
+     * Pool metrics (active, idle and pending connections, acquisition time) are published
+     * to Micrometer when a registry is available.
+     */
+    private HikariConfig buildPoolConfig(String poolName, String url, String username, String password,
+                                         int maximumPoolSize) {
+        var hikari = dataSourceProperties.getHikari();
+
+        var config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(Math.min(hikari.getMinimumIdle(), maximumPoolSize));
+        config.setIdleTimeout(hikari.getIdleTimeout());
+        config.setConnectionTimeout(hikari.getConnectionTimeout());
+        config.setMaxLifetime(hikari.getMaxLifetime());
+        config.setLeakDetectionThreshold(hikari.getLeakDetectionThreshold());
+        hikari.getDataSourceProperties()
+                .forEach(config::addDataSourceProperty);
+
+        if (dataSourceProperties.getDriverClassName() != null) {
+            config.setDriverClassName(dataSourceProperties.getDriverClassName());
+        }
+
+        meterRegistry.ifAvailable(registry ->
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
+        return config;
     }
 }
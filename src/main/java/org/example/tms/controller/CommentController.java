@@ -3,10 +3,14 @@ package org.example.tms.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.tms.dto.requests.CursorPageRequestDto;
 import org.example.tms.dto.requests.create.CreateCommentRequestDto;
 import org.example.tms.dto.responses.CommentResponseDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
 import org.example.tms.service.CommentService;
 import org.example.tms.service.UriService;
+import org.example.tms.util.ETagUtil;
+import org.example.tms.util.KeysetCursor;
 import org.example.tms.validator.constraint.annotation.CommentExists;
 import org.example.tms.validator.constraint.annotation.TaskExists;
 import org.springframework.data.domain.Page;
@@ -16,8 +20,10 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -29,25 +35,41 @@ public class CommentController {
     private final CommentService commentService;
 
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public CommentResponseDto getCommentById(@PathVariable @CommentExists UUID id) {
+    public ResponseEntity<CommentResponseDto> getCommentById(@PathVariable @CommentExists UUID id,
+                                                             WebRequest webRequest) {
         log.info("Incoming request to fetch comment with ID: {}", id);
 
-        CommentResponseDto response = commentService.getCommentById(id);
-        log.info("Comment with ID: {} fetched successfully", id);
+        Optional<CommentResponseDto> response = commentService.getCommentById(id, webRequest::checkNotModified);
+        log.info("Comment with ID: {} fetched successfully, modified: {}", id, response.isPresent());
 
-        return response;
+        return ETagUtil.toConditionalResponse(response);
     }
 
     @GetMapping("/task/{taskId}")
-    @ResponseStatus(HttpStatus.OK)
-    public Page<CommentResponseDto> getCommentsByTaskId(
+    public ResponseEntity<Page<CommentResponseDto>> getCommentsByTaskId(
             @PathVariable @TaskExists UUID taskId,
-            @PageableDefault(sort = "task", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
         log.info("Incoming request to fetch comments for task with ID: {}. Pageable: {}", taskId, pageable);
 
-        Page<CommentResponseDto> response = commentService.getCommentsByTaskId(taskId, pageable);
-        log.info("Fetched {} comments for task with ID: {}", response.getTotalElements(), taskId);
+        Optional<Page<CommentResponseDto>> response = commentService.getCommentsByTaskId(taskId, pageable,
+                webRequest::checkNotModified);
+        log.info("Fetched comments for task with ID: {}, modified: {}", taskId, response.isPresent());
+
+        return ETagUtil.toConditionalResponse(response);
+    }
+
+    @GetMapping("/task/{taskId}/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponseDto<CommentResponseDto> scrollCommentsByTaskId(
+            @PathVariable @TaskExists UUID taskId,
+            @Valid CursorPageRequestDto pageRequest) {
+        log.info("Incoming request to scroll comments for task with ID: {}. Page request: {}", taskId, pageRequest);
+
+        CursorPageResponseDto<CommentResponseDto> response = commentService.scrollCommentsByTaskId(taskId,
+                KeysetCursor.decode(pageRequest.getCursor()), pageRequest.getSize(), pageRequest.isIncludeTotal());
+        log.info("Fetched {} comments for task with ID: {}, has next: {}", response.content()
+                .size(), taskId, response.hasNext());
 
         return response;
     }
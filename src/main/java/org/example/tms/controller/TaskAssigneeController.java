@@ -3,17 +3,17 @@ package org.example.tms.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskAssigneeRequestDto;
 import org.example.tms.dto.responses.TaskAssigneeResponseDto;
 import org.example.tms.service.TaskAssigneeService;
 import org.example.tms.service.UriService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -40,4 +40,17 @@ public class TaskAssigneeController {
         return ResponseEntity.created(URI.create(resourceUri))
                 .body(response);
     }
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<TaskAssigneeResponseDto> assignTasksToUsers(
+            @Valid @RequestBody CreateTaskAssigneeBatchRequestDto request) {
+        log.info("Incoming request to create {} task assignments", request.getAssignments()
+                .size());
+
+        List<TaskAssigneeResponseDto> response = taskAssigneeService.assignTasksToUsers(request.getAssignments());
+        log.info("{} task assignments created successfully", response.size());
+
+        return response;
+    }
 }
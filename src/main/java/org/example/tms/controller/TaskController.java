@@ -1,26 +1,55 @@
 package org.example.tms.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.tms.dto.requests.CursorPageRequestDto;
+import org.example.tms.dto.requests.TaskAnalyticsRequestDto;
+import org.example.tms.dto.requests.TaskFilterRequestDto;
+import org.example.tms.dto.requests.create.CreateTaskBatchRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskRequestDto;
 import org.example.tms.dto.requests.update.UpdateTaskRequestDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
+import org.example.tms.dto.responses.TaskAnalyticsResponseDto;
+import org.example.tms.dto.responses.TaskImportResponseDto;
 import org.example.tms.dto.responses.TaskResponseDto;
+import org.example.tms.dto.responses.TaskStatsResponseDto;
+import org.example.tms.export.ExportFormat;
+import org.example.tms.importer.ImportFormat;
+import org.example.tms.importer.TaskImportReader;
 import org.example.tms.model.User;
+import org.example.tms.service.TaskAnalyticsService;
+import org.example.tms.service.TaskImportService;
 import org.example.tms.service.TaskService;
+import org.example.tms.service.TaskStatsService;
 import org.example.tms.service.UriService;
 import org.example.tms.util.CurrentUserUtil;
+import org.example.tms.util.ETagUtil;
+import org.example.tms.util.KeysetCursor;
+import org.example.tms.util.SearchCursor;
 import org.example.tms.validator.constraint.annotation.TaskExists;
 import org.example.tms.validator.constraint.annotation.UserExists;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -30,58 +59,209 @@ import java.util.UUID;
 public class TaskController {
     private final UriService uriService;
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskStatsService taskStatsService;
+    private final TaskAnalyticsService taskAnalyticsService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public TaskResponseDto getTaskById(@PathVariable @TaskExists UUID id) {
+    public ResponseEntity<TaskResponseDto> getTaskById(
+            @PathVariable @TaskExists UUID id,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit,
+            WebRequest webRequest) {
         log.info("Incoming request to retrieve task with ID: {}", id);
 
-        TaskResponseDto response = taskService.getTaskById(id);
-        log.info("Retrieved task with ID: {}", id);
+        Optional<TaskResponseDto> response = taskService.getTaskById(id, commentsLimit,
+                webRequest::checkNotModified);
+        log.info("Retrieved task with ID: {}, modified: {}", id, response.isPresent());
 
-        return response;
+        return ETagUtil.toConditionalResponse(response);
     }
 
     @GetMapping("/author/{authorId}")
-    @ResponseStatus(HttpStatus.OK)
-    public Page<TaskResponseDto> getTasksByAuthor(
+    public ResponseEntity<Page<TaskResponseDto>> getTasksByAuthor(
             @PathVariable @UserExists UUID authorId,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit,
+            WebRequest webRequest) {
         log.info("Incoming request to retrieve tasks for author with ID: {}. Pageable: {}", authorId, pageable);
 
-        Page<TaskResponseDto> response = taskService.getTasksByAuthor(authorId, pageable);
-        log.info("Retrieved tasks for Author with ID: {}", authorId);
+        Optional<Page<TaskResponseDto>> response = taskService.getTasksByAuthor(authorId, pageable, commentsLimit,
+                webRequest::checkNotModified);
+        log.info("Retrieved tasks for Author with ID: {}, modified: {}", authorId, response.isPresent());
 
-        return response;
+        return ETagUtil.toConditionalResponse(response);
     }
 
     @GetMapping("/assignee/{assigneeId}")
-    @ResponseStatus(HttpStatus.OK)
-    public Page<TaskResponseDto> getTasksByAssignee(
+    public ResponseEntity<Page<TaskResponseDto>> getTasksByAssignee(
             @PathVariable @UserExists UUID assigneeId,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit,
+            WebRequest webRequest) {
         log.info("Incoming request to retrieve tasks for assignee with ID: {}. Pageable: {}", assigneeId, pageable);
 
-        Page<TaskResponseDto> response = taskService.getTasksByAssignee(assigneeId, pageable);
-        log.info("Retrieved tasks for assignee with ID: {}", assigneeId);
+        Optional<Page<TaskResponseDto>> response = taskService.getTasksByAssignee(assigneeId, pageable,
+                commentsLimit, webRequest::checkNotModified);
+        log.info("Retrieved tasks for assignee with ID: {}, modified: {}", assigneeId, response.isPresent());
 
-        return response;
+        return ETagUtil.toConditionalResponse(response);
     }
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public Page<TaskResponseDto> getAllTasks(
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<Page<TaskResponseDto>> getAllTasks(
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit,
+            WebRequest webRequest) {
         log.info("Incoming request to retrieve all tasks. Pageable: {}", pageable);
 
-        Page<TaskResponseDto> response = taskService.getAllTasks(pageable);
-        log.info("Retrieved all tasks with page number: {}, page size: {}, sort: {}",
+        Optional<Page<TaskResponseDto>> response = taskService.getAllTasks(pageable, commentsLimit,
+                webRequest::checkNotModified);
+        log.info("Retrieved all tasks with page number: {}, page size: {}, sort: {}, modified: {}",
                 pageable.getPageNumber(), pageable.getPageSize(),
-                pageable.getSort());
+                pageable.getSort(), response.isPresent());
+
+        return ETagUtil.toConditionalResponse(response);
+    }
+
+    @GetMapping("/author/{authorId}/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponseDto<TaskResponseDto> scrollTasksByAuthor(
+            @PathVariable @UserExists UUID authorId,
+            @Valid CursorPageRequestDto pageRequest,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit) {
+        log.info("Incoming request to scroll tasks for author with ID: {}. Page request: {}", authorId, pageRequest);
+
+        CursorPageResponseDto<TaskResponseDto> response = taskService.scrollTasksByAuthor(authorId,
+                KeysetCursor.decode(pageRequest.getCursor()), pageRequest.getSize(), pageRequest.isIncludeTotal(),
+                commentsLimit);
+        log.info("Retrieved {} tasks for author with ID: {}, has next: {}", response.content()
+                .size(), authorId, response.hasNext());
+
+        return response;
+    }
+
+    @GetMapping("/assignee/{assigneeId}/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponseDto<TaskResponseDto> scrollTasksByAssignee(
+            @PathVariable @UserExists UUID assigneeId,
+            @Valid CursorPageRequestDto pageRequest,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit) {
+        log.info("Incoming request to scroll tasks for assignee with ID: {}. Page request: {}", assigneeId,
+                pageRequest);
+
+        CursorPageResponseDto<TaskResponseDto> response = taskService.scrollTasksByAssignee(assigneeId,
+                KeysetCursor.decode(pageRequest.getCursor()), pageRequest.getSize(), pageRequest.isIncludeTotal(),
+                commentsLimit);
+        log.info("Retrieved {} tasks for assignee with ID: {}, has next: {}", response.content()
+                .size(), assigneeId, response.hasNext());
+
+        return response;
+    }
+
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponseDto<TaskResponseDto> scrollAllTasks(
+            @Valid CursorPageRequestDto pageRequest,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit) {
+        log.info("Incoming request to scroll all tasks. Page request: {}", pageRequest);
+
+        CursorPageResponseDto<TaskResponseDto> response = taskService.scrollAllTasks(
+                KeysetCursor.decode(pageRequest.getCursor()), pageRequest.getSize(), pageRequest.isIncludeTotal(),
+                commentsLimit);
+        log.info("Retrieved {} tasks, has next: {}", response.content()
+                .size(), response.hasNext());
 
         return response;
     }
 
+    @GetMapping("/filter")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponseDto<TaskResponseDto> filterTasks(
+            @Valid TaskFilterRequestDto filter,
+            @Valid CursorPageRequestDto pageRequest,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit) {
+        log.info("Incoming request to filter tasks by {}. Page request: {}", filter, pageRequest);
+
+        CursorPageResponseDto<TaskResponseDto> response = taskService.filterTasks(filter,
+                KeysetCursor.decode(pageRequest.getCursor()), pageRequest.getSize(), pageRequest.isIncludeTotal(),
+                commentsLimit);
+        log.info("Retrieved {} filtered tasks, has next: {}", response.content()
+                .size(), response.hasNext());
+
+        return response;
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponseDto<TaskResponseDto> searchTasks(
+            @RequestParam @NotBlank @Size(max = 255) String q,
+            @Valid CursorPageRequestDto pageRequest,
+            @RequestParam(required = false) @PositiveOrZero Integer commentsLimit) {
+        log.info("Incoming request to search tasks for '{}'. Page request: {}", q, pageRequest);
+
+        CursorPageResponseDto<TaskResponseDto> response = taskService.searchTasks(q,
+                SearchCursor.decode(pageRequest.getCursor()), pageRequest.getSize(), pageRequest.isIncludeTotal(),
+                commentsLimit);
+        log.info("Found {} tasks for '{}', has next: {}", response.content()
+                .size(), q, response.hasNext());
+
+        return response;
+    }
+
+    @GetMapping("/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskStatsResponseDto getTaskStats() {
+        log.info("Incoming request to retrieve task statistics");
+
+        TaskStatsResponseDto response = taskStatsService.getTaskStats();
+        log.info("Retrieved task statistics, total: {}", response.total());
+
+        return response;
+    }
+
+    @GetMapping("/stats/assignee/{assigneeId}")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskStatsResponseDto getTaskStatsByAssignee(@PathVariable @UserExists UUID assigneeId) {
+        log.info("Incoming request to retrieve task statistics for assignee with ID: {}", assigneeId);
+
+        TaskStatsResponseDto response = taskStatsService.getTaskStatsByAssignee(assigneeId);
+        log.info("Retrieved task statistics for assignee with ID: {}, total: {}", assigneeId, response.total());
+
+        return response;
+    }
+
+    @GetMapping("/analytics")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskAnalyticsResponseDto getTaskAnalytics(@Valid TaskAnalyticsRequestDto request) {
+        log.info("Incoming request to retrieve task analytics for {}", request);
+
+        TaskAnalyticsResponseDto response = taskAnalyticsService.getTaskAnalytics(request);
+        log.info("Retrieved task analytics for {} days", response.days()
+                .size());
+
+        return response;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Incoming request to export all tasks as {}", format);
+
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        StreamingResponseBody body = outputStream -> {
+            taskService.exportTasks(exportFormat, outputStream);
+            log.info("Exported all tasks as {}", exportFormat);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.getFileName())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PostMapping
     public ResponseEntity<TaskResponseDto> createTask(@Valid @RequestBody CreateTaskRequestDto request) {
         log.info("Incoming request to create task with details: {}", request);
@@ -96,6 +276,33 @@ public class TaskController {
                 .body(response);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<TaskResponseDto> createTasks(@Valid @RequestBody CreateTaskBatchRequestDto request) {
+        log.info("Incoming request to create {} tasks", request.getTasks()
+                .size());
+
+        List<TaskResponseDto> response = taskService.createTasks(request.getTasks());
+        log.info("{} tasks created successfully", response.size());
+
+        return response;
+    }
+
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskImportResponseDto importTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                             InputStream body) throws IOException {
+        log.info("Incoming request to import tasks as {}", format);
+
+        try (TaskImportReader reader = ImportFormat.fromValue(format)
+                .openReader(body, objectMapper)) {
+            TaskImportResponseDto response = taskImportService.importTasks(reader);
+            log.info("Imported {} tasks, rejected {} rows", response.importedCount(), response.rejectedCount());
+
+            return response;
+        }
+    }
+
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public TaskResponseDto updateTask(
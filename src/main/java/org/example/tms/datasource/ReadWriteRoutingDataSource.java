@@ -0,0 +1,32 @@
+package org.example.tms.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing data source that sends read-only transactions to the read-only pool
+ * and everything else to the read-write pool.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the lookup happens after the transaction manager has exposed the read-only flag.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum DataSourceType {
+        READ_WRITE,
+        READ_ONLY
+    }
+
+    /**
+     * Resolves the pool for the current connection request.
+     *
+     * @return {@link DataSourceType#READ_ONLY} inside a read-only transaction,
+     * {@link DataSourceType#READ_WRITE} otherwise
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceType.READ_ONLY
+                : DataSourceType.READ_WRITE;
+    }
+}
@@ -7,13 +7,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.example.tms.validator.constraint.annotation.ValidAuthRequest;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@ValidAuthRequest
 public class AuthenticationRequestDto {
 
     @Email
@@ -0,0 +1,24 @@
+package org.example.tms.dto.requests;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageRequestDto {
+
+    private String cursor;
+
+    @Min(1)
+    @Max(100)
+    @Builder.Default
+    private int size = 20;
+
+    private boolean includeTotal;
+}
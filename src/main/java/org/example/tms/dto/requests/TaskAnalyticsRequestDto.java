@@ -0,0 +1,37 @@
+package org.example.tms.dto.requests;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.validator.constraint.annotation.ValidAnalyticsRange;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Range and optional dimensions of a task analytics query. The range includes both days.
+ * Without a User or priority, the counts of all Users or priorities are summed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidAnalyticsRange
+public class TaskAnalyticsRequestDto {
+
+    @NotNull
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @NotNull
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private UUID userId;
+
+    private TaskPriority priority;
+}
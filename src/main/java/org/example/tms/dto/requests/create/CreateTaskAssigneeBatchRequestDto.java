@@ -0,0 +1,50 @@
+package org.example.tms.dto.requests.create;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.tms.util.ConstantUtil;
+import org.example.tms.validator.constraint.annotation.UniqueTaskAssignments;
+import org.example.tms.validator.constraint.annotation.ValidTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@UniqueTaskAssignments
+public class CreateTaskAssigneeBatchRequestDto {
+
+    @NotEmpty
+    @Size(max = ConstantUtil.MAX_BATCH_SIZE)
+    private List<@NotNull @Valid Assignment> assignments;
+
+    /**
+     * A single assignment of the batch. Unlike {@link CreateTaskAssigneeRequestDto} it is not checked against
+     * existing assignments one by one, {@link UniqueTaskAssignments} checks the whole batch with a single query.
+     * Likewise the tasks and Users of the batch are resolved by the service with one query each.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Assignment {
+
+        @NotNull
+        private UUID taskId;
+
+        @NotNull
+        private UUID assigneeId;
+
+        @ValidTimestamp(message = "AssignedAt timestamp cannot be in the future")
+        private LocalDateTime assignedAt;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.tms.validator.constraint.annotation.TaskExists;
+import org.example.tms.validator.constraint.annotation.UniqueTaskAssignment;
 import org.example.tms.validator.constraint.annotation.UserExists;
 import org.example.tms.validator.constraint.annotation.ValidTimestamp;
 
@@ -16,6 +17,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@UniqueTaskAssignment
 public class CreateTaskAssigneeRequestDto {
 
     @NotNull
@@ -0,0 +1,24 @@
+package org.example.tms.dto.requests.create;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.tms.util.ConstantUtil;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTaskBatchRequestDto {
+
+    @NotEmpty
+    @Size(max = ConstantUtil.MAX_BATCH_SIZE)
+    private List<@NotNull @Valid ImportTaskRequestDto> tasks;
+}
@@ -0,0 +1,45 @@
+package org.example.tms.dto.requests.create;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.validator.constraint.annotation.ValidTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A single task of a bulk import or of a batch of new tasks. Carries the constraints of {@link CreateTaskRequestDto}
+ * except the existence of the author, which is checked for a whole batch of rows with one query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportTaskRequestDto {
+
+    @Size(max = 255)
+    @NotBlank
+    private String title;
+
+    @Size(max = 500)
+    private String description;
+
+    @NotNull
+    private TaskStatus status;
+
+    @NotNull
+    private TaskPriority priority;
+
+    @NotNull
+    private UUID authorId;
+
+    @ValidTimestamp(message = "CreatedAt timestamp cannot be in the future")
+    private LocalDateTime createdAt;
+}
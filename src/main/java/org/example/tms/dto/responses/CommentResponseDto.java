@@ -2,8 +2,10 @@ package org.example.tms.dto.responses;
 
 import lombok.Builder;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Builder
-public record CommentResponseDto(UUID id, String content, TaskResponseDto task, UserResponseDto author) {
+public record CommentResponseDto(UUID id, String content, TaskResponseDto task, UserResponseDto author,
+                                 LocalDateTime createdAt) {
 }
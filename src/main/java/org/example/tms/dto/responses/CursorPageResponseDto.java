@@ -0,0 +1,13 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPageResponseDto<T>(List<T> content,
+                                       int size,
+                                       boolean hasNext,
+                                       String nextCursor,
+                                       Long totalElements) {
+}
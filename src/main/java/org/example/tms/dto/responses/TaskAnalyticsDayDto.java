@@ -0,0 +1,12 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record TaskAnalyticsDayDto(LocalDate day,
+                                  long createdCount,
+                                  long completedCount,
+                                  Long averageCycleTimeSeconds) {
+}
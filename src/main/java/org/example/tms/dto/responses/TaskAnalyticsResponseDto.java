@@ -0,0 +1,16 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+import org.example.tms.model.enums.TaskPriority;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record TaskAnalyticsResponseDto(LocalDate from,
+                                       LocalDate to,
+                                       UUID userId,
+                                       TaskPriority priority,
+                                       List<TaskAnalyticsDayDto> days) {
+}
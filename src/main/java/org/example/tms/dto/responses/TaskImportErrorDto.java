@@ -0,0 +1,7 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+
+@Builder
+public record TaskImportErrorDto(long line, String message) {
+}
@@ -0,0 +1,11 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TaskImportResponseDto(int importedCount,
+                                    int rejectedCount,
+                                    List<TaskImportErrorDto> errors) {
+}
@@ -18,5 +18,6 @@ public record TaskResponseDto(UUID id,
                               List<TaskAssigneeResponseDto> taskAssignees,
                               LocalDateTime createdAt,
                               LocalDateTime updatedAt,
+                              int commentCount,
                               List<CommentResponseDto> comments) {
 }
@@ -0,0 +1,11 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+
+@Builder
+public record TaskStatsEntryDto(TaskStatus status,
+                                TaskPriority priority,
+                                long count) {
+}
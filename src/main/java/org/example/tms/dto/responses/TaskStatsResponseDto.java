@@ -0,0 +1,12 @@
+package org.example.tms.dto.responses;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record TaskStatsResponseDto(UUID assigneeId,
+                                   long total,
+                                   List<TaskStatsEntryDto> counts) {
+}
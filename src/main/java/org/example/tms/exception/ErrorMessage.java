@@ -11,10 +11,11 @@ public enum ErrorMessage {
     ENTITY_SAVE_ERROR("Unable to save your object at the moment. Please try again later.",
             HttpStatus.INTERNAL_SERVER_ERROR),
     PERMISSION_DENIED_ERROR("You do not have permission to perform this action.", HttpStatus.FORBIDDEN),
-    AUTHENTICATION_MANAGER_CONFIGURATION_ERROR("An unexpected error occurred. Please contact support: support@tms.com",
-            HttpStatus.INTERNAL_SERVER_ERROR),
     BLACKLISTED_TOKEN_ACCESS_DENIED_ERROR("Your session is no longer valid. Please login again.", HttpStatus.FORBIDDEN),
     INVALID_REFRESH_TOKEN_ERROR("Session expired or invalid. Please login again.", HttpStatus.UNAUTHORIZED),
+    INVALID_CREDENTIALS_ERROR("Invalid username or password.", HttpStatus.UNAUTHORIZED),
+    PASSWORD_HASHING_REJECTED_ERROR("The service is busy right now. Please try again in a moment.",
+            HttpStatus.SERVICE_UNAVAILABLE),
     JWT_AUTHENTICATION_ERROR("Authentication failed. Please try again or contact support: support@tms.com",
             HttpStatus.UNAUTHORIZED),
     NULL_USER_OBJECT_ERROR("The user object is null. Please ensure all required data is provided.",
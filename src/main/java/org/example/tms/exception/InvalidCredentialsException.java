@@ -0,0 +1,7 @@
+package org.example.tms.exception;
+
+public class InvalidCredentialsException extends TaskManagementSystemException {
+    public InvalidCredentialsException(String email) {
+        super("Invalid username or password for: " + email);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.tms.exception;
+
+public class PasswordHashingRejectedException extends TaskManagementSystemException {
+    public PasswordHashingRejectedException(String reason) {
+        super("Password hashing rejected: " + reason);
+    }
+
+    public PasswordHashingRejectedException(String reason, Throwable ex) {
+        super("Password hashing rejected: " + reason, ex);
+    }
+}
@@ -51,14 +51,6 @@ public class TaskManagementSystemExceptionHandler {
         return buildExceptionResponse(ErrorMessage.PERMISSION_DENIED_ERROR, getRequestPath(request));
     }
 
-    @ExceptionHandler(AuthenticationManagerConfigurationException.class)
-    public ResponseEntity<ApiExceptionDto> handleAuthenticationManagerConfigurationException(
-            AuthenticationManagerConfigurationException ex, WebRequest request) {
-        log.error("Error at [{}]: {}", getRequestPath(request), ex.getMessage(), ex);
-
-        return buildExceptionResponse(ErrorMessage.AUTHENTICATION_MANAGER_CONFIGURATION_ERROR, getRequestPath(request));
-    }
-
     @ExceptionHandler(BlacklistedTokenAccessDeniedException.class)
     public ResponseEntity<ApiExceptionDto> handleBlacklistedTokenAccessDeniedException(
             BlacklistedTokenAccessDeniedException ex, WebRequest request) {
@@ -75,6 +67,22 @@ public class TaskManagementSystemExceptionHandler {
         return buildExceptionResponse(ErrorMessage.INVALID_REFRESH_TOKEN_ERROR, getRequestPath(request));
     }
 
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ApiExceptionDto> handleInvalidCredentialsException(
+            InvalidCredentialsException ex, WebRequest request) {
+        log.info("Failed login attempt at [{}]: {}", getRequestPath(request), ex.getMessage());
+
+        return buildExceptionResponse(ErrorMessage.INVALID_CREDENTIALS_ERROR, getRequestPath(request));
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiExceptionDto> handlePasswordHashingRejectedException(
+            PasswordHashingRejectedException ex, WebRequest request) {
+        log.warn("Password hashing overloaded at [{}]: {}", getRequestPath(request), ex.getMessage());
+
+        return buildExceptionResponse(ErrorMessage.PASSWORD_HASHING_REJECTED_ERROR, getRequestPath(request));
+    }
+
     @ExceptionHandler(JwtAuthenticationException.class)
     public ResponseEntity<ApiExceptionDto> handleJwtAuthenticationException(
             JwtAuthenticationException ex, WebRequest request) {
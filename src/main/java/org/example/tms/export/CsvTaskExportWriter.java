@@ -0,0 +1,95 @@
+package org.example.tms.export;
+
+import org.example.tms.dto.responses.TaskAssigneeResponseDto;
+import org.example.tms.dto.responses.TaskResponseDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes tasks as RFC 4180 CSV with a header row. Assignees are written as a semicolon-separated list of IDs.
+ * <p>
+ * Values a spreadsheet would evaluate as a formula, starting with {@code =}, {@code +}, {@code -}, {@code @}, a tab
+ * or a carriage return, are prefixed with an apostrophe, as are values already starting with one, so the import
+ * can strip it again without losing data.
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+    private static final List<String> HEADER = List.of("id", "title", "description", "status", "priority",
+            "author_id", "author_email", "assignee_ids", "comment_count", "created_at", "updated_at");
+
+    private final Writer writer;
+
+    CsvTaskExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeRow(HEADER);
+    }
+
+    @Override
+    public void write(TaskResponseDto task) throws IOException {
+        var author = task.author();
+
+        writeRow(List.of(
+                valueOf(task.id()),
+                valueOf(task.title()),
+                valueOf(task.description()),
+                valueOf(task.status()),
+                valueOf(task.priority()),
+                author != null ? valueOf(author.id()) : "",
+                author != null ? valueOf(author.email()) : "",
+                assigneeIds(task.taskAssignees()),
+                Integer.toString(task.commentCount()),
+                valueOf(task.createdAt()),
+                valueOf(task.updatedAt())));
+    }
+
+    /**
+     * Flushes the buffered rows without closing the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRow(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String assigneeIds(List<TaskAssigneeResponseDto> taskAssignees) {
+        if (taskAssignees == null) {
+            return "";
+        }
+        return taskAssignees.stream()
+                .map(taskAssignee -> valueOf(taskAssignee.assignee() != null ? taskAssignee.assignee()
+                        .id() : null))
+                .collect(Collectors.joining(";"));
+    }
+
+    private static String valueOf(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String escape(String value) {
+        if (!value.isEmpty() && (FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 || value.charAt(0) == FORMULA_ESCAPE)) {
+            value = FORMULA_ESCAPE + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.tms.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Formats of the task export.
+ * NDJSON writes one task per line with its assignees and comments, CSV writes one flat row per task
+ * with the IDs of its assignees and without comments.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson"), true),
+    CSV("csv", MediaType.parseMediaType("text/csv"), false);
+
+    private final String extension;
+    private final MediaType mediaType;
+    private final boolean includesComments;
+
+    /**
+     * Resolves a format from its file extension, ignoring case.
+     *
+     * @param value the file extension of the format, such as {@code ndjson} or {@code csv}
+     * @return the matching format
+     * @throws IllegalArgumentException if no format matches
+     */
+    public static ExportFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equals(value.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format: " + value));
+    }
+
+    /**
+     * Opens a writer of this format on the given stream. Closing the writer does not close the stream.
+     *
+     * @param outputStream the stream to write the export to
+     * @param objectMapper the mapper used to write JSON values
+     * @return the opened writer
+     * @throws IOException if the writer cannot be opened
+     */
+    public TaskExportWriter openWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTaskExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvTaskExportWriter(outputStream);
+        };
+    }
+
+    public String getFileName() {
+        return "tasks." + extension;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.tms.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.tms.dto.responses.TaskResponseDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes each task as a single line of JSON. The output is flushed by the generator buffer filling up,
+ * not after every task.
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    NdjsonTaskExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.objectWriter = objectMapper.writerFor(TaskResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(TaskResponseDto task) throws IOException {
+        objectWriter.writeValue(generator, task);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
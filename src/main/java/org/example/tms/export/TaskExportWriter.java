@@ -0,0 +1,14 @@
+package org.example.tms.export;
+
+import org.example.tms.dto.responses.TaskResponseDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes exported tasks one by one to an output stream, buffering at most a few kilobytes.
+ */
+public interface TaskExportWriter extends Closeable {
+
+    void write(TaskResponseDto task) throws IOException;
+}
@@ -1,5 +1,6 @@
 package org.example.tms.filter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -8,12 +9,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.tms.exception.BlacklistedTokenAccessDeniedException;
 import org.example.tms.exception.JwtAuthenticationException;
 import org.example.tms.service.JwtBlacklistService;
+import org.example.tms.service.JwtPrincipalService;
 import org.example.tms.service.JwtService;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -33,13 +34,14 @@ import static org.example.tms.exception.JwtAuthenticationException.ErrorType;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalService jwtPrincipalService;
     private final JwtBlacklistService jwtBlacklistService;
 
     /**
      * This method intercepts the HTTP request to validate the JWT token in the Authorization header.
      * If the token is valid and not blacklisted, it extracts the username and sets the authentication
-     * in the Spring Security context.
+     * in the Spring Security context. The token is parsed and its signature verified only once
+     * and the principal is resolved from its claims by {@link JwtPrincipalService}.
      * <p>
      * If the token is invalid or blacklisted, the request proceeds without setting the authentication.
      * In case of any exceptions, an error response is sent and the error is logged.
@@ -55,8 +57,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String accessToken = extractToken(request);
+            Claims claims = accessToken != null ? jwtService.parseAccessToken(accessToken)
+                    .orElse(null) : null;
 
-            if (accessToken == null || !jwtService.isAccessTokenValid(accessToken)) {
+            if (claims == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -66,10 +70,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String username = jwtService.extractUsername(accessToken, jwtService.getAccessSecretKey());
+            String username = claims.getSubject();
             if (username != null && SecurityContextHolder.getContext()
                     .getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = jwtPrincipalService.resolvePrincipal(claims);
                 setAuthentication(userDetails, request);
             }
 
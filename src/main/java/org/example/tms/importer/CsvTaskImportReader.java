@@ -0,0 +1,174 @@
+package org.example.tms.importer;
+
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Reads RFC 4180 CSV with a header row. Columns are matched by name, so the columns of the CSV export
+ * are accepted as they are and columns unknown to the import are ignored. Empty values are read as {@code null}.
+ * <p>
+ * The apostrophe the export puts before values a spreadsheet would evaluate as a formula, or before values already
+ * starting with an apostrophe, is stripped. Other values starting with an apostrophe are read as they are.
+ */
+class CsvTaskImportReader implements TaskImportReader {
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "status", "priority", "author_id");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+
+    CsvTaskImportReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        List<String> header = readRecord();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i)
+                        .trim()
+                        .toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header lacks the required column: " + column);
+            }
+        }
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        List<String> record;
+        long recordLine;
+        do {
+            recordLine = line;
+            record = readRecord();
+        } while (record != null && record.size() == 1 && record.get(0)
+                .isEmpty());
+
+        if (record == null) {
+            return null;
+        }
+
+        try {
+            return TaskImportRow.parsed(recordLine, ImportTaskRequestDto.builder()
+                    .title(value(record, "title"))
+                    .description(value(record, "description"))
+                    .status(parse(record, "status", TaskStatus::valueOf))
+                    .priority(parse(record, "priority", TaskPriority::valueOf))
+                    .authorId(parse(record, "author_id", UUID::fromString))
+                    .createdAt(parse(record, "created_at", LocalDateTime::parse))
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return TaskImportRow.failed(recordLine, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index)
+                .isEmpty()) {
+            return null;
+        }
+        return unescape(record.get(index));
+    }
+
+    private static String unescape(String value) {
+        if (value.length() > 1 && value.charAt(0) == FORMULA_ESCAPE
+                && (FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0 || value.charAt(1) == FORMULA_ESCAPE)) {
+            return value.substring(1);
+        }
+        return value;
+    }
+
+    private <T> T parse(List<String> record, String column, Function<String, T> parser) {
+        String value = value(record, column);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return parser.apply(value.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(column + ": invalid value '" + value + "'", e);
+        }
+    }
+
+    /**
+     * Reads the fields of the next record, which spans several lines when a quoted field contains line breaks.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        int next = reader.read();
+        if (next < 0) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+
+        while (next >= 0) {
+            char c = (char) next;
+
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append(c);
+                }
+
+            } else if (c == '"') {
+                quoted = true;
+
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+
+            } else if (c == '\n') {
+                line++;
+                break;
+
+            } else if (c != '\r') {
+                field.append(c);
+            }
+
+            next = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
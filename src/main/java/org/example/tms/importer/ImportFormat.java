@@ -0,0 +1,53 @@
+package org.example.tms.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Formats of the task import. NDJSON expects one task object per line, CSV expects a header row
+ * naming at least the {@code title}, {@code status}, {@code priority} and {@code author_id} columns.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    /**
+     * Resolves a format from its file extension, ignoring case.
+     *
+     * @param value the file extension of the format, such as {@code ndjson} or {@code csv}
+     * @return the matching format
+     * @throws IllegalArgumentException if no format matches
+     */
+    public static ImportFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equals(value.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import format: " + value));
+    }
+
+    /**
+     * Opens a reader of this format on the given stream. Closing the reader closes the stream.
+     *
+     * @param inputStream  the stream to read the import from
+     * @param objectMapper the mapper used to read JSON values
+     * @return the opened reader
+     * @throws IOException              if the reader cannot be opened
+     * @throws IllegalArgumentException if the CSV header lacks a required column
+     */
+    public TaskImportReader openReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTaskImportReader(inputStream, objectMapper);
+            case CSV -> new CsvTaskImportReader(inputStream);
+        };
+    }
+}
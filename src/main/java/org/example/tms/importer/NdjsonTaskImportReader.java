@@ -0,0 +1,52 @@
+package org.example.tms.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads one task object per line. Blank lines are skipped and unknown properties are ignored.
+ */
+class NdjsonTaskImportReader implements TaskImportReader {
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long line;
+
+    NdjsonTaskImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectReader = objectMapper.readerFor(ImportTaskRequestDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        String value;
+        do {
+            value = reader.readLine();
+            line++;
+        } while (value != null && value.isBlank());
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return TaskImportRow.parsed(line, objectReader.readValue(value));
+        } catch (JsonProcessingException e) {
+            return TaskImportRow.failed(line, e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.tms.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the rows of an import one by one from an input stream, holding at most one row in memory.
+ */
+public interface TaskImportReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or {@code null} once the input is exhausted
+     * @throws IOException if reading the input fails
+     */
+    TaskImportRow next() throws IOException;
+}
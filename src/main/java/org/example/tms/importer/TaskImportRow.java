@@ -0,0 +1,21 @@
+package org.example.tms.importer;
+
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+
+/**
+ * A row read from an import, either parsed into a request or rejected with the reason it could not be parsed.
+ *
+ * @param line    the line of the upload the row starts on
+ * @param request the parsed request, {@code null} if the row could not be parsed
+ * @param error   the reason the row could not be parsed, {@code null} if it was parsed
+ */
+public record TaskImportRow(long line, ImportTaskRequestDto request, String error) {
+
+    public static TaskImportRow parsed(long line, ImportTaskRequestDto request) {
+        return new TaskImportRow(line, request, null);
+    }
+
+    public static TaskImportRow failed(long line, String error) {
+        return new TaskImportRow(line, null, error);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.tms.mapper;
 
 import org.example.tms.dto.requests.create.CreateTaskRequestDto;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
 import org.example.tms.dto.responses.TaskResponseDto;
 import org.example.tms.model.Task;
 import org.mapstruct.Mapper;
@@ -20,4 +21,8 @@ public interface TaskMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(source = "authorId", target = "author.id")
     Task toTaskForCreate(CreateTaskRequestDto taskRequestDto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(source = "authorId", target = "author.id")
+    Task toTaskForCreate(ImportTaskRequestDto taskRequestDto);
 }
@@ -61,6 +61,17 @@ public class Task extends BaseEntity {
     @OneToMany(mappedBy = "task")
     private List<Comment> comments = new ArrayList<>();
 
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount;
+
+    /**
+     * Incremented with every change to the task, its comments or its assignees, so it identifies the state
+     * of the task representation for entity tags. It is not an optimistic lock: writers increment it atomically
+     * or from the value read under a row lock.
+     */
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @PrePersist
     public void onCreate() {
         createdAt = LocalDateTime.now();
@@ -10,7 +10,8 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task_assignee")
+@Table(name = "task_assignee", uniqueConstraints = @UniqueConstraint(name = "uk_task_assignee_task_id_user_id",
+        columnNames = {"task_id", "user_id"}))
 @Getter
 @Setter
 @SuperBuilder
@@ -0,0 +1,55 @@
+package org.example.tms.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates version 7 UUIDs as specified by RFC 9562.
+ * <p>
+ * The first 48 bits hold the Unix time in milliseconds, so new keys are appended to the right edge of the
+ * primary key index instead of landing on a random page like version 4 UUIDs. The 12 bits after the version
+ * are a counter that keeps UUIDs generated within the same millisecond strictly increasing; when it overflows
+ * the timestamp is advanced by one millisecond. The remaining 62 bits are random.
+ * <p>
+ * Version 7 UUIDs are ordinary UUIDs, so they can be mixed with the version 4 UUIDs of existing rows.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    /**
+     * Generates a version 7 UUID that is greater than every UUID previously generated by this class.
+     *
+     * @return a new version 7 UUID
+     */
+    public static UUID generate() {
+        long candidate = System.currentTimeMillis() << 12;
+        long timestampAndCounter = LAST_TIMESTAMP_AND_COUNTER.accumulateAndGet(candidate,
+                (last, next) -> Math.max(last + 1, next));
+
+        long mostSignificantBits = (timestampAndCounter >>> 12) << 16
+                | 0x7000L
+                | timestampAndCounter & 0xFFFL;
+        long leastSignificantBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.tms.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the audit log written for {@link org.example.tms.aspect.logging.annotation.Audited} methods,
+ * bound from {@code audit.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    /**
+     * Fraction of successful audited calls that are logged, between 0 and 1. Failures are always logged.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double sampleRate = 1.0;
+
+    /**
+     * Maximum number of characters rendered for a single argument or result.
+     */
+    @Positive
+    private int maxValueLength = 256;
+}
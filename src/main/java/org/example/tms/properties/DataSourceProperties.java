@@ -1,9 +1,16 @@
 package org.example.tms.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Data
 @ConfigurationProperties(prefix = "spring.datasource")
 public class DataSourceProperties {
@@ -19,4 +26,63 @@ public class DataSourceProperties {
 
     @NotBlank
     private String driverClassName;
+
+    @Valid
+    @NotNull
+    private Hikari hikari = new Hikari();
+
+    @Valid
+    @NotNull
+    private ReadOnly readOnly = new ReadOnly();
+
+    /**
+     * Pool settings bound from {@code spring.datasource.hikari.*}.
+     * Applied to both the read-write and the read-only pool. {@code data-source-properties} are passed
+     * to the JDBC driver as connection properties.
+     */
+    @Data
+    public static class Hikari {
+
+        @NotBlank
+        private String poolName = "HikariCP";
+
+        @Positive
+        private int maximumPoolSize = 10;
+
+        @PositiveOrZero
+        private int minimumIdle = 2;
+
+        @Positive
+        private long idleTimeout = 30000;
+
+        @Positive
+        private long connectionTimeout = 30000;
+
+        @Positive
+        private long maxLifetime = 1800000;
+
+        @PositiveOrZero
+        private long leakDetectionThreshold = 0;
+
+        @NotNull
+        private Map<String, String> dataSourceProperties = new HashMap<>();
+    }
+
+    /**
+     * Settings of the read-only pool bound from {@code spring.datasource.read-only.*}.
+     * The pool is only created when a URL is given, usually that of a replica. Without a username or password
+     * it logs in with those of the primary database.
+     */
+    @Data
+    public static class ReadOnly {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        @Positive
+        private Integer maximumPoolSize;
+    }
 }
@@ -0,0 +1,23 @@
+package org.example.tms.properties;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link org.example.tms.aspect.logging.annotation.ExecutionTime} timings,
+ * bound from {@code execution-time.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "execution-time")
+public class ExecutionTimeProperties {
+
+    /**
+     * Calls taking longer than this are logged as slow. Every call is recorded in the
+     * {@code method.execution} timer regardless of this threshold.
+     */
+    @NotNull
+    private Duration slowCallThreshold = Duration.ofMillis(500);
+}
@@ -1,11 +1,14 @@
 package org.example.tms.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.Properties;
 
 @Data
@@ -24,12 +27,61 @@ public class HibernateProperties {
     @NotBlank
     private String ddlAuto;
 
+    @Valid
+    @NotNull
+    private Batch batch = new Batch();
+
+    @Valid
+    @NotNull
+    private SecondLevelCache secondLevelCache = new SecondLevelCache();
+
     public Properties toProperties() {
         var properties = new Properties();
         properties.put("hibernate.dialect", hibernateDialect);
         properties.put("hibernate.show_sql", Boolean.toString(showSql));
         properties.put("hibernate.hbm2ddl.auto", ddlAuto);
+        properties.put("hibernate.jdbc.batch_size", Integer.toString(batch.getSize()));
+        properties.put("hibernate.order_inserts", Boolean.toString(batch.isOrderInserts()));
+        properties.put("hibernate.order_updates", Boolean.toString(batch.isOrderUpdates()));
+        properties.put("hibernate.cache.use_second_level_cache", Boolean.toString(secondLevelCache.isEnabled()));
+        properties.put("hibernate.cache.use_query_cache", Boolean.toString(secondLevelCache.isEnabled()));
+        properties.put("hibernate.generate_statistics", Boolean.toString(secondLevelCache.isEnabled()));
         return properties;
     }
+
+    /**
+     * JDBC batching settings bound from {@code spring.jpa.batch.*}.
+     * Ordering groups the statements of a flush by entity type, so they can be sent in as few batches as possible.
+     */
+    @Data
+    public static class Batch {
+
+        @Positive
+        private int size = 50;
+
+        private boolean orderInserts = true;
+
+        private boolean orderUpdates = true;
+    }
+
+    /**
+     * Settings of the local second-level and query cache bound from {@code spring.jpa.second-level-cache.*}.
+     * Every region is bounded by the same size and expiration.
+     */
+    @Data
+    public static class SecondLevelCache {
+
+        /**
+         * Off by default: the regions are local to each instance and writes made on other instances don't
+         * invalidate them, so only enable it when a single instance is deployed.
+         */
+        private boolean enabled;
+
+        @Positive
+        private long maximumSize = 10_000;
+
+        @NotNull
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
 }
 
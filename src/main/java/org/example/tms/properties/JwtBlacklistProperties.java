@@ -0,0 +1,53 @@
+package org.example.tms.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the revoked token blacklist bound from {@code jwt.blacklist.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt.blacklist")
+public class JwtBlacklistProperties {
+
+    /**
+     * Backend the revoked tokens are kept in.
+     */
+    @NotNull
+    private Store store = Store.MEMORY;
+
+    /**
+     * Number of blacklisted tokens kept in memory by {@link Store#MEMORY} above which expired entries are swept without waiting for the
+     * next scheduled sweep and a warning is logged. Active revocations are never evicted to make room.
+     */
+    @Positive
+    private int maximumSize = 100_000;
+
+    /**
+     * Delay between two sweeps removing expired entries.
+     */
+    @NotNull
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * Delay between two polls of the {@code revoked_token} table when {@link Store#DATABASE} is used.
+     * A token revoked on another instance is rejected here at the latest after this delay.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    public enum Store {
+        /**
+         * Revocations are kept in the memory of each instance.
+         */
+        MEMORY,
+        /**
+         * Revocations are persisted in PostgreSQL and shared by all instances through a polled near-cache.
+         */
+        DATABASE
+    }
+}
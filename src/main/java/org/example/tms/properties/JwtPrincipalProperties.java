@@ -0,0 +1,38 @@
+package org.example.tms.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings bound from {@code jwt.principal.*} that control how the authenticated principal
+ * is resolved from a verified access token.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt.principal")
+public class JwtPrincipalProperties {
+
+    @NotNull
+    private Mode mode = Mode.CLAIMS;
+
+    @NotNull
+    private Duration cacheTtl = Duration.ofSeconds(30);
+
+    @Positive
+    private long cacheMaximumSize = 10_000;
+
+    public enum Mode {
+        /**
+         * The principal is built from the user ID and role claims, no database access.
+         */
+        CLAIMS,
+        /**
+         * The principal is loaded from the database and cached for {@code cache-ttl},
+         * so role changes and deleted users take effect within that time.
+         */
+        CACHE
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.tms.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of password hashing bound from {@code password.hashing.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost factor. Stored hashes with a lower cost are re-encoded on the next successful login.
+     */
+    @Min(4)
+    @Max(31)
+    private int strength = 10;
+
+    /**
+     * Number of threads computing hashes. Defaults to the number of available processors.
+     */
+    @Positive
+    private int threads = Runtime.getRuntime()
+            .availableProcessors();
+
+    /**
+     * Number of hash requests allowed to wait for a free thread. Further requests are rejected immediately.
+     * Keep it well below the servlet thread pool size so that other endpoints keep free request threads.
+     */
+    @PositiveOrZero
+    private int queueCapacity = 64;
+
+    /**
+     * Maximum time a request waits in the queue for a free thread. A hash that has started is always awaited,
+     * as it can't be interrupted, so the response time is bounded by this timeout plus the time of one hash.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -5,9 +5,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -17,4 +20,12 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
             "task"})
     Page<Comment> findAllByTask_Id(@Param("taskId") UUID taskId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT c FROM Comment c WHERE c.task.id = :taskId " +
+            "AND (c.createdAt, c.id) < (:createdAt, :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findAllByTaskIdAfter(@Param("taskId") UUID taskId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id, Pageable limit);
+
+    long countByTask_Id(UUID taskId);
 }
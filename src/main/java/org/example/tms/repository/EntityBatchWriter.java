@@ -0,0 +1,51 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.tms.model.BaseEntity;
+import org.example.tms.properties.HibernateProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Persists large numbers of new entities in JDBC batches.
+ * <p>
+ * The persistence context is flushed and cleared every {@code spring.jpa.batch.size} entities, so each chunk
+ * is sent as batched inserts and neither memory use nor dirty checking grows with the number of entities.
+ * Entities are detached once their chunk has been flushed, which is why they are mapped right after the flush.
+ * Must be called within a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityBatchWriter {
+    private final EntityManager entityManager;
+    private final HibernateProperties hibernateProperties;
+
+    /**
+     * Persists the given new entities chunk by chunk and maps each of them once its chunk is flushed.
+     *
+     * @param entities the new entities to persist
+     * @param mapper   the function mapping a persisted entity to the result
+     * @return the mapped entities, in the order of {@code entities}
+     */
+    public <T extends BaseEntity, R> List<R> persistAll(List<T> entities, Function<T, R> mapper) {
+        int batchSize = hibernateProperties.getBatch()
+                .getSize();
+        List<R> results = new ArrayList<>(entities.size());
+
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+            chunk.forEach(entityManager::persist);
+            entityManager.flush();
+
+            chunk.stream()
+                    .map(mapper)
+                    .forEach(results::add);
+            entityManager.clear();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.RequiredArgsConstructor;
+import org.example.tms.model.BaseEntity;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves entities referenced by ID for the constraint validators and keeps them for the rest of the request,
+ * so the service layer does not load them a second time.
+ * <p>
+ * Each lookup runs in its own short read-only transaction, so it is routed to the read-only pool and the connection
+ * is returned as soon as the lookup completes. The entity is loaded together with its to-one associations and kept
+ * detached in the attributes of the current request. As it may come from a replica and is not managed, callers use
+ * it for reading or as the target of an association only; to change an entity they load a managed copy instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityResolver {
+    private static final String RESOLVED_ENTITIES_ATTRIBUTE = EntityResolver.class.getName() + ".RESOLVED_ENTITIES";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Checks whether an entity of the given type exists and keeps it for the current request if it does.
+     *
+     * @param entityType the entity class
+     * @param id         the ID of the entity
+     * @return {@code true} if the entity exists, {@code false} otherwise
+     */
+    @Transactional(readOnly = true)
+    public boolean exists(Class<? extends BaseEntity> entityType, UUID id) {
+        BaseEntity entity = entityManager.find(entityType, id, Map.of(SpecHints.HINT_SPEC_LOAD_GRAPH,
+                toOneAssociationsGraph(entityType)));
+        if (entity == null) {
+            return false;
+        }
+
+        Map<EntityKey, BaseEntity> resolvedEntities = resolvedEntities(true);
+        if (resolvedEntities != null) {
+            resolvedEntities.put(new EntityKey(entityType, id), entity);
+        }
+        return true;
+    }
+
+    /**
+     * Returns an entity resolved earlier in the current request, without a query.
+     *
+     * @param entityType the entity class
+     * @param id         the ID of the entity
+     * @param <T>        the type of the entity
+     * @return the detached entity, or empty if it was not resolved in the current request
+     */
+    public <T extends BaseEntity> Optional<T> findResolved(Class<T> entityType, UUID id) {
+        return Optional.ofNullable(resolvedEntities(false))
+                .map(resolvedEntities -> resolvedEntities.get(new EntityKey(entityType, id)))
+                .map(entityType::cast);
+    }
+
+    private <T extends BaseEntity> EntityGraph<T> toOneAssociationsGraph(Class<T> entityType) {
+        EntityGraph<T> graph = entityManager.createEntityGraph(entityType);
+        entityManager.getMetamodel()
+                .entity(entityType)
+                .getSingularAttributes()
+                .stream()
+                .filter(Attribute::isAssociation)
+                .forEach(attribute -> graph.addAttributeNodes(attribute.getName()));
+
+        return graph;
+    }
+
+    /**
+     * Returns the entities resolved in the current request, or {@code null} outside of a request.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<EntityKey, BaseEntity> resolvedEntities(boolean create) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        var resolvedEntities = (Map<EntityKey, BaseEntity>) requestAttributes.getAttribute(
+                RESOLVED_ENTITIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolvedEntities == null && create) {
+            resolvedEntities = new HashMap<>();
+            requestAttributes.setAttribute(RESOLVED_ENTITIES_ATTRIBUTE, resolvedEntities,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        return resolvedEntities;
+    }
+
+    private record EntityKey(Class<?> entityType, UUID id) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads a stream of entities backed by a database cursor in chunks.
+ * <p>
+ * The persistence context is cleared after each chunk has been processed, so memory use stays constant
+ * however many rows the cursor returns. Entities of a chunk must not be used once the chunk has been processed.
+ * Must be called within a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityStreamReader {
+    private final EntityManager entityManager;
+
+    /**
+     * Passes the entities of the stream to the action in chunks of at most {@code chunkSize} entities.
+     *
+     * @param entities  the stream of entities, consumed but not closed
+     * @param chunkSize the maximum number of entities per chunk
+     * @param action    the action processing a chunk
+     */
+    public <T> void forEachChunk(Stream<T> entities, int chunkSize, Consumer<List<T>> action) {
+        Iterator<T> iterator = entities.iterator();
+        List<T> chunk = new ArrayList<>(chunkSize);
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize) {
+                process(chunk, action);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            process(chunk, action);
+        }
+    }
+
+    private <T> void process(List<T> chunk, Consumer<List<T>> action) {
+        action.accept(chunk);
+        chunk.clear();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.tms.repository;
+
+import org.example.tms.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO revoked_token (token_digest, expires_at, revoked_at) " +
+            "VALUES (:tokenDigest, :expiresAt, :revokedAt) ON CONFLICT (token_digest) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("tokenDigest") String tokenDigest, @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("revokedAt") LocalDateTime revokedAt);
+
+    @Query("SELECT rt FROM RevokedToken rt WHERE rt.revokedAt > :revokedAfter AND rt.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedAfter(@Param("revokedAfter") LocalDateTime revokedAfter,
+                                              @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
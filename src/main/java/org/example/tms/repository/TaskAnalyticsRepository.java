@@ -0,0 +1,193 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.tms.model.enums.TaskPriority;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records task status events and rolls them up into daily buckets.
+ * <p>
+ * Events are appended to {@code task_status_event} in the transaction that changes the task. They are folded into
+ * {@code task_daily_rollup} and {@code task_user_daily_rollup} incrementally, past the ID of the last event rolled
+ * up, which is kept in {@code rollup_watermark}. Reads only touch the rollups, one row per day and priority.
+ * All statements only declare the analytics tables as affected, so no second-level cache region is invalidated.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskAnalyticsRepository {
+    private static final String INSERT_EVENT = "INSERT INTO task_status_event " +
+            "(task_id, user_id, priority, from_status, to_status, occurred_at, task_created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String ROLL_UP_COUNTS = "SELECT %1$s CAST(occurred_at AS DATE), priority, " +
+            "COUNT(*) FILTER (WHERE from_status IS NULL), " +
+            "COUNT(*) FILTER (WHERE to_status = 'COMPLETED'), " +
+            "COALESCE(SUM(GREATEST(CAST(EXTRACT(EPOCH FROM occurred_at - task_created_at) AS BIGINT), 0)) " +
+            "FILTER (WHERE to_status = 'COMPLETED'), 0) " +
+            "FROM task_status_event WHERE id > :afterId AND id <= :upToId " +
+            "GROUP BY %1$s CAST(occurred_at AS DATE), priority " +
+            "ON CONFLICT (%1$s day, priority) DO UPDATE " +
+            "SET created_count = %2$s.created_count + EXCLUDED.created_count, " +
+            "completed_count = %2$s.completed_count + EXCLUDED.completed_count, " +
+            "cycle_time_seconds = %2$s.cycle_time_seconds + EXCLUDED.cycle_time_seconds";
+    private static final String[] ANALYTICS_TABLES = {"task_status_event", "task_daily_rollup",
+            "task_user_daily_rollup", "rollup_watermark"};
+
+    private final EntityManager entityManager;
+
+    /**
+     * Appends events in a single JDBC batch.
+     *
+     * @param events the events to append
+     */
+    public void insertEvents(List<TaskStatusEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        entityManager.unwrap(Session.class)
+                .doWork(connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT)) {
+                        for (TaskStatusEvent event : events) {
+                            statement.setObject(1, event.taskId());
+                            statement.setObject(2, event.userId());
+                            statement.setString(3, event.priority()
+                                    .name());
+                            if (event.fromStatus() != null) {
+                                statement.setString(4, event.fromStatus()
+                                        .name());
+                            } else {
+                                statement.setNull(4, Types.VARCHAR);
+                            }
+                            statement.setString(5, event.toStatus()
+                                    .name());
+                            statement.setTimestamp(6, Timestamp.valueOf(event.occurredAt()));
+                            statement.setTimestamp(7, Timestamp.valueOf(event.taskCreatedAt()));
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                    }
+                });
+    }
+
+    /**
+     * Reads the ID of the newest event below which no event can still be committed, in a short transaction of its
+     * own. The event table is locked against inserts until the transactions that already appended events have
+     * committed, and unlocked again as soon as the highest ID is read, so new events only wait for that read.
+     *
+     * @return the highest committed event ID, or {@code 0} if there are no events
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long findLastCommittedEventId() {
+        createUpdate("LOCK TABLE task_status_event IN SHARE MODE")
+                .executeUpdate();
+        return ((Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM task_status_event")
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Reads the ID of the last event rolled up and locks the watermark against concurrent rollups.
+     *
+     * @param name the name of the rollup
+     * @return the ID of the last event rolled up
+     */
+    public long lockWatermark(String name) {
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT last_event_id FROM rollup_watermark WHERE name = :name FOR UPDATE")
+                .setParameter("name", name)
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Adds the events with IDs in {@code (afterId, upToId]} to the daily rollups, overall and per User.
+     *
+     * @param afterId the ID of the last event already rolled up
+     * @param upToId  the ID of the last event to roll up
+     */
+    public void rollUp(long afterId, long upToId) {
+        createUpdate("INSERT INTO task_daily_rollup " +
+                "(day, priority, created_count, completed_count, cycle_time_seconds) " +
+                String.format(ROLL_UP_COUNTS, "", "task_daily_rollup"))
+                .setParameter("afterId", afterId)
+                .setParameter("upToId", upToId)
+                .executeUpdate();
+        createUpdate("INSERT INTO task_user_daily_rollup " +
+                "(user_id, day, priority, created_count, completed_count, cycle_time_seconds) " +
+                String.format(ROLL_UP_COUNTS, "user_id,", "task_user_daily_rollup"))
+                .setParameter("afterId", afterId)
+                .setParameter("upToId", upToId)
+                .executeUpdate();
+    }
+
+    /**
+     * Moves the watermark of a rollup to the last event it has rolled up.
+     */
+    public void updateWatermark(String name, long lastEventId) {
+        createUpdate("UPDATE rollup_watermark SET last_event_id = :lastEventId WHERE name = :name")
+                .setParameter("lastEventId", lastEventId)
+                .setParameter("name", name)
+                .executeUpdate();
+    }
+
+    /**
+     * Sums the daily rollups over a range of days, optionally for one User and one priority.
+     *
+     * @param from     the first day of the range
+     * @param to       the last day of the range
+     * @param userId   the User whose events to count, or {@code null} for all Users
+     * @param priority the priority of the tasks to count, or {@code null} for all priorities
+     * @return the counts of the days with events, in ascending order
+     */
+    public List<TaskDailyCounts> findDailyCounts(LocalDate from, LocalDate to, UUID userId, TaskPriority priority) {
+        var sql = new StringBuilder("SELECT day, SUM(created_count), SUM(completed_count), SUM(cycle_time_seconds) ")
+                .append(userId != null
+                        ? "FROM task_user_daily_rollup WHERE user_id = :userId AND "
+                        : "FROM task_daily_rollup WHERE ")
+                .append("day BETWEEN :from AND :to ");
+        if (priority != null) {
+            sql.append("AND priority = :priority ");
+        }
+        sql.append("GROUP BY day ORDER BY day");
+
+        var query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("from", from)
+                .setParameter("to", to);
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        if (priority != null) {
+            query.setParameter("priority", priority.name());
+        }
+
+        return ((List<?>) query.getResultList()).stream()
+                .map(row -> (Object[]) row)
+                .map(columns -> new TaskDailyCounts(toLocalDate(columns[0]), ((Number) columns[1]).longValue(),
+                        ((Number) columns[2]).longValue(), ((Number) columns[3]).longValue()))
+                .toList();
+    }
+
+    private NativeQuery<?> createUpdate(String sql) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class);
+        for (String table : ANALYTICS_TABLES) {
+            query.addSynchronizedQuerySpace(table);
+        }
+        return query;
+    }
+
+    private static LocalDate toLocalDate(Object day) {
+        return day instanceof Date date ? date.toLocalDate() : (LocalDate) day;
+    }
+}
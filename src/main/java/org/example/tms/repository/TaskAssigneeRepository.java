@@ -4,9 +4,14 @@ import org.example.tms.model.TaskAssignee;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, UUID> {
 
+    boolean existsByTask_IdAndAssignee_Id(UUID taskId, UUID assigneeId);
+
+    List<TaskAssignee> findAllByTask_IdInAndAssignee_IdIn(Collection<UUID> taskIds, Collection<UUID> assigneeIds);
 }
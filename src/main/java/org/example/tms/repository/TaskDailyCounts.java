@@ -0,0 +1,14 @@
+package org.example.tms.repository;
+
+import java.time.LocalDate;
+
+/**
+ * The rolled up task events of a day.
+ *
+ * @param cycleTimeSeconds the summed time from creation to completion of the completed tasks
+ */
+public record TaskDailyCounts(LocalDate day,
+                              long createdCount,
+                              long completedCount,
+                              long cycleTimeSeconds) {
+}
@@ -0,0 +1,128 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+import org.example.tms.importer.TaskImportRow;
+import org.example.tms.model.Task;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Loads imported tasks into PostgreSQL through a staging table.
+ * <p>
+ * Rows are streamed into a temporary staging table with {@code COPY}, which costs one round trip per batch
+ * instead of one per row, and are then moved into {@code task} with a single {@code INSERT ... SELECT}.
+ * The staging table is dropped when the transaction ends, so all methods must be called within one transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepository {
+    private static final String CREATE_STAGING_TABLE = "CREATE TEMPORARY TABLE IF NOT EXISTS task_import_staging (" +
+            "line BIGINT NOT NULL, title VARCHAR(255) NOT NULL, description TEXT, status VARCHAR(20) NOT NULL, " +
+            "priority VARCHAR(20) NOT NULL, author_id UUID NOT NULL, created_at TIMESTAMP) ON COMMIT DROP";
+    private static final String COPY_TO_STAGING_TABLE = "COPY task_import_staging " +
+            "(line, title, description, status, priority, author_id, created_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String MERGE_STAGING_TABLE = "WITH merged AS (INSERT INTO task " +
+            "(title, description, status, priority, author_id, created_at, updated_at, comment_count) " +
+            "SELECT title, description, status, priority, author_id, COALESCE(created_at, LOCALTIMESTAMP), " +
+            "LOCALTIMESTAMP, 0 FROM task_import_staging ORDER BY line " +
+            "RETURNING id, status, priority, author_id, created_at) " +
+            "INSERT INTO task_status_event " +
+            "(task_id, user_id, priority, from_status, to_status, occurred_at, task_created_at) " +
+            "SELECT id, author_id, priority, NULL, status, created_at, created_at FROM merged";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Creates the staging table for the current transaction.
+     */
+    public void createStagingTable() {
+        entityManager.unwrap(Session.class)
+                .doWork(connection -> {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(CREATE_STAGING_TABLE);
+                    }
+                });
+    }
+
+    /**
+     * Copies parsed and validated rows into the staging table with a single {@code COPY}.
+     *
+     * @param rows the rows to stage, each carrying a request
+     */
+    public void copyToStagingTable(List<TaskImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        var csv = new StringBuilder();
+        rows.forEach(row -> appendRow(csv, row));
+
+        entityManager.unwrap(Session.class)
+                .doWork(connection -> {
+                    try {
+                        connection.unwrap(PGConnection.class)
+                                .getCopyAPI()
+                                .copyIn(COPY_TO_STAGING_TABLE, new StringReader(csv.toString()));
+                    } catch (IOException e) {
+                        throw new SQLException("Could not copy rows to the staging table", e);
+                    }
+                });
+    }
+
+    /**
+     * Moves all staged rows into {@code task}, in the order of the upload, and records their creation
+     * for the task analytics. Only the task cache region is invalidated by the insert.
+     *
+     * @return the number of tasks inserted
+     */
+    public int mergeStagingTable() {
+        return entityManager.createNativeQuery(MERGE_STAGING_TABLE)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Task.class)
+                .addSynchronizedQuerySpace("task_status_event")
+                .executeUpdate();
+    }
+
+    private static void appendRow(StringBuilder csv, TaskImportRow row) {
+        ImportTaskRequestDto request = row.request();
+
+        csv.append(row.line())
+                .append(',');
+        appendQuoted(csv, request.getTitle());
+        csv.append(',');
+        appendQuoted(csv, request.getDescription());
+        csv.append(',')
+                .append(request.getStatus())
+                .append(',')
+                .append(request.getPriority())
+                .append(',')
+                .append(request.getAuthorId())
+                .append(',');
+        if (request.getCreatedAt() != null) {
+            csv.append(request.getCreatedAt());
+        }
+        csv.append('\n');
+    }
+
+    /**
+     * Appends a quoted value, so empty strings are kept apart from {@code null}, which is written as nothing.
+     */
+    private static void appendQuoted(StringBuilder csv, String value) {
+        if (value == null) {
+            return;
+        }
+        csv.append('"')
+                .append(value.replace("\"", "\"\""))
+                .append('"');
+    }
+}
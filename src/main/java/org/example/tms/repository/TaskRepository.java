@@ -1,37 +1,138 @@
 package org.example.tms.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.tms.model.Comment;
 import org.example.tms.model.Task;
 import org.example.tms.model.TaskAssignee;
+import org.example.tms.util.ConstantUtil;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
-    @Query("SELECT ta FROM TaskAssignee ta WHERE ta.task.id = :taskId")
-    List<TaskAssignee> fetchTaskWithTaskAssignees(@Param("taskId") UUID taskId);
+    @Query("SELECT ta FROM TaskAssignee ta JOIN FETCH ta.assignee WHERE ta.task.id IN :taskIds")
+    List<TaskAssignee> fetchTaskAssigneesByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
 
-    @Query("SELECT c FROM Comment c WHERE c.task.id = :taskId")
-    List<Comment> fetchTaskWithComments(@Param("taskId") UUID taskId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.task.id IN :taskIds")
+    List<Comment> fetchCommentsByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query(value = "SELECT ranked.id FROM (SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.task_id " +
+            "ORDER BY c.created_at DESC, c.id DESC) AS position FROM comment c WHERE c.task_id IN (:taskIds)) ranked " +
+            "WHERE ranked.position <= :limit", nativeQuery = true)
+    List<UUID> fetchLatestCommentIdsByTaskIds(@Param("taskIds") Collection<UUID> taskIds, @Param("limit") int limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids")
+    List<Comment> fetchCommentsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount + :delta, t.version = t.version + 1 " +
+            "WHERE t.id = :taskId")
+    void updateCommentCount(@Param("taskId") UUID taskId, @Param("delta") int delta);
+
+    /**
+     * Locks a task for update and loads it from the locked row. Must be the first load of the task in the
+     * transaction: a task that is already managed is returned as it is, without the state read under the lock.
+     */
+    @Query(value = "SELECT t.* FROM task t WHERE t.id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Task> lockById(@Param("id") UUID id);
+
+    @Query(value = "SELECT id FROM task WHERE id IN (:ids) ORDER BY id FOR NO KEY UPDATE", nativeQuery = true)
+    List<UUID> lockAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id IN :ids")
+    void incrementVersions(@Param("ids") Collection<UUID> ids);
 
     @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT DISTINCT t FROM Task t WHERE t.author.id = :authorId")
+    @Query("SELECT t FROM Task t WHERE t.author.id = :authorId")
     Page<Task> findAllByAuthor_Id(@Param("authorId") UUID authorId, Pageable pageable);
 
     @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT DISTINCT t FROM Task t JOIN t.taskAssignees ta WHERE ta.assignee.id = :assigneeId")
+    @Query("SELECT t FROM Task t WHERE EXISTS (SELECT 1 FROM TaskAssignee ta " +
+            "WHERE ta.task = t AND ta.assignee.id = :assigneeId)")
     Page<Task> findAllByTaskAssignees_Assignee_Id(@Param("assigneeId") UUID assigneeId, Pageable pageable);
 
     @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT DISTINCT t FROM Task t")
+    @Query("SELECT t FROM Task t")
     Page<Task> findAllWithDetails(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT t FROM Task t WHERE (t.createdAt, t.id) < (:createdAt, :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable limit);
+
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT t FROM Task t WHERE t.author.id = :authorId " +
+            "AND (t.createdAt, t.id) < (:createdAt, :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findAllByAuthorIdAfter(@Param("authorId") UUID authorId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") UUID id, Pageable limit);
+
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT t FROM Task t WHERE EXISTS (SELECT 1 FROM TaskAssignee ta " +
+            "WHERE ta.task = t AND ta.assignee.id = :assigneeId) " +
+            "AND (t.createdAt, t.id) < (:createdAt, :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findAllByAssigneeIdAfter(@Param("assigneeId") UUID assigneeId,
+                                        @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+                                        Pageable limit);
+
+    @Query(value = "SELECT ranked.id AS id, ranked.rank AS rank FROM (" +
+            "SELECT matches.task_id AS id, MAX(matches.rank) AS rank FROM (" +
+            "SELECT t.id AS task_id, CAST(ts_rank(t.search_vector, websearch_to_tsquery('english', :query)) " +
+            "AS DOUBLE PRECISION) AS rank " +
+            "FROM task t WHERE t.search_vector @@ websearch_to_tsquery('english', :query) " +
+            "UNION ALL " +
+            "SELECT c.task_id, CAST(ts_rank(c.search_vector, websearch_to_tsquery('english', :query)) " +
+            "AS DOUBLE PRECISION) " +
+            "FROM comment c WHERE c.search_vector @@ websearch_to_tsquery('english', :query)) matches " +
+            "GROUP BY matches.task_id) ranked " +
+            "WHERE (ranked.rank, ranked.id) < (:rank, :id) " +
+            "ORDER BY ranked.rank DESC, ranked.id DESC LIMIT :limit", nativeQuery = true)
+    List<TaskSearchHit> searchAfter(@Param("query") String query, @Param("rank") double rank, @Param("id") UUID id,
+                                    @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM (" +
+            "SELECT t.id FROM task t WHERE t.search_vector @@ websearch_to_tsquery('english', :query) " +
+            "UNION " +
+            "SELECT c.task_id FROM comment c WHERE c.search_vector @@ websearch_to_tsquery('english', :query)) matches",
+            nativeQuery = true)
+    long countSearchMatches(@Param("query") String query);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findAllWithAuthorByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = ConstantUtil.EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("SELECT t FROM Task t JOIN FETCH t.author ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Task> streamAllForExport();
+
+    long countByAuthor_Id(UUID authorId);
+
+    @Query("SELECT COUNT(ta) FROM TaskAssignee ta WHERE ta.assignee.id = :assigneeId")
+    long countByAssigneeId(@Param("assigneeId") UUID assigneeId);
 }
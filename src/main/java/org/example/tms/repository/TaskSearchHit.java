@@ -0,0 +1,13 @@
+package org.example.tms.repository;
+
+import java.util.UUID;
+
+/**
+ * A task matching a full-text search, with its relevance rank.
+ */
+public interface TaskSearchHit {
+
+    UUID getId();
+
+    double getRank();
+}
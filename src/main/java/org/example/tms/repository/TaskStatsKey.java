@@ -0,0 +1,19 @@
+package org.example.tms.repository;
+
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+
+import java.util.Comparator;
+
+/**
+ * The status and priority under which a task is counted in the task statistics.
+ */
+public record TaskStatsKey(TaskStatus status, TaskPriority priority) implements Comparable<TaskStatsKey> {
+    private static final Comparator<TaskStatsKey> ORDER = Comparator.comparing(TaskStatsKey::status)
+            .thenComparing(TaskStatsKey::priority);
+
+    @Override
+    public int compareTo(TaskStatsKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maintains the task counters of the {@code task_stat} and {@code task_assignee_stat} summary tables.
+ * <p>
+ * Each counter is split into stripes, rows that are summed when read. Writers add their delta to a stripe
+ * of their choice, so concurrent transactions changing the same counter rarely wait for each other's row lock.
+ * All statements only declare the summary tables as affected, so no second-level cache region is invalidated.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskStatsRepository {
+    private static final String TASK_STAT = "task_stat";
+    private static final String TASK_ASSIGNEE_STAT = "task_assignee_stat";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Adds a delta to the counter of all tasks with the given status and priority.
+     */
+    public void adjustTaskCount(TaskStatsKey key, int stripe, long delta) {
+        createUpdate("INSERT INTO task_stat (status, priority, stripe, task_count) " +
+                "VALUES (:status, :priority, :stripe, :delta) " +
+                "ON CONFLICT (status, priority, stripe) DO UPDATE " +
+                "SET task_count = task_stat.task_count + EXCLUDED.task_count")
+                .setParameter("status", key.status()
+                        .name())
+                .setParameter("priority", key.priority()
+                        .name())
+                .setParameter("stripe", stripe)
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    /**
+     * Adds a delta to the counter of the tasks assigned to a User with the given status and priority.
+     */
+    public void adjustAssigneeTaskCount(UUID assigneeId, TaskStatsKey key, int stripe, long delta) {
+        createUpdate("INSERT INTO task_assignee_stat (user_id, status, priority, stripe, task_count) " +
+                "VALUES (:assigneeId, :status, :priority, :stripe, :delta) " +
+                "ON CONFLICT (user_id, status, priority, stripe) DO UPDATE " +
+                "SET task_count = task_assignee_stat.task_count + EXCLUDED.task_count")
+                .setParameter("assigneeId", assigneeId)
+                .setParameter("status", key.status()
+                        .name())
+                .setParameter("priority", key.priority()
+                        .name())
+                .setParameter("stripe", stripe)
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+
+    /**
+     * Locks a task for update and reads its current status and priority from the database.
+     * The state is read with SQL, so it is never the possibly outdated state of a managed {@code Task}.
+     *
+     * @param taskId the unique identifier of the task
+     * @return the status and priority of the task, or empty if the task does not exist
+     */
+    public Optional<TaskStatsKey> lockTaskForUpdate(UUID taskId) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT status, priority FROM task WHERE id = :taskId FOR UPDATE")
+                .setParameter("taskId", taskId)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(columns -> toKey(columns[0], columns[1]))
+                .findFirst();
+    }
+
+    /**
+     * Locks tasks against concurrent updates and deletion and reads their current status and priority.
+     * Rows are locked in ID order, so concurrent callers do not deadlock.
+     *
+     * @param taskIds the unique identifiers of the tasks
+     * @return the status and priority of each existing task, by task ID
+     */
+    public Map<UUID, TaskStatsKey> lockTasksForShare(Collection<UUID> taskIds) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT id, status, priority FROM task WHERE id IN (:taskIds) ORDER BY id FOR SHARE")
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+
+        Map<UUID, TaskStatsKey> keys = new LinkedHashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            keys.put((UUID) columns[0], toKey(columns[1], columns[2]));
+        }
+        return keys;
+    }
+
+    /**
+     * Reads the IDs of the Users a task is assigned to.
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> findAssigneeIds(UUID taskId) {
+        return entityManager.createNativeQuery("SELECT user_id FROM task_assignee WHERE task_id = :taskId")
+                .setParameter("taskId", taskId)
+                .getResultList();
+    }
+
+    /**
+     * Sums the stripes of the counters of all tasks.
+     *
+     * @return the number of tasks by status and priority, without the combinations that have no tasks
+     */
+    public Map<TaskStatsKey, Long> findTaskCounts() {
+        return toCounts(entityManager.createNativeQuery("SELECT status, priority, SUM(task_count) FROM task_stat " +
+                        "GROUP BY status, priority")
+                .getResultList());
+    }
+
+    /**
+     * Sums the stripes of the counters of the tasks assigned to a User.
+     *
+     * @param assigneeId the unique identifier of the User
+     * @return the number of tasks by status and priority, without the combinations that have no tasks
+     */
+    public Map<TaskStatsKey, Long> findAssigneeTaskCounts(UUID assigneeId) {
+        return toCounts(entityManager.createNativeQuery("SELECT status, priority, SUM(task_count) " +
+                        "FROM task_assignee_stat WHERE user_id = :assigneeId GROUP BY status, priority")
+                .setParameter("assigneeId", assigneeId)
+                .getResultList());
+    }
+
+    /**
+     * Corrects the counters that differ from a recount of the task and assignment tables, without locking them.
+     * <p>
+     * Writers change a task and its counters in the same transaction, so the snapshot of a single statement sees
+     * either both changes or neither. Each table is reconciled by one statement that compares the summed stripes
+     * with the recount in its snapshot and adds the difference to stripe 0. Adding, rather than overwriting,
+     * keeps the deltas of transactions that commit after the snapshot, and writers never wait for the recount.
+     *
+     * @return the number of counters that differed from the recount
+     */
+    public int reconcile() {
+        int drift = createUpdate("INSERT INTO task_stat (status, priority, stripe, task_count) " +
+                "SELECT status, priority, 0, COALESCE(actual.task_count, 0) - COALESCE(counted.task_count, 0) " +
+                "FROM (SELECT status, priority, SUM(task_count) AS task_count FROM task_stat " +
+                "GROUP BY status, priority) counted " +
+                "FULL JOIN (SELECT status, priority, COUNT(*) AS task_count FROM task " +
+                "GROUP BY status, priority) actual USING (status, priority) " +
+                "WHERE COALESCE(counted.task_count, 0) <> COALESCE(actual.task_count, 0) " +
+                "ON CONFLICT (status, priority, stripe) DO UPDATE " +
+                "SET task_count = task_stat.task_count + EXCLUDED.task_count")
+                .executeUpdate();
+        drift += createUpdate("INSERT INTO task_assignee_stat (user_id, status, priority, stripe, task_count) " +
+                "SELECT user_id, status, priority, 0, " +
+                "COALESCE(actual.task_count, 0) - COALESCE(counted.task_count, 0) " +
+                "FROM (SELECT user_id, status, priority, SUM(task_count) AS task_count FROM task_assignee_stat " +
+                "GROUP BY user_id, status, priority) counted " +
+                "FULL JOIN (SELECT ta.user_id, t.status, t.priority, COUNT(*) AS task_count " +
+                "FROM task_assignee ta JOIN task t ON t.id = ta.task_id " +
+                "GROUP BY ta.user_id, t.status, t.priority) actual USING (user_id, status, priority) " +
+                "WHERE COALESCE(counted.task_count, 0) <> COALESCE(actual.task_count, 0) " +
+                "ON CONFLICT (user_id, status, priority, stripe) DO UPDATE " +
+                "SET task_count = task_assignee_stat.task_count + EXCLUDED.task_count")
+                .executeUpdate();
+
+        return drift;
+    }
+
+    private NativeQuery<?> createUpdate(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(TASK_STAT)
+                .addSynchronizedQuerySpace(TASK_ASSIGNEE_STAT);
+    }
+
+    private static Map<TaskStatsKey, Long> toCounts(List<?> rows) {
+        Map<TaskStatsKey, Long> counts = new LinkedHashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            counts.put(toKey(columns[0], columns[1]), ((Number) columns[2]).longValue());
+        }
+        return counts;
+    }
+
+    private static TaskStatsKey toKey(Object status, Object priority) {
+        return new TaskStatsKey(TaskStatus.valueOf((String) status), TaskPriority.valueOf((String) priority));
+    }
+}
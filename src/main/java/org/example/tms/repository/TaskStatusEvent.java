@@ -0,0 +1,20 @@
+package org.example.tms.repository;
+
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A change of the status of a task, or its creation when {@code fromStatus} is {@code null},
+ * credited to the User who made it.
+ */
+public record TaskStatusEvent(UUID taskId,
+                              UUID userId,
+                              TaskPriority priority,
+                              TaskStatus fromStatus,
+                              TaskStatus toStatus,
+                              LocalDateTime occurredAt,
+                              LocalDateTime taskCreatedAt) {
+}
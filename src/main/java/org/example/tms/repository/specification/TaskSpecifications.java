@@ -0,0 +1,154 @@
+package org.example.tms.repository.specification;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.experimental.UtilityClass;
+import org.example.tms.dto.requests.TaskFilterRequestDto;
+import org.example.tms.model.Task;
+import org.example.tms.model.TaskAssignee;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.util.KeysetCursor;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * {@link Specification}s for filtering tasks.
+ * Each criterion becomes a predicate of a single query, so combining them does not cost extra queries.
+ * Criteria without a value are skipped, which lets {@link #matching} compose only the criteria a client set.
+ */
+@UtilityClass
+public class TaskSpecifications {
+
+    /**
+     * The order of keyset pages, matching the {@code (created_at DESC, id DESC)} indexes.
+     */
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    /**
+     * Combines all criteria of the given filter.
+     *
+     * @param filter the filter criteria
+     * @return a specification matching tasks that satisfy every criterion set in {@code filter}
+     */
+    public static Specification<Task> matching(TaskFilterRequestDto filter) {
+        return Specification.allOf(
+                hasStatusIn(filter.getStatus()),
+                hasPriorityIn(filter.getPriority()),
+                hasAuthor(filter.getAuthorId()),
+                hasAssignee(filter.getAssigneeId()),
+                createdBetween(filter.getCreatedFrom(), filter.getCreatedTo()),
+                updatedBetween(filter.getUpdatedFrom(), filter.getUpdatedTo()));
+    }
+
+    /**
+     * Matches tasks with any of the given statuses, or all tasks when none are given.
+     */
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, builder) -> statuses == null || statuses.isEmpty()
+                ? null
+                : root.get("status")
+                .in(statuses);
+    }
+
+    /**
+     * Matches tasks with any of the given priorities, or all tasks when none are given.
+     */
+    public static Specification<Task> hasPriorityIn(Collection<TaskPriority> priorities) {
+        return (root, query, builder) -> priorities == null || priorities.isEmpty()
+                ? null
+                : root.get("priority")
+                .in(priorities);
+    }
+
+    /**
+     * Matches tasks created by the given user, or all tasks when no user is given.
+     */
+    public static Specification<Task> hasAuthor(UUID authorId) {
+        return (root, query, builder) -> authorId == null
+                ? null
+                : builder.equal(root.get("author")
+                .get("id"), authorId);
+    }
+
+    /**
+     * Matches tasks assigned to the given user through an {@code EXISTS} subquery, so tasks with several
+     * assignees are not duplicated.
+     */
+    public static Specification<Task> hasAssignee(UUID assigneeId) {
+        return (root, query, builder) -> {
+            if (assigneeId == null) {
+                return null;
+            }
+
+            Subquery<Integer> assignment = query.subquery(Integer.class);
+            Root<TaskAssignee> taskAssignee = assignment.from(TaskAssignee.class);
+            assignment.select(builder.literal(1))
+                    .where(builder.equal(taskAssignee.get("task"), root),
+                            builder.equal(taskAssignee.<User>get("assignee")
+                            .get("id"), assigneeId));
+
+            return builder.exists(assignment);
+        };
+    }
+
+    /**
+     * Matches tasks created within the given range. Either bound may be {@code null} to leave the range open.
+     */
+    public static Specification<Task> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    /**
+     * Matches tasks last updated within the given range. Either bound may be {@code null} to leave the range open.
+     */
+    public static Specification<Task> updatedBetween(LocalDateTime from, LocalDateTime to) {
+        return between("updatedAt", from, to);
+    }
+
+    /**
+     * Matches tasks placed after the given cursor in {@link #KEYSET_ORDER}.
+     * The predicate is the row-value comparison {@code (created_at, id) < (?, ?)}, which PostgreSQL can answer
+     * with a single seek into a {@code (..., created_at DESC, id DESC)} index; JPA criteria can't express it,
+     * so it is built with Hibernate's tuple expressions.
+     *
+     * @param cursor the position after which the page starts
+     * @return a specification for the keyset predicate
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Task> after(KeysetCursor cursor) {
+        return (root, query, builder) -> {
+            var nodeBuilder = (NodeBuilder) builder;
+            var position = new SqmTuple<Comparable>(nodeBuilder, (SqmExpression<?>) root.get("createdAt"),
+                    (SqmExpression<?>) root.get("id"));
+            var bound = new SqmTuple<Comparable>(nodeBuilder, (SqmExpression<?>) nodeBuilder.value(cursor.createdAt()),
+                    (SqmExpression<?>) nodeBuilder.value(cursor.id()));
+
+            return builder.lessThan(position, (Expression) bound);
+        };
+    }
+
+    private static Specification<Task> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        return (root, query, builder) -> {
+            if (from != null && to != null) {
+                return builder.between(root.get(attribute), from, to);
+            }
+            if (from != null) {
+                return builder.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            if (to != null) {
+                return builder.lessThanOrEqualTo(root.get(attribute), to);
+            }
+            return null;
+        };
+    }
+}
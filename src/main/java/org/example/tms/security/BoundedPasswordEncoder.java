@@ -0,0 +1,154 @@
+package org.example.tms.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.example.tms.exception.PasswordHashingRejectedException;
+import org.example.tms.properties.PasswordHashingProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password encoder that runs the hashing of a delegate encoder on a dedicated, bounded thread pool.
+ * <p>
+ * At most {@code password.hashing.threads} hashes are computed at the same time and at most
+ * {@code password.hashing.queue-capacity} wait for a thread. Requests beyond that, or requests that haven't
+ * started within {@code password.hashing.timeout}, fail fast with {@link PasswordHashingRejectedException},
+ * so a burst of logins cannot take all the CPU from the rest of the application. The timeout only covers the
+ * wait in the queue: a hash that has started is awaited, since BCrypt doesn't respond to interrupts and
+ * abandoning it would not free its thread. A request that times out is removed from the queue unhashed.
+ * <p>
+ * Publishes the pool metrics under {@code executor.*{name=password.hashing}}, the hash latency
+ * in {@code password.hashing.duration{operation}} and rejections in {@code password.hashing.rejections{reason}}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final String METRIC_PREFIX = "password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter saturatedRejections;
+    private final Counter timeoutRejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = properties.getTimeout();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, createQueue(properties.getQueueCapacity()),
+                new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, METRIC_PREFIX, List.of());
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.saturatedRejections = rejectionCounter(meterRegistry, "saturated");
+        this.timeoutRejections = rejectionCounter(meterRegistry, "timeout");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Checked on the calling thread, it only parses the stored hash.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the hashing on the pool. Whichever comes first, the hashing thread starting the task or the caller
+     * giving up on it, claims the task, so a task is either hashed and awaited or abandoned before it started.
+     */
+    private <T> T submit(Callable<T> hashing) {
+        var claimed = new AtomicBoolean();
+        var started = new CountDownLatch(1);
+        Future<T> future;
+        try {
+            future = monitoredExecutor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                started.countDown();
+                return hashing.call();
+            });
+        } catch (RejectedExecutionException e) {
+            saturatedRejections.increment();
+            throw new PasswordHashingRejectedException("all hashing threads are busy and the queue is full", e);
+        }
+
+        try {
+            if (!started.await(timeout.toMillis(), TimeUnit.MILLISECONDS) && claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                executor.purge();
+                timeoutRejections.increment();
+                throw new PasswordHashingRejectedException("no hashing thread free within " + timeout);
+            }
+
+            return future.get();
+
+        } catch (InterruptedException e) {
+            claimed.set(true);
+            future.cancel(false);
+            Thread.currentThread()
+                    .interrupt();
+            throw new PasswordHashingRejectedException("interrupted while waiting for the result", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int capacity) {
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent computing password hashes, excluding the time spent in the queue")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".rejections")
+                .description("Password hashing requests rejected because the hashing pool was overloaded")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, "password-hashing-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
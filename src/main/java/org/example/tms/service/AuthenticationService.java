@@ -4,16 +4,17 @@ import lombok.RequiredArgsConstructor;
 import org.example.tms.dto.requests.AuthenticationRequestDto;
 import org.example.tms.dto.requests.RegisterRequestDto;
 import org.example.tms.dto.responses.AuthenticationResponseDto;
+import org.example.tms.exception.InvalidCredentialsException;
 import org.example.tms.exception.InvalidRefreshTokenException;
 import org.example.tms.model.User;
 import org.example.tms.model.enums.UserRole;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Service for handling User authentication and registration.
@@ -24,17 +25,19 @@ import java.time.LocalDateTime;
 public class AuthenticationService {
 
     private final JwtService jwtService;
+    private final JwtPrincipalService jwtPrincipalService;
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+
+    private volatile String unknownUserPassword;
 
     /**
      * Registers a new User and generates authentication tokens.
+     * The password is hashed before the User is saved, outside of any transaction.
      *
      * @param request the {@link RegisterRequestDto} containing User registration details
      * @return the {@link AuthenticationResponseDto} containing the generated tokens
      */
-    @Transactional
     public AuthenticationResponseDto register(RegisterRequestDto request) {
         User user = buildUser(request);
         userService.save(user);
@@ -44,18 +47,30 @@ public class AuthenticationService {
 
     /**
      * Authenticates a User by email and password and generates authentication tokens.
+     * <p>
+     * The User is loaded once and the password is verified with a single hash comparison. The method is
+     * deliberately not transactional and {@code spring.jpa.open-in-view} is disabled, so the lookup runs in its own
+     * read-only transaction that has returned its connection to the pool before the hash is computed.
+     * When no User has the given email, the password is compared against a dummy hash so that the
+     * response time does not reveal whether the email is registered. A password hashed with outdated
+     * cost parameters is re-encoded with the current ones after a successful login.
      *
      * @param request the {@link AuthenticationRequestDto} containing login details
      * @return the {@link AuthenticationResponseDto} containing the generated tokens
+     * @throws InvalidCredentialsException if the email is unknown or the password does not match
      */
-    @Transactional
     public AuthenticationResponseDto authenticate(AuthenticationRequestDto request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+        Optional<User> user = userService.findUserByEmail(request.getEmail());
+        String encodedPassword = user.map(User::getPassword)
+                .orElseGet(this::getUnknownUserPassword);
 
-        User user = userService.getUserByEmail(request.getEmail());
+        if (!passwordEncoder.matches(request.getPassword(), encodedPassword) || user.isEmpty()) {
+            throw new InvalidCredentialsException(request.getEmail());
+        }
 
-        return createAuthenticationResponse(user);
+        upgradePasswordEncoding(user.get(), request.getPassword());
+
+        return createAuthenticationResponse(user.get());
     }
 
     /**
@@ -67,13 +82,11 @@ public class AuthenticationService {
      */
     @Transactional
     public AuthenticationResponseDto refreshToken(String refreshToken) {
-        String username = jwtService.extractUsername(refreshToken, jwtService.getRefreshSecretKey());
+        String username = jwtService.parseRefreshToken(refreshToken)
+                .orElseThrow(() -> new InvalidRefreshTokenException(refreshToken))
+                .getSubject();
         User user = userService.getUserByEmail(username);
 
-        if (!jwtService.isRefreshTokenValid(refreshToken)) {
-            throw new InvalidRefreshTokenException(refreshToken);
-        }
-
         return createAuthenticationResponse(user);
     }
 
@@ -93,6 +106,36 @@ public class AuthenticationService {
                 .build();
     }
 
+    /**
+     * Re-encodes and saves the password of the User if it was hashed with outdated cost parameters,
+     * and evicts the cached principal that still carries the old hash.
+     *
+     * @param user        the authenticated {@link User}
+     * @param rawPassword the password the User has just logged in with
+     */
+    private void upgradePasswordEncoding(User user, String rawPassword) {
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userService.updatePassword(user.getId(), passwordEncoder.encode(rawPassword));
+            jwtPrincipalService.evictPrincipal(user.getEmail());
+        }
+    }
+
+    /**
+     * Returns the dummy hash compared against when no User matches the login email.
+     * It is encoded on first use with the configured encoder, so verifying against it costs as much as a real login.
+     *
+     * @return the encoded dummy password
+     */
+    private String getUnknownUserPassword() {
+        String password = unknownUserPassword;
+        if (password == null) {
+            password = passwordEncoder.encode(UUID.randomUUID()
+                    .toString());
+            unknownUserPassword = password;
+        }
+        return password;
+    }
+
     /**
      * Builds a new {@link User} entity from the registration request DTO.
      *
@@ -2,15 +2,23 @@ package org.example.tms.service;
 
 import org.example.tms.dto.requests.create.CreateCommentRequestDto;
 import org.example.tms.dto.responses.CommentResponseDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
+import org.example.tms.util.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public interface CommentService {
-    CommentResponseDto getCommentById(UUID id);
+    Optional<CommentResponseDto> getCommentById(UUID id, Predicate<String> notModified);
 
-    Page<CommentResponseDto> getCommentsByTaskId(UUID taskId, Pageable pageable);
+    Optional<Page<CommentResponseDto>> getCommentsByTaskId(UUID taskId, Pageable pageable,
+                                                           Predicate<String> notModified);
+
+    CursorPageResponseDto<CommentResponseDto> scrollCommentsByTaskId(UUID taskId, KeysetCursor cursor, int size,
+                                                                     boolean includeTotal);
 
     CommentResponseDto addComment(CreateCommentRequestDto request);
 
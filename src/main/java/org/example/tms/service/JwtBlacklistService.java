@@ -1,7 +1,13 @@
 package org.example.tms.service;
 
+import java.time.Instant;
+
 public interface JwtBlacklistService {
     void addTokenToBlacklist(String token);
 
+    void addTokenToBlacklist(String token, Instant expiresAt);
+
     boolean isTokenBlacklisted(String token);
+
+    int removeExpiredTokens();
 }
@@ -0,0 +1,95 @@
+package org.example.tms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.UserRole;
+import org.example.tms.properties.JwtPrincipalProperties;
+import org.example.tms.util.ConstantUtil;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+import static org.example.tms.properties.JwtPrincipalProperties.Mode;
+
+/**
+ * Service for resolving the authenticated principal from the claims of a verified access token.
+ * <p>
+ * In {@link Mode#CLAIMS} mode the principal is built from the user ID and role claims, so authenticated
+ * requests don't touch the database. In {@link Mode#CACHE} mode the User is loaded from the database and cached
+ * for a short time. Tokens issued before the claims were added are always resolved through the database.
+ */
+@Slf4j
+@Service
+public class JwtPrincipalService {
+    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalProperties jwtPrincipalProperties;
+    private final Cache<String, UserDetails> principalCache;
+
+    public JwtPrincipalService(UserDetailsService userDetailsService, JwtPrincipalProperties jwtPrincipalProperties) {
+        this.userDetailsService = userDetailsService;
+        this.jwtPrincipalProperties = jwtPrincipalProperties;
+        this.principalCache = Caffeine.newBuilder()
+                .expireAfterWrite(jwtPrincipalProperties.getCacheTtl())
+                .maximumSize(jwtPrincipalProperties.getCacheMaximumSize())
+                .build();
+    }
+
+    /**
+     * Resolves the principal of the User the token was issued to.
+     *
+     * @param claims the verified claims of the access token
+     * @return the {@link UserDetails} to authenticate the request with
+     */
+    public UserDetails resolvePrincipal(Claims claims) {
+        String username = claims.getSubject();
+
+        if (jwtPrincipalProperties.getMode() == Mode.CACHE) {
+            return resolveCachedPrincipal(username);
+        }
+
+        String userId = claims.get(ConstantUtil.USER_ID_CLAIM, String.class);
+        String role = claims.get(ConstantUtil.ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            log.debug("Access token of {} carries no user claims, loading the User", username);
+            return userDetailsService.loadUserByUsername(username);
+        }
+
+        return User.builder()
+                .id(UUID.fromString(userId))
+                .email(username)
+                .role(UserRole.valueOf(role))
+                .build();
+    }
+
+    /**
+     * Returns the cached principal of a User, loading it on a miss.
+     * The User is loaded outside of the cache's atomic compute, so the database call never runs while
+     * a map lock is held. Such a lock would pin the carrier thread when requests run on virtual threads.
+     */
+    private UserDetails resolveCachedPrincipal(String username) {
+        UserDetails principal = principalCache.getIfPresent(username);
+        if (principal != null) {
+            return principal;
+        }
+
+        principal = userDetailsService.loadUserByUsername(username);
+        principalCache.put(username, principal);
+
+        return principal;
+    }
+
+    /**
+     * Removes the cached principal of a User, so the next request loads it again.
+     * Must be called whenever the stored state of a User changes, such as its password hash.
+     *
+     * @param username the username (email) of the User
+     */
+    public void evictPrincipal(String username) {
+        principalCache.invalidate(username);
+    }
+}
@@ -2,12 +2,16 @@ package org.example.tms.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.tms.model.User;
 import org.example.tms.util.ConstantUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,11 +21,15 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for managing JSON Web Tokens (JWTs) for User authentication and authorization.
  * Provides methods to generate, validate and extract claims from access and refresh tokens.
+ * <p>
+ * Signing keys and parsers are derived once per secret and reused, so verifying a token costs
+ * a single signature check.
  */
 @Getter
 @Setter
@@ -34,14 +42,37 @@ public class JwtService {
     @Value("${jwt.refresh.secret}")
     private String refreshSecretKey;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, SigningKey> signingKeys = new ConcurrentHashMap<>();
+
+    /**
+     * HMAC key and the parser verifying tokens signed with it.
+     *
+     * @param key    the signing key
+     * @param parser the thread-safe parser bound to the key
+     */
+    private record SigningKey(Key key, JwtParser parser) {
+    }
+
     /**
      * Generates an access token for the provided User details.
+     * Tokens of a {@link User} carry the user ID and role claims, so the principal can be built without
+     * a database lookup.
      *
      * @param userDetails the {@link UserDetails} of the User to generate the token for
      * @return the generated JWT access token
      */
     public String generateAccessToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails, ConstantUtil.ACCESS_TOKEN_EXPIRATION, accessSecretKey);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(ConstantUtil.USER_ID_CLAIM, user.getId()
+                    .toString());
+            claims.put(ConstantUtil.ROLE_CLAIM, user.getRole()
+                    .name());
+        }
+
+        return generateToken(claims, userDetails, ConstantUtil.ACCESS_TOKEN_EXPIRATION, accessSecretKey);
     }
 
     /**
@@ -54,6 +85,28 @@ public class JwtService {
         return generateToken(new HashMap<>(), userDetails, ConstantUtil.REFRESH_TOKEN_EXPIRATION, refreshSecretKey);
     }
 
+    /**
+     * Parses and verifies an access token once, so callers can read all claims without parsing it again.
+     *
+     * @param token the access token to parse
+     * @return the verified claims, or an empty {@link Optional} if the token has expired
+     * @throws JwtException if the token is malformed or its signature is invalid
+     */
+    public Optional<Claims> parseAccessToken(String token) {
+        return parseToken(token, accessSecretKey);
+    }
+
+    /**
+     * Parses and verifies a refresh token once, so callers can read all claims without parsing it again.
+     *
+     * @param token the refresh token to parse
+     * @return the verified claims, or an empty {@link Optional} if the token has expired
+     * @throws JwtException if the token is malformed or its signature is invalid
+     */
+    public Optional<Claims> parseRefreshToken(String token) {
+        return parseToken(token, refreshSecretKey);
+    }
+
     /**
      * Validates if the provided access token is valid.
      *
@@ -61,7 +114,7 @@ public class JwtService {
      * @return {@code true} if the token is valid, {@code false} otherwise
      */
     public boolean isAccessTokenValid(String token) {
-        return isTokenValid(token, accessSecretKey);
+        return parseAccessToken(token).isPresent();
     }
 
     /**
@@ -71,7 +124,7 @@ public class JwtService {
      * @return {@code true} if the token is valid, {@code false} otherwise
      */
     public boolean isRefreshTokenValid(String token) {
-        return isTokenValid(token, refreshSecretKey);
+        return parseRefreshToken(token).isPresent();
     }
 
     /**
@@ -82,60 +135,25 @@ public class JwtService {
      * @return the username (subject) from the token
      */
     public String extractUsername(String token, String key) {
-        return extractClaim(token, Claims::getSubject, key);
+        return extractAllClaims(token, key).getSubject();
     }
 
     /**
-     * Checks if the provided token is valid by verifying its expiration.
+     * Parses the token, treating expiration as an expected outcome rather than an error.
+     * The parser rejects expired tokens itself, so no separate expiration check is needed.
      *
-     * @param token the JWT token to validate
-     * @param key   the secret key to verify the token
-     * @return {@code true} if the token is valid, {@code false} if expired
-     */
-    private boolean isTokenValid(String token, String key) {
-        return !isTokenExpired(token, key);
-    }
-
-    /**
-     * Checks if the token has expired.
-     *
-     * @param token the JWT token to check
+     * @param token the JWT token
      * @param key   the secret key to verify the token
-     * @return {@code true} if the token has expired, {@code false} otherwise
+     * @return the verified claims, or an empty {@link Optional} if the token has expired
      */
-    private boolean isTokenExpired(String token, String key) {
+    private Optional<Claims> parseToken(String token, String key) {
         try {
-            return extractExpiration(token, key).before(new Date());
+            return Optional.of(extractAllClaims(token, key));
         } catch (ExpiredJwtException e) {
-            return true;
+            return Optional.empty();
         }
     }
 
-    /**
-     * Extracts the expiration date from the token.
-     *
-     * @param token the JWT token
-     * @param key   the secret key to verify the token
-     * @return the expiration date of the token
-     */
-    private Date extractExpiration(String token, String key) {
-        return extractClaim(token, Claims::getExpiration, key);
-    }
-
-    /**
-     * Extracts a specific claim from the token.
-     *
-     * @param token          the JWT token
-     * @param claimsResolver the function to extract the claim
-     * @param key            the secret key to verify the token
-     * @param <T>            the type of the claim
-     * @return the extracted claim
-     */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver, String key) {
-        Claims claims = extractAllClaims(token, key);
-        return claimsResolver.apply(claims);
-    }
-
     /**
      * Extracts all claims from the token.
      *
@@ -144,22 +162,25 @@ public class JwtService {
      * @return the claims from the token
      */
     private Claims extractAllClaims(String token, String key) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey(key))
-                .build()
+        return getSigningKey(key).parser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     /**
-     * Returns the signing key derived from the provided key.
+     * Returns the signing key and parser derived from the provided secret, building them on first use.
      *
-     * @param key the secret key used for signing the JWT
-     * @return the key used to sign the JWT
+     * @param key the Base64-encoded secret used for signing the JWT
+     * @return the cached {@link SigningKey}
      */
-    private Key getSignInKey(String key) {
-        byte[] keyBytes = Decoders.BASE64.decode(key);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private SigningKey getSigningKey(String key) {
+        return signingKeys.computeIfAbsent(key, secret -> {
+            Key signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+
+            return new SigningKey(signInKey, Jwts.parserBuilder()
+                    .setSigningKey(signInKey)
+                    .build());
+        });
     }
 
     /**
@@ -181,7 +202,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSignInKey(key), SignatureAlgorithm.HS256)
+                .signWith(getSigningKey(key).key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 }
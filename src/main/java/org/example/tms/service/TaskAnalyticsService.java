@@ -0,0 +1,19 @@
+package org.example.tms.service;
+
+import org.example.tms.dto.requests.TaskAnalyticsRequestDto;
+import org.example.tms.dto.responses.TaskAnalyticsResponseDto;
+import org.example.tms.model.Task;
+import org.example.tms.model.enums.TaskStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskAnalyticsService {
+    TaskAnalyticsResponseDto getTaskAnalytics(TaskAnalyticsRequestDto request);
+
+    void recordTasksCreated(List<Task> tasks);
+
+    void recordStatusChange(Task task, TaskStatus previousStatus, UUID userId);
+
+    long rollUp();
+}
@@ -1,8 +1,13 @@
 package org.example.tms.service;
 
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskAssigneeRequestDto;
 import org.example.tms.dto.responses.TaskAssigneeResponseDto;
 
+import java.util.List;
+
 public interface TaskAssigneeService {
     TaskAssigneeResponseDto assignTaskToUser(CreateTaskAssigneeRequestDto request);
+
+    List<TaskAssigneeResponseDto> assignTasksToUsers(List<CreateTaskAssigneeBatchRequestDto.Assignment> assignments);
 }
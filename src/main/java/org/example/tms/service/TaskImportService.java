@@ -0,0 +1,10 @@
+package org.example.tms.service;
+
+import org.example.tms.dto.responses.TaskImportResponseDto;
+import org.example.tms.importer.TaskImportReader;
+
+import java.io.IOException;
+
+public interface TaskImportService {
+    TaskImportResponseDto importTasks(TaskImportReader reader) throws IOException;
+}
@@ -1,31 +1,74 @@
 package org.example.tms.service;
 
+import org.example.tms.dto.requests.TaskFilterRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskRequestDto;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
 import org.example.tms.dto.requests.update.UpdateTaskRequestDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
 import org.example.tms.dto.responses.TaskResponseDto;
+import org.example.tms.export.ExportFormat;
 import org.example.tms.model.Task;
 import org.example.tms.model.User;
+import org.example.tms.util.KeysetCursor;
+import org.example.tms.util.SearchCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 public interface TaskService {
     Task getTaskEntityById(UUID id);
 
-    TaskResponseDto getTaskById(UUID id);
+    Task getTaskReferenceById(UUID id);
 
-    Page<TaskResponseDto> getTasksByAuthor(UUID authorId, Pageable pageable);
+    Set<UUID> findExistingTaskIds(Collection<UUID> ids);
 
-    Page<TaskResponseDto> getTasksByAssignee(UUID assigneeId, Pageable pageable);
+    Optional<TaskResponseDto> getTaskById(UUID id, Integer commentsLimit, Predicate<String> notModified);
 
-    Page<TaskResponseDto> getAllTasks(Pageable pageable);
+    Optional<Page<TaskResponseDto>> getTasksByAuthor(UUID authorId, Pageable pageable, Integer commentsLimit,
+                                                     Predicate<String> notModified);
+
+    Optional<Page<TaskResponseDto>> getTasksByAssignee(UUID assigneeId, Pageable pageable, Integer commentsLimit,
+                                                       Predicate<String> notModified);
+
+    Optional<Page<TaskResponseDto>> getAllTasks(Pageable pageable, Integer commentsLimit,
+                                                Predicate<String> notModified);
+
+    CursorPageResponseDto<TaskResponseDto> scrollTasksByAuthor(UUID authorId, KeysetCursor cursor, int size,
+                                                               boolean includeTotal, Integer commentsLimit);
+
+    CursorPageResponseDto<TaskResponseDto> scrollTasksByAssignee(UUID assigneeId, KeysetCursor cursor, int size,
+                                                                 boolean includeTotal, Integer commentsLimit);
+
+    CursorPageResponseDto<TaskResponseDto> scrollAllTasks(KeysetCursor cursor, int size, boolean includeTotal,
+                                                          Integer commentsLimit);
+
+    CursorPageResponseDto<TaskResponseDto> filterTasks(TaskFilterRequestDto filter, KeysetCursor cursor, int size,
+                                                       boolean includeTotal, Integer commentsLimit);
+
+    CursorPageResponseDto<TaskResponseDto> searchTasks(String query, SearchCursor cursor, int size,
+                                                       boolean includeTotal, Integer commentsLimit);
+
+    void exportTasks(ExportFormat format, OutputStream outputStream) throws IOException;
 
     TaskResponseDto createTask(CreateTaskRequestDto request);
 
+    List<TaskResponseDto> createTasks(List<ImportTaskRequestDto> requests);
+
     void deleteTask(UUID id);
 
     void save(Task task);
 
+    void updateCommentCount(UUID taskId, int delta);
+
+    void incrementVersions(Collection<UUID> taskIds);
+
     TaskResponseDto updateTask(UUID id, UpdateTaskRequestDto request, User currentUser);
 }
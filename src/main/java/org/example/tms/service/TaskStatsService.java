@@ -0,0 +1,28 @@
+package org.example.tms.service;
+
+import org.example.tms.dto.responses.TaskStatsResponseDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.repository.TaskStatsKey;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskStatsService {
+    TaskStatsResponseDto getTaskStats();
+
+    TaskStatsResponseDto getTaskStatsByAssignee(UUID assigneeId);
+
+    void recordTasksCreated(Map<TaskStatsKey, Long> createdCounts);
+
+    Optional<TaskStatsKey> recordTaskUpdate(UUID taskId, TaskStatsKey previousKey, TaskStatus status,
+                                            TaskPriority priority);
+
+    void recordTaskDeletion(UUID taskId);
+
+    void recordAssignments(List<Map.Entry<UUID, UUID>> taskAndAssigneeIds);
+
+    int reconcile();
+}
@@ -3,14 +3,26 @@ package org.example.tms.service;
 import org.example.tms.dto.responses.UserResponseDto;
 import org.example.tms.model.User;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface UserService {
     User getUserEntityById(UUID id);
 
+    Set<UUID> findExistingUserIds(Collection<UUID> ids);
+
+    Map<UUID, User> getUserEntitiesByIds(Collection<UUID> ids);
+
     User getUserByEmail(String email);
 
+    Optional<User> findUserByEmail(String email);
+
     void save(User user);
 
+    void updatePassword(UUID id, String encodedPassword);
+
     UserResponseDto getUserById(UUID id);
 }
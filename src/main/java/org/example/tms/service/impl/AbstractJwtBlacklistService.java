@@ -0,0 +1,70 @@
+package org.example.tms.service.impl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.service.JwtBlacklistService;
+import org.example.tms.service.JwtService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Base class of the {@link JwtBlacklistService} backends.
+ * Derives how long a token has to be remembered from its {@code exp} claim and the fixed-size key it is stored under.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public abstract class AbstractJwtBlacklistService implements JwtBlacklistService {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtService jwtService;
+
+    /**
+     * Adds a JWT token to the blacklist until the token itself expires.
+     * Tokens that have already expired are not stored, they are rejected by signature verification anyway.
+     * Tokens that can't be parsed or whose signature doesn't verify are not stored either: only tokens this
+     * application issued can be revoked, so garbage submitted by a caller can't crowd out real revocations.
+     *
+     * @param token the JWT token to blacklist
+     */
+    @Override
+    public void addTokenToBlacklist(String token) {
+        Optional<Instant> expiresAt;
+        try {
+            expiresAt = jwtService.parseAccessToken(token)
+                    .map(Claims::getExpiration)
+                    .map(Date::toInstant);
+        } catch (JwtException e) {
+            log.warn("Not blacklisting a token that can't be verified: {}", e.getMessage());
+            return;
+        }
+
+        expiresAt.ifPresent(expiration -> addTokenToBlacklist(token, expiration));
+    }
+
+    /**
+     * Computes the fixed-size key a token is stored under.
+     *
+     * @param token the JWT token
+     * @return the Base64-encoded SHA-256 digest of the token
+     */
+    protected String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder()
+                    .withoutPadding()
+                    .encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
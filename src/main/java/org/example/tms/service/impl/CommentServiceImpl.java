@@ -1,9 +1,11 @@
 package org.example.tms.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.example.tms.aspect.logging.annotation.Audited;
 import org.example.tms.aspect.logging.annotation.ExecutionTime;
 import org.example.tms.dto.requests.create.CreateCommentRequestDto;
 import org.example.tms.dto.responses.CommentResponseDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
 import org.example.tms.exception.CommentNotFoundException;
 import org.example.tms.exception.EntitySaveException;
 import org.example.tms.mapper.CommentMapper;
@@ -11,18 +13,24 @@ import org.example.tms.model.Comment;
 import org.example.tms.model.Task;
 import org.example.tms.model.User;
 import org.example.tms.repository.CommentRepository;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.service.CommentService;
 import org.example.tms.service.TaskService;
-import org.example.tms.service.UserService;
 import org.example.tms.util.CurrentUserUtil;
+import org.example.tms.util.CursorPageUtil;
+import org.example.tms.util.ETagUtil;
+import org.example.tms.util.KeysetCursor;
 import org.example.tms.validator.PermissionValidator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.example.tms.exception.EntitySaveException.ErrorType;
 
@@ -33,45 +41,88 @@ import static org.example.tms.exception.EntitySaveException.ErrorType;
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
-    private final UserService userService;
     private final TaskService taskService;
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
     private final PermissionValidator permissionValidator;
+    private final EntityResolver entityResolver;
 
     /**
-     * Retrieves a comment by its ID.
+     * Retrieves a comment by its ID, unless the client's copy is still current.
+     * Comments cannot be edited, so the entity tag is derived from the ID and creation time alone.
+     * A comment already resolved by a validator during the current request is returned without another query.
      *
-     * @param id the UUID of the comment
-     * @return the corresponding {@link CommentResponseDto}
+     * @param id          the UUID of the comment
+     * @param notModified checks the entity tag of the comment against the request, e.g.
+     *                    {@code WebRequest::checkNotModified}
+     * @return the corresponding {@link CommentResponseDto}, or empty if the comment is not modified
      * @throws CommentNotFoundException if no comment is found with the given ID
      */
     @Override
     @ExecutionTime
     @Transactional(readOnly = true)
-    public CommentResponseDto getCommentById(UUID id) {
-        return commentRepository.findById(id)
-                .map(commentMapper::toCommentResponseDto)
+    public Optional<CommentResponseDto> getCommentById(UUID id, Predicate<String> notModified) {
+        Comment comment = entityResolver.findResolved(Comment.class, id)
+                .or(() -> commentRepository.findById(id))
                 .orElseThrow(() -> new CommentNotFoundException(id));
+        if (notModified.test(ETagUtil.eTag(comment.getId(), comment.getCreatedAt()))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(commentMapper.toCommentResponseDto(comment));
     }
 
     /**
-     * Retrieves a paginated list of comments for a specific task.
+     * Retrieves a paginated list of comments for a specific task, unless the client's copy is still current.
+     * Adding or deleting a comment increments the version of its task, so the entity tag is derived from
+     * the task and checked before the comments are loaded.
      *
-     * @param taskId   the UUID of the task
-     * @param pageable pagination information
-     * @return a paginated list of {@link CommentResponseDto}
+     * @param taskId      the UUID of the task
+     * @param pageable    pagination information
+     * @param notModified checks the entity tag of the page against the request, e.g.
+     *                    {@code WebRequest::checkNotModified}
+     * @return a paginated list of {@link CommentResponseDto}, or empty if the page is not modified
      */
     @Override
     @ExecutionTime
     @Transactional(readOnly = true)
-    public Page<CommentResponseDto> getCommentsByTaskId(UUID taskId, Pageable pageable) {
-        return commentRepository.findAllByTask_Id(taskId, pageable)
-                .map(commentMapper::toCommentResponseDto);
+    public Optional<Page<CommentResponseDto>> getCommentsByTaskId(UUID taskId, Pageable pageable,
+                                                                  Predicate<String> notModified) {
+        Task task = taskService.getTaskEntityById(taskId);
+        if (notModified.test(ETagUtil.eTag(task.getId(), task.getVersion()))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(commentRepository.findAllByTask_Id(taskId, pageable)
+                .map(commentMapper::toCommentResponseDto));
+    }
+
+    /**
+     * Retrieves a page of comments for a specific task using keyset pagination, newest first.
+     *
+     * @param taskId       the UUID of the task
+     * @param cursor       the position after which the page starts
+     * @param size         the maximum number of comments in the page
+     * @param includeTotal whether the total number of comments should be counted
+     * @return a {@link CursorPageResponseDto} of {@link CommentResponseDto}
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> scrollCommentsByTaskId(UUID taskId, KeysetCursor cursor,
+                                                                            int size, boolean includeTotal) {
+        List<Comment> comments = commentRepository.findAllByTaskIdAfter(taskId, cursor.createdAt(), cursor.id(),
+                PageRequest.ofSize(size + 1));
+        Long totalElements = includeTotal ? commentRepository.countByTask_Id(taskId) : null;
+
+        return CursorPageUtil.toCursorPage(comments, size,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()),
+                commentMapper::toCommentResponseDto, totalElements);
     }
 
     /**
      * Adds a new comment to a task.
+     * The author is the current User, whose entity comes with the authentication, so it is not loaded again.
      *
      * @param request the {@link CreateCommentRequestDto} containing comment details
      * @return the saved {@link CommentResponseDto}
@@ -79,19 +130,22 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Transactional
+    @Audited
     public CommentResponseDto addComment(CreateCommentRequestDto request) {
         Task task = taskService.getTaskEntityById(request.getTaskId());
-        User author = userService.getUserEntityById(CurrentUserUtil.getCurrentUser()
-                .getId());
+        User author = CurrentUserUtil.getCurrentUser();
 
         permissionValidator.validateAssigneePermission(author, task);
 
-        Comment comment = buildCommentEntity(request, CurrentUserUtil.getCurrentUser());
+        Comment comment = buildCommentEntity(request, author, task);
 
-        return Optional.of(comment)
+        CommentResponseDto response = Optional.of(comment)
                 .map(commentRepository::save)
                 .map(commentMapper::toCommentResponseDto)
                 .orElseThrow(() -> new EntitySaveException(ErrorType.COMMENT_SAVE_ERROR));
+        taskService.updateCommentCount(request.getTaskId(), 1);
+
+        return response;
     }
 
     /**
@@ -102,6 +156,7 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Transactional
+    @Audited
     public void deleteComment(UUID id) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new CommentNotFoundException(id));
@@ -110,20 +165,23 @@ public class CommentServiceImpl implements CommentService {
         permissionValidator.validateCommentOwnershipOrAdmin(author, comment);
 
         commentRepository.delete(comment);
+        taskService.updateCommentCount(comment.getTask()
+                .getId(), -1);
     }
 
     /**
-     * Builds a {@link Comment} entity from the request DTO and the current User.
+     * Builds a {@link Comment} entity from the request DTO, its author and the task it belongs to.
      *
-     * @param request     the {@link CreateCommentRequestDto} containing comment details
-     * @param currentUser the current logged-in {@link User}
+     * @param request the {@link CreateCommentRequestDto} containing comment details
+     * @param author  the {@link User} writing the comment
+     * @param task    the {@link Task} being commented on
      * @return the constructed {@link Comment} entity
      */
-    private Comment buildCommentEntity(CreateCommentRequestDto request, User currentUser) {
+    private Comment buildCommentEntity(CreateCommentRequestDto request, User author, Task task) {
         return Comment.builder()
                 .content(request.getContent())
-                .author(userService.getUserEntityById(currentUser.getId()))
-                .task(taskService.getTaskEntityById(request.getTaskId()))
+                .author(author)
+                .task(task)
                 .build();
     }
 }
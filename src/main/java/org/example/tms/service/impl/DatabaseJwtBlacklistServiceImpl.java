@@ -0,0 +1,160 @@
+package org.example.tms.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.model.RevokedToken;
+import org.example.tms.repository.RevokedTokenRepository;
+import org.example.tms.service.JwtService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Service implementation for managing a blacklist of JWT tokens shared by all instances of the application.
+ * Used when {@code jwt.blacklist.store=database}.
+ * <p>
+ * Revocations are persisted in the {@code revoked_token} table, so they survive restarts. Checks never hit the
+ * database: every instance keeps a near-cache of all active revocations, expiring each entry together with its token.
+ * The cache is deliberately not bounded by size: it is only refreshed with the rows revoked since the previous poll,
+ * so an entry evicted early would never be reloaded and its revoked token would be accepted again. Only verified
+ * tokens are revoked, which bounds it by the tokens issued within one access token lifetime.
+ * The cache is refreshed from the table every {@code jwt.blacklist.poll-interval}; rows revoked since the previous
+ * poll are read with an overlap, so rows committed late are not missed.
+ * <p>
+ * Timestamps are stored as UTC in the {@code TIMESTAMP} columns, so instances in different time zones agree on them.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "jwt.blacklist", name = "store", havingValue = "database")
+public class DatabaseJwtBlacklistServiceImpl extends AbstractJwtBlacklistService {
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Cache<String, Instant> nearCache;
+    private volatile LocalDateTime watermark = INITIAL_WATERMARK;
+
+    /**
+     * Expires each near-cache entry at the expiration time of its token.
+     */
+    private static class TokenExpiry implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String digest, Instant expiresAt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt)
+                    .toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Instant expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    public DatabaseJwtBlacklistServiceImpl(JwtService jwtService, RevokedTokenRepository revokedTokenRepository,
+                                           MeterRegistry meterRegistry) {
+        super(jwtService);
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfter(new TokenExpiry())
+                .build();
+
+        Gauge.builder("jwt.blacklist.size", nearCache, Cache::estimatedSize)
+                .description("Number of blacklisted tokens kept in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Persists the revocation and adds it to the local near-cache, so it applies on this instance immediately.
+     *
+     * @param token     the JWT token to blacklist
+     * @param expiresAt the moment after which the token no longer needs to be remembered
+     */
+    @Override
+    public void addTokenToBlacklist(String token, Instant expiresAt) {
+        String digest = digest(token);
+
+        revokedTokenRepository.insertIfAbsent(digest, toUtc(expiresAt), toUtc(Instant.now()));
+        nearCache.put(digest, expiresAt);
+    }
+
+    /**
+     * Checks if a JWT token is blacklisted using the near-cache only.
+     *
+     * @param token the JWT token to check
+     * @return {@code true} if the token is blacklisted, {@code false} otherwise
+     */
+    @Override
+    public boolean isTokenBlacklisted(String token) {
+        Instant expiresAt = nearCache.getIfPresent(digest(token));
+
+        return expiresAt != null && !expiresAt.isBefore(Instant.now());
+    }
+
+    /**
+     * Loads the revocations made since the previous poll, including those made by other instances.
+     * Runs every {@code jwt.blacklist.poll-interval}, the first run loads all active revocations.
+     *
+     * @return the number of revocations read from the table
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.poll-interval:PT5S}")
+    public int refreshFromStore() {
+        LocalDateTime revokedAfter = watermark == INITIAL_WATERMARK ? INITIAL_WATERMARK
+                : watermark.minus(POLL_OVERLAP);
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findActiveRevokedAfter(revokedAfter,
+                toUtc(Instant.now()));
+
+        for (RevokedToken revokedToken : revokedTokens) {
+            nearCache.put(revokedToken.getTokenDigest(), revokedToken.getExpiresAt()
+                    .toInstant(ZoneOffset.UTC));
+
+            if (revokedToken.getRevokedAt()
+                    .isAfter(watermark)) {
+                watermark = revokedToken.getRevokedAt();
+            }
+        }
+
+        return revokedTokens.size();
+    }
+
+    /**
+     * Deletes expired revocations from the table and the near-cache. Runs every {@code jwt.blacklist.sweep-interval}.
+     *
+     * @return the number of rows deleted from the table
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sweep-interval:PT1M}",
+            initialDelayString = "${jwt.blacklist.sweep-interval:PT1M}")
+    public int removeExpiredTokens() {
+        nearCache.cleanUp();
+        int removed = revokedTokenRepository.deleteExpired(toUtc(Instant.now()));
+        log.debug("Removed {} expired tokens from the revoked_token table", removed);
+
+        return removed;
+    }
+
+    /**
+     * Converts an instant to the UTC wall-clock time stored in the {@code TIMESTAMP} columns.
+     *
+     * @param instant the instant
+     * @return the UTC date-time
+     */
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -1,49 +1,149 @@
 package org.example.tms.service.impl;
 
-import lombok.RequiredArgsConstructor;
-import org.example.tms.service.JwtBlacklistService;
-import org.example.tms.util.ConstantUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.properties.JwtBlacklistProperties;
+import org.example.tms.service.JwtService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Service implementation for managing a blacklist of JWT tokens.
- * Provides functionality to blacklist tokens and check their status.
+ * Service implementation for managing a blacklist of JWT tokens in memory.
+ * Provides functionality to blacklist tokens and check their status. Used when {@code jwt.blacklist.store=memory},
+ * revocations are local to the instance and lost on restart.
+ * <p>
+ * Tokens are stored as fixed-size SHA-256 digests and expire together with the token itself, as read from its
+ * {@code exp} claim. Expired entries are removed by a scheduled sweep. Only verified tokens are ever stored, so the
+ * number of entries is bounded by the tokens issued within one access token lifetime; above
+ * {@code jwt.blacklist.maximum-size} expired entries are swept early, but an active revocation is never evicted.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class JwtBlacklistServiceImpl implements JwtBlacklistService {
-
+@ConditionalOnProperty(prefix = "jwt.blacklist", name = "store", havingValue = "memory", matchIfMissing = true)
+public class JwtBlacklistServiceImpl extends AbstractJwtBlacklistService {
+    private final JwtBlacklistProperties jwtBlacklistProperties;
     private final Map<String, Long> tokenBlacklist = new ConcurrentHashMap<>();
+    private final NavigableSet<BlacklistEntry> expirationIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(BlacklistEntry::expiresAtMillis)
+                    .thenComparing(BlacklistEntry::digest));
+    private final AtomicBoolean aboveMaximumSize = new AtomicBoolean();
+    private final Counter expiredEvictions;
+
+    /**
+     * Blacklisted token digest together with the moment it can be forgotten.
+     *
+     * @param expiresAtMillis the expiration time of the token in epoch milliseconds
+     * @param digest          the Base64-encoded SHA-256 digest of the token
+     */
+    private record BlacklistEntry(long expiresAtMillis, String digest) {
+    }
+
+    public JwtBlacklistServiceImpl(JwtService jwtService, JwtBlacklistProperties jwtBlacklistProperties,
+                                   MeterRegistry meterRegistry) {
+        super(jwtService);
+        this.jwtBlacklistProperties = jwtBlacklistProperties;
+
+        Gauge.builder("jwt.blacklist.size", tokenBlacklist, Map::size)
+                .description("Number of blacklisted tokens kept in memory")
+                .register(meterRegistry);
+        this.expiredEvictions = Counter.builder("jwt.blacklist.evictions")
+                .description("Blacklisted tokens removed from memory")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+    }
 
     /**
-     * Adds a JWT token to the blacklist with an expiration time.
+     * Adds a JWT token to the blacklist until the given expiration time.
      *
-     * @param token the JWT token to blacklist
+     * @param token     the JWT token to blacklist
+     * @param expiresAt the moment after which the token no longer needs to be remembered
      */
     @Override
-    public void addTokenToBlacklist(String token) {
-        tokenBlacklist.put(token, System.currentTimeMillis() + TimeUnit.HOURS.toMillis(ConstantUtil.TIME_OUT));
+    public void addTokenToBlacklist(String token, Instant expiresAt) {
+        String digest = digest(token);
+        long expiresAtMillis = expiresAt.toEpochMilli();
+
+        Long previousExpiration = tokenBlacklist.put(digest, expiresAtMillis);
+        if (previousExpiration != null && previousExpiration != expiresAtMillis) {
+            expirationIndex.remove(new BlacklistEntry(previousExpiration, digest));
+        }
+        expirationIndex.add(new BlacklistEntry(expiresAtMillis, digest));
+
+        enforceMaximumSize();
     }
 
     /**
      * Checks if a JWT token is blacklisted.
-     * If the token's expiration time has passed, it is removed from the blacklist.
+     * Entries whose expiration time has passed are treated as absent until the next sweep removes them.
      *
      * @param token the JWT token to check
      * @return {@code true} if the token is blacklisted, {@code false} otherwise
      */
     @Override
     public boolean isTokenBlacklisted(String token) {
-        Long expirationTime = tokenBlacklist.get(token);
+        Long expirationTime = tokenBlacklist.get(digest(token));
+
+        return expirationTime != null && expirationTime >= System.currentTimeMillis();
+    }
+
+    /**
+     * Removes all expired entries from the blacklist. Runs every {@code jwt.blacklist.sweep-interval}.
+     *
+     * @return the number of removed entries
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sweep-interval:PT1M}",
+            initialDelayString = "${jwt.blacklist.sweep-interval:PT1M}")
+    public int removeExpiredTokens() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+
+        for (BlacklistEntry entry : expirationIndex) {
+            if (entry.expiresAtMillis() >= now) {
+                break;
+            }
+
+            if (expirationIndex.remove(entry) && tokenBlacklist.remove(entry.digest(), entry.expiresAtMillis())) {
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            expiredEvictions.increment(removed);
+            log.debug("Removed {} expired tokens from the blacklist", removed);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Sweeps expired entries early while the blacklist is above its maximum size.
+     * Active revocations are kept even if the blacklist stays above it, forgetting one would let a revoked token in;
+     * the warning is logged once each time the blacklist grows past the maximum size.
+     */
+    private void enforceMaximumSize() {
+        int maximumSize = jwtBlacklistProperties.getMaximumSize();
+        if (tokenBlacklist.size() <= maximumSize) {
+            aboveMaximumSize.set(false);
+            return;
+        }
+
+        removeExpiredTokens();
 
-        if (expirationTime != null && expirationTime < System.currentTimeMillis()) {
-            tokenBlacklist.remove(token);
-            return false;
+        if (tokenBlacklist.size() > maximumSize && !aboveMaximumSize.getAndSet(true)) {
+            log.warn("Blacklist holds {} active revocations, above its maximum size of {}", tokenBlacklist.size(),
+                    maximumSize);
         }
-        return expirationTime != null;
     }
 }
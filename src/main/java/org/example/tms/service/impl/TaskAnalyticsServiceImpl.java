@@ -0,0 +1,134 @@
+package org.example.tms.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.aspect.logging.annotation.ExecutionTime;
+import org.example.tms.dto.requests.TaskAnalyticsRequestDto;
+import org.example.tms.dto.responses.TaskAnalyticsDayDto;
+import org.example.tms.dto.responses.TaskAnalyticsResponseDto;
+import org.example.tms.model.Task;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.repository.TaskAnalyticsRepository;
+import org.example.tms.repository.TaskDailyCounts;
+import org.example.tms.repository.TaskStatusEvent;
+import org.example.tms.service.TaskAnalyticsService;
+import org.example.tms.util.ConstantUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service implementation for the task throughput analytics.
+ * <p>
+ * Task creations and status changes are recorded as events in the transaction that makes them. A scheduled
+ * aggregator folds the events recorded since its last run into daily rollups by User and priority every
+ * {@code task.analytics.rollup-interval}, so queries read one row per day however many tasks there are.
+ * Events reach the analytics with the next rollup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskAnalyticsServiceImpl implements TaskAnalyticsService {
+    private final TaskAnalyticsRepository taskAnalyticsRepository;
+
+    /**
+     * Retrieves the number of created and completed tasks and the average cycle time per day.
+     *
+     * @param request the range of days and the optional User and priority to narrow the counts to
+     * @return a {@link TaskAnalyticsResponseDto} with an entry for every day of the range that has events
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public TaskAnalyticsResponseDto getTaskAnalytics(TaskAnalyticsRequestDto request) {
+        List<TaskAnalyticsDayDto> days = taskAnalyticsRepository.findDailyCounts(request.getFrom(), request.getTo(),
+                        request.getUserId(), request.getPriority())
+                .stream()
+                .map(TaskAnalyticsServiceImpl::toTaskAnalyticsDayDto)
+                .toList();
+
+        return TaskAnalyticsResponseDto.builder()
+                .from(request.getFrom())
+                .to(request.getTo())
+                .userId(request.getUserId())
+                .priority(request.getPriority())
+                .days(days)
+                .build();
+    }
+
+    /**
+     * Records the creation of tasks, credited to their authors. Must be called once the tasks are persisted.
+     *
+     * @param tasks the created tasks
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTasksCreated(List<Task> tasks) {
+        taskAnalyticsRepository.insertEvents(tasks.stream()
+                .map(task -> new TaskStatusEvent(task.getId(), task.getAuthor()
+                        .getId(), task.getPriority(), null, task.getStatus(), task.getCreatedAt(),
+                        task.getCreatedAt()))
+                .toList());
+    }
+
+    /**
+     * Records a change of the status of a task. Nothing is recorded if the status is unchanged.
+     *
+     * @param task           the updated task
+     * @param previousStatus the status of the task before the update
+     * @param userId         the unique identifier of the User who updated the task
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Task task, TaskStatus previousStatus, UUID userId) {
+        if (previousStatus == task.getStatus()) {
+            return;
+        }
+
+        taskAnalyticsRepository.insertEvents(List.of(new TaskStatusEvent(task.getId(), userId, task.getPriority(),
+                previousStatus, task.getStatus(), LocalDateTime.now(), task.getCreatedAt())));
+    }
+
+    /**
+     * Rolls up the events recorded since the last rollup. Runs every {@code task.analytics.rollup-interval}.
+     * The highest committed event ID is read first, in a separate short transaction, and the events up to it are
+     * rolled up without locking the event table, so new events never wait for the aggregation. Each run covers
+     * at most {@link ConstantUtil#MAX_ROLLUP_EVENTS} event IDs; a larger backlog is caught up over the next runs.
+     *
+     * @return the ID of the last event rolled up
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${task.analytics.rollup-interval:PT1M}",
+            initialDelayString = "${task.analytics.rollup-interval:PT1M}")
+    public long rollUp() {
+        long lastCommittedEventId = taskAnalyticsRepository.findLastCommittedEventId();
+        long watermark = taskAnalyticsRepository.lockWatermark(ConstantUtil.TASK_DAILY_ROLLUP);
+        if (lastCommittedEventId <= watermark) {
+            return watermark;
+        }
+
+        long lastEventId = Math.min(lastCommittedEventId, watermark + ConstantUtil.MAX_ROLLUP_EVENTS);
+        taskAnalyticsRepository.rollUp(watermark, lastEventId);
+        taskAnalyticsRepository.updateWatermark(ConstantUtil.TASK_DAILY_ROLLUP, lastEventId);
+        log.debug("Rolled up task events {} to {}", watermark + 1, lastEventId);
+
+        return lastEventId;
+    }
+
+    private static TaskAnalyticsDayDto toTaskAnalyticsDayDto(TaskDailyCounts counts) {
+        return TaskAnalyticsDayDto.builder()
+                .day(counts.day())
+                .createdCount(counts.createdCount())
+                .completedCount(counts.completedCount())
+                .averageCycleTimeSeconds(counts.completedCount() > 0
+                        ? counts.cycleTimeSeconds() / counts.completedCount()
+                        : null)
+                .build();
+    }
+}
@@ -1,20 +1,33 @@
 package org.example.tms.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.example.tms.aspect.logging.annotation.Audited;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskAssigneeRequestDto;
 import org.example.tms.dto.responses.TaskAssigneeResponseDto;
 import org.example.tms.exception.TaskAssigneeNotFoundException;
+import org.example.tms.exception.TaskNotFoundException;
+import org.example.tms.exception.UserNotFoundException;
 import org.example.tms.mapper.TaskAssigneeMapper;
+import org.example.tms.model.Task;
 import org.example.tms.model.TaskAssignee;
+import org.example.tms.model.User;
+import org.example.tms.repository.EntityBatchWriter;
 import org.example.tms.repository.TaskAssigneeRepository;
 import org.example.tms.service.TaskAssigneeService;
 import org.example.tms.service.TaskService;
+import org.example.tms.service.TaskStatsService;
 import org.example.tms.service.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Service implementation for managing task assignments to Users.
@@ -27,6 +40,8 @@ public class TaskAssigneeServiceImpl implements TaskAssigneeService {
     private final TaskService taskService;
     private final TaskAssigneeMapper taskAssigneeMapper;
     private final TaskAssigneeRepository taskAssigneeRepository;
+    private final EntityBatchWriter entityBatchWriter;
+    private final TaskStatsService taskStatsService;
 
     /**
      * Assigns a task to a User based on the provided request data.
@@ -37,8 +52,12 @@ public class TaskAssigneeServiceImpl implements TaskAssigneeService {
      */
     @Override
     @Transactional
+    @Audited
     public TaskAssigneeResponseDto assignTaskToUser(CreateTaskAssigneeRequestDto request) {
-        TaskAssignee taskAssignee = buildTaskAssigneeEntity(request);
+        TaskAssignee taskAssignee = buildTaskAssigneeEntity(taskService.getTaskEntityById(request.getTaskId()),
+                userService.getUserEntityById(request.getAssigneeId()), request.getAssignedAt());
+        taskService.incrementVersions(List.of(request.getTaskId()));
+        taskStatsService.recordAssignments(List.of(Map.entry(request.getTaskId(), request.getAssigneeId())));
 
         return Optional.of(taskAssignee)
                 .map(taskAssigneeRepository::save)
@@ -47,16 +66,74 @@ public class TaskAssigneeServiceImpl implements TaskAssigneeService {
     }
 
     /**
-     * Builds a {@link TaskAssignee} entity from the provided request data.
+     * Assigns tasks to Users in bulk. The inserts are sent in JDBC batches of {@code spring.jpa.batch.size} rows.
+     * The tasks of the batch are checked with a single query and referenced without being loaded. The assignees
+     * are loaded with a single query, as the responses include them.
      *
-     * @param request the request data containing task and assignee details
+     * @param assignments the assignments containing task and assignee details
+     * @return the {@link TaskAssigneeResponseDto}s of the assignments, in the order of {@code assignments}
+     * @throws TaskNotFoundException if a task of the batch is not found
+     * @throws UserNotFoundException if an assignee of the batch is not found
+     */
+    @Override
+    @Transactional
+    @Audited
+    public List<TaskAssigneeResponseDto> assignTasksToUsers(
+            List<CreateTaskAssigneeBatchRequestDto.Assignment> assignments) {
+        List<UUID> taskIds = distinctIds(assignments, CreateTaskAssigneeBatchRequestDto.Assignment::getTaskId);
+        Set<UUID> existingTaskIds = taskService.findExistingTaskIds(taskIds);
+        taskIds.stream()
+                .filter(taskId -> !existingTaskIds.contains(taskId))
+                .findFirst()
+                .ifPresent(taskId -> {
+                    throw new TaskNotFoundException(taskId);
+                });
+
+        List<UUID> assigneeIds = distinctIds(assignments,
+                CreateTaskAssigneeBatchRequestDto.Assignment::getAssigneeId);
+        Map<UUID, User> assignees = userService.getUserEntitiesByIds(assigneeIds);
+        assigneeIds.stream()
+                .filter(assigneeId -> !assignees.containsKey(assigneeId))
+                .findFirst()
+                .ifPresent(assigneeId -> {
+                    throw new UserNotFoundException(assigneeId);
+                });
+
+        List<TaskAssignee> taskAssignees = assignments.stream()
+                .map(assignment -> buildTaskAssigneeEntity(taskService.getTaskReferenceById(assignment.getTaskId()),
+                        assignees.get(assignment.getAssigneeId()), assignment.getAssignedAt()))
+                .toList();
+        taskService.incrementVersions(assignments.stream()
+                .map(CreateTaskAssigneeBatchRequestDto.Assignment::getTaskId)
+                .toList());
+        taskStatsService.recordAssignments(assignments.stream()
+                .map(assignment -> Map.entry(assignment.getTaskId(), assignment.getAssigneeId()))
+                .toList());
+
+        return entityBatchWriter.persistAll(taskAssignees, taskAssigneeMapper::toTaskAssigneeResponseDto);
+    }
+
+    /**
+     * Builds a {@link TaskAssignee} entity from the provided task and assignee details.
+     *
+     * @param task       the task being assigned
+     * @param assignee   the User the task is assigned to
+     * @param assignedAt the time of the assignment, or {@code null} for now
      * @return the constructed {@link TaskAssignee} entity
      */
-    private TaskAssignee buildTaskAssigneeEntity(CreateTaskAssigneeRequestDto request) {
+    private TaskAssignee buildTaskAssigneeEntity(Task task, User assignee, LocalDateTime assignedAt) {
         return TaskAssignee.builder()
-                .task(taskService.getTaskEntityById(request.getTaskId()))
-                .assignee(userService.getUserEntityById(request.getAssigneeId()))
-                .assignedAt(request.getAssignedAt() != null ? request.getAssignedAt() : LocalDateTime.now())
+                .task(task)
+                .assignee(assignee)
+                .assignedAt(assignedAt != null ? assignedAt : LocalDateTime.now())
                 .build();
     }
+
+    private static List<UUID> distinctIds(List<CreateTaskAssigneeBatchRequestDto.Assignment> assignments,
+                                          Function<CreateTaskAssigneeBatchRequestDto.Assignment, UUID> id) {
+        return assignments.stream()
+                .map(id)
+                .distinct()
+                .toList();
+    }
 }
@@ -0,0 +1,160 @@
+package org.example.tms.service.impl;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.tms.aspect.logging.annotation.Audited;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+import org.example.tms.dto.responses.TaskImportErrorDto;
+import org.example.tms.dto.responses.TaskImportResponseDto;
+import org.example.tms.importer.TaskImportReader;
+import org.example.tms.importer.TaskImportRow;
+import org.example.tms.repository.TaskImportRepository;
+import org.example.tms.repository.TaskStatsKey;
+import org.example.tms.service.TaskImportService;
+import org.example.tms.service.TaskStatsService;
+import org.example.tms.service.UserService;
+import org.example.tms.util.ConstantUtil;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for importing tasks in bulk.
+ * Rows are read and validated in batches, staged with {@code COPY} and merged into the task table
+ * in the same transaction. Invalid rows are skipped and reported by line.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+    private final Validator validator;
+    private final UserService userService;
+    private final TaskImportRepository taskImportRepository;
+    private final TaskStatsService taskStatsService;
+
+    /**
+     * Imports all valid rows of the given reader.
+     * Rows are validated in batches of {@value ConstantUtil#IMPORT_BATCH_SIZE}, checking the existence of
+     * all authors of a batch with one query, so only a batch is held in memory at any time.
+     *
+     * @param reader the reader of the uploaded rows
+     * @return a {@link TaskImportResponseDto} with the number of imported and rejected rows and the first
+     * {@value ConstantUtil#MAX_IMPORT_ERRORS} errors
+     * @throws IOException if reading the upload fails
+     */
+    @Override
+    @Transactional
+    @Audited
+    public TaskImportResponseDto importTasks(TaskImportReader reader) throws IOException {
+        taskImportRepository.createStagingTable();
+
+        var report = new ImportReport();
+        Map<UUID, Boolean> authorExists = new HashMap<>();
+        List<TaskImportRow> batch = new ArrayList<>(ConstantUtil.IMPORT_BATCH_SIZE);
+
+        TaskImportRow row;
+        while ((row = reader.next()) != null) {
+            batch.add(row);
+            if (batch.size() == ConstantUtil.IMPORT_BATCH_SIZE) {
+                stageBatch(batch, authorExists, report);
+                batch.clear();
+            }
+        }
+        stageBatch(batch, authorExists, report);
+
+        int importedCount = taskImportRepository.mergeStagingTable();
+        taskStatsService.recordTasksCreated(report.importedCounts);
+
+        return TaskImportResponseDto.builder()
+                .importedCount(importedCount)
+                .rejectedCount(report.rejectedCount)
+                .errors(report.errors)
+                .build();
+    }
+
+    private void stageBatch(List<TaskImportRow> batch, Map<UUID, Boolean> authorExists, ImportReport report) {
+        List<TaskImportRow> validRows = new ArrayList<>(batch.size());
+        for (TaskImportRow row : batch) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                report.reject(row.line(), error);
+            } else {
+                validRows.add(row);
+            }
+        }
+
+        resolveAuthors(validRows, authorExists);
+
+        List<TaskImportRow> stagedRows = new ArrayList<>(validRows.size());
+        for (TaskImportRow row : validRows) {
+            UUID authorId = row.request()
+                    .getAuthorId();
+            if (authorExists.get(authorId)) {
+                stagedRows.add(row);
+                report.stage(row.request());
+            } else {
+                report.reject(row.line(), "authorId: User with ID " + authorId + " not found");
+            }
+        }
+
+        taskImportRepository.copyToStagingTable(stagedRows);
+    }
+
+    /**
+     * Looks up the authors of the batch that were not seen in earlier batches with a single query.
+     */
+    private void resolveAuthors(List<TaskImportRow> rows, Map<UUID, Boolean> authorExists) {
+        Set<UUID> unresolvedIds = rows.stream()
+                .map(row -> row.request()
+                        .getAuthorId())
+                .filter(authorId -> !authorExists.containsKey(authorId))
+                .collect(Collectors.toSet());
+        if (unresolvedIds.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> existingIds = userService.findExistingUserIds(unresolvedIds);
+        unresolvedIds.forEach(authorId -> authorExists.put(authorId, existingIds.contains(authorId)));
+    }
+
+    private String validate(ImportTaskRequestDto request) {
+        Set<ConstraintViolation<ImportTaskRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Counts staged rows by status and priority and rejected rows, and keeps the errors of the first
+     * {@value ConstantUtil#MAX_IMPORT_ERRORS} of them.
+     */
+    private static final class ImportReport {
+        private final Map<TaskStatsKey, Long> importedCounts = new HashMap<>();
+        private final List<TaskImportErrorDto> errors = new ArrayList<>();
+        private int rejectedCount;
+
+        private void stage(ImportTaskRequestDto request) {
+            importedCounts.merge(new TaskStatsKey(request.getStatus(), request.getPriority()), 1L, Long::sum);
+        }
+
+        private void reject(long line, String message) {
+            rejectedCount++;
+            if (errors.size() < ConstantUtil.MAX_IMPORT_ERRORS) {
+                errors.add(new TaskImportErrorDto(line, message));
+            }
+        }
+    }
+}
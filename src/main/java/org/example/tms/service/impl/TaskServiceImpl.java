@@ -1,31 +1,67 @@
 package org.example.tms.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.tms.aspect.logging.annotation.Audited;
 import org.example.tms.aspect.logging.annotation.ExecutionTime;
+import org.example.tms.dto.requests.TaskFilterRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskRequestDto;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
 import org.example.tms.dto.requests.update.UpdateTaskRequestDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
 import org.example.tms.dto.responses.TaskResponseDto;
 import org.example.tms.exception.EntitySaveException;
 import org.example.tms.exception.TaskNotFoundException;
+import org.example.tms.exception.UserNotFoundException;
+import org.example.tms.export.ExportFormat;
+import org.example.tms.export.TaskExportWriter;
 import org.example.tms.mapper.TaskMapper;
 import org.example.tms.model.Comment;
 import org.example.tms.model.Task;
 import org.example.tms.model.TaskAssignee;
 import org.example.tms.model.User;
 import org.example.tms.model.enums.UserRole;
+import org.example.tms.repository.EntityBatchWriter;
+import org.example.tms.repository.EntityResolver;
+import org.example.tms.repository.EntityStreamReader;
 import org.example.tms.repository.TaskRepository;
+import org.example.tms.repository.TaskSearchHit;
+import org.example.tms.repository.TaskStatsKey;
+import org.example.tms.repository.specification.TaskSpecifications;
+import org.example.tms.service.TaskAnalyticsService;
 import org.example.tms.service.TaskService;
+import org.example.tms.service.TaskStatsService;
 import org.example.tms.service.UserService;
+import org.example.tms.util.ConstantUtil;
+import org.example.tms.util.CursorPageUtil;
+import org.example.tms.util.ETagUtil;
+import org.example.tms.util.KeysetCursor;
+import org.example.tms.util.SearchCursor;
 import org.example.tms.validator.PermissionValidator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.example.tms.exception.EntitySaveException.ErrorType;
 
@@ -41,9 +77,17 @@ public class TaskServiceImpl implements TaskService {
     private final UserService userService;
     private final TaskRepository taskRepository;
     private final PermissionValidator permissionValidator;
+    private final EntityBatchWriter entityBatchWriter;
+    private final EntityStreamReader entityStreamReader;
+    private final ObjectMapper objectMapper;
+    private final TaskStatsService taskStatsService;
+    private final TaskAnalyticsService taskAnalyticsService;
+    private final EntityResolver entityResolver;
 
     /**
      * Retrieves a task entity by its ID.
+     * In a read-only transaction a task already resolved by a validator during the current request is returned
+     * without another query.
      *
      * @param id the unique identifier of the task
      * @return the {@link Task} entity
@@ -53,75 +97,263 @@ public class TaskServiceImpl implements TaskService {
     @ExecutionTime
     @Transactional(readOnly = true)
     public Task getTaskEntityById(UUID id) {
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+        return findTask(id);
     }
 
     /**
-     * Retrieves task details as a DTO by its ID.
+     * Returns a reference to a task without loading it, for tasks whose existence was already checked.
      *
      * @param id the unique identifier of the task
-     * @return a {@link TaskResponseDto} containing task details
+     * @return a reference to the {@link Task}
+     */
+    @Override
+    public Task getTaskReferenceById(UUID id) {
+        return taskRepository.getReferenceById(id);
+    }
+
+    /**
+     * Finds which of the given IDs belong to existing tasks, with a single query.
+     *
+     * @param ids the IDs to check
+     * @return the IDs of existing tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> findExistingTaskIds(Collection<UUID> ids) {
+        return taskRepository.findExistingIds(ids);
+    }
+
+    /**
+     * Retrieves task details as a DTO by its ID, unless the client's copy is still current.
+     * The entity tag is derived from the version of the task row, so it is checked before the assignees
+     * and comments are loaded.
+     *
+     * @param id            the unique identifier of the task
+     * @param commentsLimit the number of latest comments to embed, or {@code null} to embed all comments
+     * @param notModified   checks the entity tag of the task against the request, e.g.
+     *                      {@code WebRequest::checkNotModified}
+     * @return a {@link TaskResponseDto} containing task details, or empty if the task is not modified
      * @throws TaskNotFoundException if the task is not found
      */
     @Override
     @ExecutionTime
     @Transactional(readOnly = true)
-    public TaskResponseDto getTaskById(UUID id) {
-        return taskRepository.findById(id)
-                .map(taskMapper::toTaskResponseDto)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+    public Optional<TaskResponseDto> getTaskById(UUID id, Integer commentsLimit, Predicate<String> notModified) {
+        Task task = findTask(id);
+        if (notModified.test(eTagOf(task))) {
+            return Optional.empty();
+        }
+        loadTaskAssociations(List.of(task), commentsLimit);
+
+        return Optional.of(taskMapper.toTaskResponseDto(task));
     }
 
     /**
      * Retrieves paginated tasks authored by a specific user.
      *
-     * @param authorId the unique identifier of the author
-     * @param pageable pagination information
-     * @return a {@link Page} of {@link TaskResponseDto}
+     * @param authorId      the unique identifier of the author
+     * @param pageable      pagination information
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @param notModified   checks the entity tag of the page against the request, e.g.
+     *                      {@code WebRequest::checkNotModified}
+     * @return a {@link Page} of {@link TaskResponseDto}, or empty if the page is not modified
      */
     @Override
     @ExecutionTime
     @Transactional(readOnly = true)
-    public Page<TaskResponseDto> getTasksByAuthor(UUID authorId, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findAllByAuthor_Id(authorId, pageable);
-        tasks.forEach(this::loadTaskAssociations);
-
-        return tasks.map(taskMapper::toTaskResponseDto);
+    public Optional<Page<TaskResponseDto>> getTasksByAuthor(UUID authorId, Pageable pageable, Integer commentsLimit,
+                                                            Predicate<String> notModified) {
+        return toConditionalPage(taskRepository.findAllByAuthor_Id(authorId, pageable), commentsLimit, notModified);
     }
 
     /**
      * Retrieves paginated tasks assigned to a specific user.
      *
-     * @param assigneeId the unique identifier of the assignee
-     * @param pageable   pagination information
-     * @return a {@link Page} of {@link TaskResponseDto}
+     * @param assigneeId    the unique identifier of the assignee
+     * @param pageable      pagination information
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @param notModified   checks the entity tag of the page against the request, e.g.
+     *                      {@code WebRequest::checkNotModified}
+     * @return a {@link Page} of {@link TaskResponseDto}, or empty if the page is not modified
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public Optional<Page<TaskResponseDto>> getTasksByAssignee(UUID assigneeId, Pageable pageable,
+                                                              Integer commentsLimit, Predicate<String> notModified) {
+        return toConditionalPage(taskRepository.findAllByTaskAssignees_Assignee_Id(assigneeId, pageable),
+                commentsLimit, notModified);
+    }
+
+    /**
+     * Retrieves all tasks with pagination support.
+     *
+     * @param pageable      pagination information
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @param notModified   checks the entity tag of the page against the request, e.g.
+     *                      {@code WebRequest::checkNotModified}
+     * @return a {@link Page} of {@link TaskResponseDto}, or empty if the page is not modified
      */
     @Override
     @ExecutionTime
     @Transactional(readOnly = true)
-    public Page<TaskResponseDto> getTasksByAssignee(UUID assigneeId, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findAllByTaskAssignees_Assignee_Id(assigneeId, pageable);
-        tasks.forEach(this::loadTaskAssociations);
+    public Optional<Page<TaskResponseDto>> getAllTasks(Pageable pageable, Integer commentsLimit,
+                                                       Predicate<String> notModified) {
+        return toConditionalPage(taskRepository.findAllWithDetails(pageable), commentsLimit, notModified);
+    }
 
-        return tasks.map(taskMapper::toTaskResponseDto);
+    /**
+     * Retrieves a page of tasks authored by a specific user using keyset pagination.
+     *
+     * @param authorId      the unique identifier of the author
+     * @param cursor        the position after which the page starts
+     * @param size          the maximum number of tasks in the page
+     * @param includeTotal  whether the total number of tasks should be counted
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @return a {@link CursorPageResponseDto} of {@link TaskResponseDto}
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<TaskResponseDto> scrollTasksByAuthor(UUID authorId, KeysetCursor cursor, int size,
+                                                                      boolean includeTotal, Integer commentsLimit) {
+        List<Task> tasks = taskRepository.findAllByAuthorIdAfter(authorId, cursor.createdAt(), cursor.id(),
+                PageRequest.ofSize(size + 1));
+        Long totalElements = includeTotal ? taskRepository.countByAuthor_Id(authorId) : null;
 
+        return toCursorPage(tasks, size, commentsLimit, totalElements);
     }
 
     /**
-     * Retrieves all tasks with pagination support.
+     * Retrieves a page of tasks assigned to a specific user using keyset pagination.
      *
-     * @param pageable pagination information
-     * @return a {@link Page} of {@link TaskResponseDto}
+     * @param assigneeId    the unique identifier of the assignee
+     * @param cursor        the position after which the page starts
+     * @param size          the maximum number of tasks in the page
+     * @param includeTotal  whether the total number of tasks should be counted
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @return a {@link CursorPageResponseDto} of {@link TaskResponseDto}
      */
     @Override
     @ExecutionTime
     @Transactional(readOnly = true)
-    public Page<TaskResponseDto> getAllTasks(Pageable pageable) {
-        Page<Task> tasks = taskRepository.findAllWithDetails(pageable);
-        tasks.forEach(this::loadTaskAssociations);
+    public CursorPageResponseDto<TaskResponseDto> scrollTasksByAssignee(UUID assigneeId, KeysetCursor cursor,
+                                                                        int size, boolean includeTotal,
+                                                                        Integer commentsLimit) {
+        List<Task> tasks = taskRepository.findAllByAssigneeIdAfter(assigneeId, cursor.createdAt(), cursor.id(),
+                PageRequest.ofSize(size + 1));
+        Long totalElements = includeTotal ? taskRepository.countByAssigneeId(assigneeId) : null;
+
+        return toCursorPage(tasks, size, commentsLimit, totalElements);
+    }
+
+    /**
+     * Retrieves a page of all tasks using keyset pagination.
+     *
+     * @param cursor        the position after which the page starts
+     * @param size          the maximum number of tasks in the page
+     * @param includeTotal  whether the total number of tasks should be counted
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @return a {@link CursorPageResponseDto} of {@link TaskResponseDto}
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<TaskResponseDto> scrollAllTasks(KeysetCursor cursor, int size, boolean includeTotal,
+                                                                 Integer commentsLimit) {
+        List<Task> tasks = taskRepository.findAllAfter(cursor.createdAt(), cursor.id(), PageRequest.ofSize(size + 1));
+        Long totalElements = includeTotal ? taskRepository.count() : null;
+
+        return toCursorPage(tasks, size, commentsLimit, totalElements);
+    }
+
+    /**
+     * Retrieves a page of the tasks matching all criteria of the given filter using keyset pagination.
+     * The criteria are combined into a single query, newest tasks first.
+     *
+     * @param filter        the filter criteria, criteria left empty are not applied
+     * @param cursor        the position after which the page starts
+     * @param size          the maximum number of tasks in the page
+     * @param includeTotal  whether the total number of matching tasks should be counted
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @return a {@link CursorPageResponseDto} of {@link TaskResponseDto}
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<TaskResponseDto> filterTasks(TaskFilterRequestDto filter, KeysetCursor cursor,
+                                                              int size, boolean includeTotal,
+                                                              Integer commentsLimit) {
+        Specification<Task> specification = TaskSpecifications.matching(filter);
+
+        List<Task> tasks = taskRepository.findBy(specification.and(TaskSpecifications.after(cursor)),
+                query -> query.sortBy(TaskSpecifications.KEYSET_ORDER)
+                        .limit(size + 1)
+                        .project("author")
+                        .all());
+        Long totalElements = includeTotal ? taskRepository.count(specification) : null;
+
+        return toCursorPage(tasks, size, commentsLimit, totalElements);
+    }
+
+    /**
+     * Searches the titles and descriptions of tasks and the content of their comments, best matches first,
+     * using keyset pagination over the relevance rank.
+     * Matches are found through the full-text indexes and only the tasks of the page are loaded.
+     *
+     * @param query         the search query in web search syntax, e.g. {@code "login bug" -mobile}
+     * @param cursor        the position after which the page starts
+     * @param size          the maximum number of tasks in the page
+     * @param includeTotal  whether the total number of matching tasks should be counted
+     * @param commentsLimit the number of latest comments to embed per task, or {@code null} to embed all comments
+     * @return a {@link CursorPageResponseDto} of {@link TaskResponseDto}
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<TaskResponseDto> searchTasks(String query, SearchCursor cursor, int size,
+                                                              boolean includeTotal, Integer commentsLimit) {
+        List<TaskSearchHit> hits = taskRepository.searchAfter(query, cursor.rank(), cursor.id(), size + 1);
+        Long totalElements = includeTotal ? taskRepository.countSearchMatches(query) : null;
+
+        Map<UUID, Task> tasks = fetchTasksWithAuthor(hits.subList(0, Math.min(size, hits.size()))
+                .stream()
+                .map(TaskSearchHit::getId)
+                .toList());
+        loadTaskAssociations(new ArrayList<>(tasks.values()), commentsLimit);
+
+        return CursorPageUtil.toCursorPage(hits, size, hit -> new SearchCursor(hit.getRank(), hit.getId()),
+                hit -> taskMapper.toTaskResponseDto(tasks.get(hit.getId())), totalElements);
+    }
+
+    /**
+     * Writes all tasks, newest first, to the given stream.
+     * Tasks are read through a forward-only database cursor and their associations are loaded
+     * and written in chunks of {@value ConstantUtil#EXPORT_CHUNK_SIZE} tasks, so memory use does not
+     * depend on the number of tasks.
+     *
+     * @param format       the format of the export
+     * @param outputStream the stream to write the export to, left open
+     * @throws IOException if writing to the stream fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(ExportFormat format, OutputStream outputStream) throws IOException {
+        Integer commentsLimit = format.isIncludesComments() ? null : 0;
 
-        return tasks.map(taskMapper::toTaskResponseDto);
+        try (Stream<Task> tasks = taskRepository.streamAllForExport();
+             TaskExportWriter writer = format.openWriter(outputStream, objectMapper)) {
+            entityStreamReader.forEachChunk(tasks, ConstantUtil.EXPORT_CHUNK_SIZE, chunk -> {
+                loadTaskAssociations(chunk, commentsLimit);
+                for (Task task : chunk) {
+                    try {
+                        writer.write(taskMapper.toTaskResponseDto(task));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        }
     }
 
     /**
@@ -133,12 +365,51 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
+    @Audited
     public TaskResponseDto createTask(CreateTaskRequestDto request) {
-        return Optional.of(request)
+        Task task = Optional.of(request)
                 .map(taskMapper::toTaskForCreate)
                 .map(taskRepository::save)
-                .map(taskMapper::toTaskResponseDto)
                 .orElseThrow(() -> new EntitySaveException(ErrorType.TASK_SAVE_ERROR));
+
+        taskStatsService.recordTasksCreated(Map.of(new TaskStatsKey(task.getStatus(), task.getPriority()), 1L));
+        taskAnalyticsService.recordTasksCreated(List.of(task));
+        return taskMapper.toTaskResponseDto(task);
+    }
+
+    /**
+     * Creates tasks in bulk. The inserts are sent in JDBC batches of {@code spring.jpa.batch.size} rows.
+     * The authors of all tasks are checked with a single query.
+     *
+     * @param requests the {@link ImportTaskRequestDto}s containing the details of the tasks
+     * @return the {@link TaskResponseDto}s of the created tasks, in the order of the requests
+     * @throws UserNotFoundException if the author of a task is not found
+     */
+    @Override
+    @Transactional
+    @Audited
+    public List<TaskResponseDto> createTasks(List<ImportTaskRequestDto> requests) {
+        Set<UUID> existingAuthorIds = userService.findExistingUserIds(requests.stream()
+                .map(ImportTaskRequestDto::getAuthorId)
+                .collect(Collectors.toSet()));
+        requests.stream()
+                .map(ImportTaskRequestDto::getAuthorId)
+                .filter(authorId -> !existingAuthorIds.contains(authorId))
+                .findFirst()
+                .ifPresent(authorId -> {
+                    throw new UserNotFoundException(authorId);
+                });
+
+        List<Task> tasks = requests.stream()
+                .map(taskMapper::toTaskForCreate)
+                .toList();
+
+        taskStatsService.recordTasksCreated(tasks.stream()
+                .collect(Collectors.groupingBy(task -> new TaskStatsKey(task.getStatus(), task.getPriority()),
+                        Collectors.counting())));
+        List<TaskResponseDto> responses = entityBatchWriter.persistAll(tasks, taskMapper::toTaskResponseDto);
+        taskAnalyticsService.recordTasksCreated(tasks);
+        return responses;
     }
 
     /**
@@ -149,10 +420,12 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
+    @Audited
     public void deleteTask(UUID id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
+        taskStatsService.recordTaskDeletion(id);
         taskRepository.delete(task);
     }
 
@@ -167,8 +440,40 @@ public class TaskServiceImpl implements TaskService {
         taskRepository.save(task);
     }
 
+    /**
+     * Adjusts the denormalized comment counter of a task and increments its version with a single update statement.
+     *
+     * @param taskId the unique identifier of the task
+     * @param delta  the number of comments added (positive) or removed (negative)
+     */
+    @Override
+    @Transactional
+    public void updateCommentCount(UUID taskId, int delta) {
+        taskRepository.updateCommentCount(taskId, delta);
+    }
+
+    /**
+     * Increments the versions of tasks whose assignees change. The task rows are locked in ID order first,
+     * so concurrent callers do not deadlock.
+     *
+     * @param taskIds the unique identifiers of the tasks
+     */
+    @Override
+    @Transactional
+    public void incrementVersions(Collection<UUID> taskIds) {
+        List<UUID> sortedIds = taskIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        taskRepository.lockAllByIdIn(sortedIds);
+        taskRepository.incrementVersions(sortedIds);
+    }
+
     /**
      * Updates an existing task with new details based on user permissions.
+     * The task is locked and loaded with a single query, so its version, status and priority are those of the
+     * locked row until the end of the transaction.
      *
      * @param id          the unique identifier of the task
      * @param request     the {@link UpdateTaskRequestDto} containing updated task details
@@ -179,23 +484,41 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
+    @Audited
     public TaskResponseDto updateTask(UUID id, UpdateTaskRequestDto request, User currentUser) {
-        Task existingTask = taskRepository.findById(id)
+        Task existingTask = taskRepository.lockById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
         permissionValidator.validateAssigneePermission(currentUser, existingTask);
+        Optional<TaskStatsKey> previousState = taskStatsService.recordTaskUpdate(id,
+                new TaskStatsKey(existingTask.getStatus(), existingTask.getPriority()), request.getStatus(),
+                request.getPriority());
 
         if (currentUser.getRole() == UserRole.ROLE_ADMIN) {
             setTaskEntityForAdmin(existingTask, request);
-
-            return saveAndConvertToDto(existingTask);
+        } else {
+            setTaskEntityForUser(existingTask, request);
         }
-
-        setTaskEntityForUser(existingTask, request);
+        existingTask.setVersion(existingTask.getVersion() + 1);
+        previousState.ifPresent(state -> taskAnalyticsService.recordStatusChange(existingTask, state.status(),
+                currentUser.getId()));
 
         return saveAndConvertToDto(existingTask);
     }
 
+    /**
+     * Finds a task, reusing the one resolved by a validator during the current request if the transaction
+     * is read-only. Read-write transactions load a managed task, as they may change it or walk its assignees.
+     */
+    private Task findTask(UUID id) {
+        Optional<Task> resolvedTask = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? entityResolver.findResolved(Task.class, id)
+                : Optional.empty();
+
+        return resolvedTask.or(() -> taskRepository.findById(id))
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
     private TaskResponseDto saveAndConvertToDto(Task task) {
         return Optional.of(task)
                 .map(taskRepository::save)
@@ -204,16 +527,104 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Loads task associations such as assignees and comments for a task.
+     * Checks the entity tag of a page of tasks, and only if it is modified loads the associations of its tasks.
+     */
+    private Optional<Page<TaskResponseDto>> toConditionalPage(Page<Task> tasks, Integer commentsLimit,
+                                                              Predicate<String> notModified) {
+        if (notModified.test(ETagUtil.pageETag(tasks, TaskServiceImpl::eTagOf))) {
+            return Optional.empty();
+        }
+        loadTaskAssociations(tasks.getContent(), commentsLimit);
+
+        return Optional.of(tasks.map(taskMapper::toTaskResponseDto));
+    }
+
+    /**
+     * Derives the entity tag of a task from its version, which changes with the task, its comments and its assignees.
+     */
+    private static String eTagOf(Task task) {
+        return ETagUtil.eTag(task.getId(), task.getVersion());
+    }
+
+    /**
+     * Loads the associations of the tasks that make it into the page and wraps them into a cursor page.
+     * The extra row fetched to detect the next page is neither loaded nor returned.
+     */
+    private CursorPageResponseDto<TaskResponseDto> toCursorPage(List<Task> tasks, int size, Integer commentsLimit,
+                                                                Long totalElements) {
+        loadTaskAssociations(tasks.subList(0, Math.min(size, tasks.size())), commentsLimit);
+
+        return CursorPageUtil.toCursorPage(tasks, size, task -> new KeysetCursor(task.getCreatedAt(), task.getId()),
+                taskMapper::toTaskResponseDto, totalElements);
+    }
+
+    /**
+     * Fetches the tasks with the given IDs together with their authors, keyed by ID.
+     */
+    private Map<UUID, Task> fetchTasksWithAuthor(List<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return taskRepository.findAllWithAuthorByIdIn(taskIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    /**
+     * Loads assignees and comments, together with their Users, for a page of tasks.
+     * Issues a fixed number of queries regardless of the page size.
      *
-     * @param task the {@link Task} entity whose associations should be loaded
+     * @param tasks         the {@link Task} entities whose associations should be loaded
+     * @param commentsLimit the number of latest comments to load per task, or {@code null} to load all comments
+     */
+    private void loadTaskAssociations(List<Task> tasks, Integer commentsLimit) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<UUID> taskIds = tasks.stream()
+                .map(Task::getId)
+                .toList();
+
+        Map<UUID, List<TaskAssignee>> taskAssignees = taskRepository.fetchTaskAssigneesByTaskIds(taskIds)
+                .stream()
+                .collect(Collectors.groupingBy(taskAssignee -> taskAssignee.getTask()
+                        .getId()));
+
+        Map<UUID, List<Comment>> comments = fetchComments(taskIds, commentsLimit)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getTask()
+                        .getId()));
+
+        tasks.forEach(task -> {
+            task.setTaskAssignees(taskAssignees.getOrDefault(task.getId(), new ArrayList<>()));
+            task.setComments(comments.getOrDefault(task.getId(), new ArrayList<>()));
+        });
+    }
+
+    /**
+     * Fetches either all comments of the given tasks or only the latest {@code commentsLimit} comments per task,
+     * newest first.
      */
-    private void loadTaskAssociations(Task task) {
-        List<TaskAssignee> taskAssignees = taskRepository.fetchTaskWithTaskAssignees(task.getId());
-        task.setTaskAssignees(taskAssignees);
+    private List<Comment> fetchComments(List<UUID> taskIds, Integer commentsLimit) {
+        if (commentsLimit == null) {
+            return taskRepository.fetchCommentsByTaskIds(taskIds);
+        }
+
+        if (commentsLimit <= 0) {
+            return List.of();
+        }
+
+        List<UUID> latestCommentIds = taskRepository.fetchLatestCommentIdsByTaskIds(taskIds, commentsLimit);
+        if (latestCommentIds.isEmpty()) {
+            return List.of();
+        }
 
-        List<Comment> comments = taskRepository.fetchTaskWithComments(task.getId());
-        task.setComments(comments);
+        return taskRepository.fetchCommentsByIds(latestCommentIds)
+                .stream()
+                .sorted(Comparator.comparing(Comment::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
     }
 
     private void setTaskEntityForAdmin(Task task, UpdateTaskRequestDto request) {
@@ -0,0 +1,213 @@
+package org.example.tms.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.aspect.logging.annotation.ExecutionTime;
+import org.example.tms.dto.responses.TaskStatsEntryDto;
+import org.example.tms.dto.responses.TaskStatsResponseDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.repository.TaskStatsKey;
+import org.example.tms.repository.TaskStatsRepository;
+import org.example.tms.service.TaskStatsService;
+import org.example.tms.util.ConstantUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Service implementation for the task statistics.
+ * <p>
+ * The number of tasks per status and priority, overall and per assignee, is kept in summary tables that are
+ * updated in the same transaction as the tasks, so reading the statistics costs the same at any table size.
+ * Each transaction adds its deltas to one randomly chosen stripe of the counters, in a fixed order of the
+ * counters, so concurrent writers rarely contend and never deadlock on them.
+ * <p>
+ * Changes that bypass the services, such as the cascade deletes of a User's tasks, are corrected by
+ * {@link #reconcile()}, which recounts all counters every {@code task.stats.reconcile-interval} without blocking
+ * the writers.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskStatsServiceImpl implements TaskStatsService {
+    private final TaskStatsRepository taskStatsRepository;
+
+    /**
+     * Retrieves the number of tasks per status and priority.
+     *
+     * @return a {@link TaskStatsResponseDto} with a count for every combination of status and priority
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public TaskStatsResponseDto getTaskStats() {
+        return toTaskStatsResponseDto(null, taskStatsRepository.findTaskCounts());
+    }
+
+    /**
+     * Retrieves the number of tasks assigned to a User per status and priority.
+     *
+     * @param assigneeId the unique identifier of the assignee
+     * @return a {@link TaskStatsResponseDto} with a count for every combination of status and priority
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public TaskStatsResponseDto getTaskStatsByAssignee(UUID assigneeId) {
+        return toTaskStatsResponseDto(assigneeId, taskStatsRepository.findAssigneeTaskCounts(assigneeId));
+    }
+
+    /**
+     * Counts newly created tasks. New tasks have no assignees yet.
+     *
+     * @param createdCounts the number of created tasks per status and priority
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTasksCreated(Map<TaskStatsKey, Long> createdCounts) {
+        int stripe = randomStripe();
+        new TreeMap<>(createdCounts).forEach((key, count) -> taskStatsRepository.adjustTaskCount(key, stripe, count));
+    }
+
+    /**
+     * Moves a task to the counters of its new status and priority, overall and for each of its assignees.
+     * The caller must have locked the task until the end of the transaction and read its previous status and
+     * priority under that lock, so they can't change concurrently. Must be called before the task is updated.
+     * Without a new status or priority nothing is counted, since the update of the task is then rejected by its
+     * validation.
+     *
+     * @param taskId      the unique identifier of the task
+     * @param previousKey the status and priority of the task before the update, read under the lock
+     * @param status      the new status of the task
+     * @param priority    the new priority of the task
+     * @return the status and priority of the task before the update, or empty if nothing was counted
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<TaskStatsKey> recordTaskUpdate(UUID taskId, TaskStatsKey previousKey, TaskStatus status,
+                                                   TaskPriority priority) {
+        if (status == null || priority == null) {
+            return Optional.empty();
+        }
+        TaskStatsKey newKey = new TaskStatsKey(status, priority);
+
+        if (!previousKey.equals(newKey)) {
+            Map<TaskStatsKey, Long> deltas = new TreeMap<>(Map.of(previousKey, -1L, newKey, 1L));
+            applyDeltas(deltas, taskStatsRepository.findAssigneeIds(taskId));
+        }
+        return Optional.of(previousKey);
+    }
+
+    /**
+     * Removes a deleted task from the counters, overall and for each of its assignees.
+     * Locks the task until the end of the transaction. Must be called before the task is deleted.
+     *
+     * @param taskId the unique identifier of the task
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTaskDeletion(UUID taskId) {
+        taskStatsRepository.lockTaskForUpdate(taskId)
+                .ifPresent(key -> applyDeltas(Map.of(key, -1L), taskStatsRepository.findAssigneeIds(taskId)));
+    }
+
+    /**
+     * Counts new assignments for their assignees under the current status and priority of their tasks.
+     * Locks the tasks until the end of the transaction, so they can't change status or priority concurrently.
+     * Assignments of tasks deleted in the meantime are skipped, as their insert fails on the foreign key.
+     *
+     * @param taskAndAssigneeIds the task ID and assignee ID of each new assignment
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAssignments(List<Map.Entry<UUID, UUID>> taskAndAssigneeIds) {
+        Map<UUID, TaskStatsKey> taskKeys = taskStatsRepository.lockTasksForShare(taskAndAssigneeIds.stream()
+                .map(Map.Entry::getKey)
+                .distinct()
+                .toList());
+
+        Map<UUID, Map<TaskStatsKey, Long>> deltas = new TreeMap<>();
+        for (Map.Entry<UUID, UUID> assignment : taskAndAssigneeIds) {
+            TaskStatsKey key = taskKeys.get(assignment.getKey());
+            if (key != null) {
+                deltas.computeIfAbsent(assignment.getValue(), assigneeId -> new TreeMap<>())
+                        .merge(key, 1L, Long::sum);
+            }
+        }
+
+        int stripe = randomStripe();
+        deltas.forEach((assigneeId, counts) -> counts.forEach((key, count) ->
+                taskStatsRepository.adjustAssigneeTaskCount(assigneeId, key, stripe, count)));
+    }
+
+    /**
+     * Corrects the counters that differ from a recount of the task and assignment tables.
+     * Runs every {@code task.stats.reconcile-interval}. Each table is recounted from the snapshot of a single
+     * statement, which is why this runs at {@code READ COMMITTED}: at a stricter isolation level the correction of
+     * a counter updated concurrently would fail with a serialization error.
+     *
+     * @return the number of counters that had drifted from the recount
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Scheduled(fixedDelayString = "${task.stats.reconcile-interval:PT1H}",
+            initialDelayString = "${task.stats.reconcile-interval:PT1H}")
+    public int reconcile() {
+        int drift = taskStatsRepository.reconcile();
+        if (drift > 0) {
+            log.warn("Reconciled {} task counters that had drifted from the task tables", drift);
+        } else {
+            log.debug("Reconciled task counters, none had drifted");
+        }
+
+        return drift;
+    }
+
+    /**
+     * Applies the deltas to the overall counters first and then to the counters of each assignee,
+     * both in a fixed order.
+     */
+    private void applyDeltas(Map<TaskStatsKey, Long> deltas, List<UUID> assigneeIds) {
+        int stripe = randomStripe();
+        List<UUID> sortedAssigneeIds = new ArrayList<>(assigneeIds);
+        sortedAssigneeIds.sort(null);
+
+        deltas.forEach((key, delta) -> taskStatsRepository.adjustTaskCount(key, stripe, delta));
+        sortedAssigneeIds.forEach(assigneeId -> deltas.forEach((key, delta) ->
+                taskStatsRepository.adjustAssigneeTaskCount(assigneeId, key, stripe, delta)));
+    }
+
+    private static int randomStripe() {
+        return ThreadLocalRandom.current()
+                .nextInt(ConstantUtil.TASK_STATS_STRIPES);
+    }
+
+    private static TaskStatsResponseDto toTaskStatsResponseDto(UUID assigneeId, Map<TaskStatsKey, Long> counts) {
+        List<TaskStatsEntryDto> entries = new ArrayList<>();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                long count = counts.getOrDefault(new TaskStatsKey(status, priority), 0L);
+                entries.add(new TaskStatsEntryDto(status, priority, count));
+                total += count;
+            }
+        }
+
+        return TaskStatsResponseDto.builder()
+                .assigneeId(assigneeId)
+                .total(total)
+                .counts(entries)
+                .build();
+    }
+}
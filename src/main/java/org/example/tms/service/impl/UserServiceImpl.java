@@ -6,12 +6,19 @@ import org.example.tms.dto.responses.UserResponseDto;
 import org.example.tms.exception.UserNotFoundException;
 import org.example.tms.mapper.UserMapper;
 import org.example.tms.model.User;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.repository.UserRepository;
 import org.example.tms.service.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link UserService} for handling User-related operations.
@@ -22,6 +29,7 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final UserRepository userRepository;
+    private final EntityResolver entityResolver;
 
     /**
      * Saves a User to the repository.
@@ -34,8 +42,22 @@ public class UserServiceImpl implements UserService {
         userRepository.save(user);
     }
 
+    /**
+     * Replaces the stored password hash of a User with a single update statement.
+     *
+     * @param id              the UUID of the User
+     * @param encodedPassword the new password hash
+     */
+    @Override
+    @Transactional
+    public void updatePassword(UUID id, String encodedPassword) {
+        userRepository.updatePassword(id, encodedPassword);
+    }
+
     /**
      * Retrieves a {@link User} entity by its ID.
+     * A User already resolved by a validator during the current request is returned without another query.
+     * It may be detached, so callers use it for reading or as the target of an association only.
      *
      * @param id the UUID of the User
      * @return the {@link User} entity
@@ -45,10 +67,37 @@ public class UserServiceImpl implements UserService {
     @ExecutionTime
     @Transactional(readOnly = true)
     public User getUserEntityById(UUID id) {
-        return userRepository.findById(id)
+        return entityResolver.findResolved(User.class, id)
+                .or(() -> userRepository.findById(id))
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    /**
+     * Finds which of the given IDs belong to existing Users, with a single query.
+     *
+     * @param ids the IDs to check
+     * @return the IDs of existing Users
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> findExistingUserIds(Collection<UUID> ids) {
+        return userRepository.findExistingIds(ids);
+    }
+
+    /**
+     * Retrieves the {@link User} entities with the given IDs, with a single query.
+     *
+     * @param ids the UUIDs of the Users
+     * @return the {@link User} entities that exist, keyed by ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, User> getUserEntitiesByIds(Collection<UUID> ids) {
+        return userRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
     /**
      * Retrieves a {@link User} entity by email.
      *
@@ -64,6 +113,19 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(email));
     }
 
+    /**
+     * Looks up a {@link User} entity by email without failing when it does not exist.
+     *
+     * @param email the email of the User
+     * @return the {@link User} entity, or an empty {@link Optional} if no User has the provided email
+     */
+    @Override
+    @ExecutionTime
+    @Transactional(readOnly = true)
+    public Optional<User> findUserByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
     /**
      * Retrieves a {@link UserResponseDto} by User ID.
      *
@@ -7,6 +7,19 @@ public class ConstantUtil {
     public static final int TIME_OUT = 1;
     public static final int ACCESS_TOKEN_EXPIRATION = 15 * 60 * 1000;
     public static final int REFRESH_TOKEN_EXPIRATION = 7 * 24 * 60 * 60 * 1000;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_CACHE_REGION = "user";
+    public static final String USER_BY_EMAIL_CACHE_REGION = "user-by-email";
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int EXPORT_CHUNK_SIZE = 500;
+    public static final String EXPORT_FETCH_SIZE = "" + EXPORT_CHUNK_SIZE;
+    public static final int IMPORT_BATCH_SIZE = 1_000;
+    public static final int MAX_IMPORT_ERRORS = 1_000;
+    public static final int TASK_STATS_STRIPES = 16;
+    public static final int MAX_ANALYTICS_RANGE_DAYS = 731;
+    public static final String TASK_DAILY_ROLLUP = "task_daily_rollup";
+    public static final int MAX_ROLLUP_EVENTS = 100_000;
     public static final String BASE_PATH = "/api";
     public static final String TASKS_PATH = BASE_PATH + "/tasks/{id}";
     public static final String COMMENTS_PATH = BASE_PATH + "/comments/{id}";
@@ -0,0 +1,49 @@
+package org.example.tms.util;
+
+import lombok.experimental.UtilityClass;
+import org.example.tms.dto.responses.CursorPageResponseDto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class for turning keyset query results into {@link CursorPageResponseDto} pages.
+ * Keyset queries fetch one row more than the page size, the extra row only signals that a next page exists.
+ */
+@UtilityClass
+public class CursorPageUtil {
+
+    /**
+     * Builds a cursor page from rows fetched with a limit of {@code size + 1}.
+     *
+     * @param rows          the fetched rows, at most {@code size + 1}
+     * @param size          the requested page size
+     * @param cursorOf      extracts the keyset position of a row
+     * @param mapper        maps a row to its response representation
+     * @param totalElements the total number of rows, or {@code null} when it was not requested
+     * @param <E>           the row type
+     * @param <T>           the response type
+     * @return the page with a continuation token when more rows are available
+     */
+    public static <E, T> CursorPageResponseDto<T> toCursorPage(List<E> rows, int size,
+                                                              Function<E, ? extends PageCursor> cursorOf,
+                                                              Function<E, T> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? cursorOf.apply(pageRows.get(pageRows.size() - 1))
+                .encode()
+                : null;
+
+        return CursorPageResponseDto.<T>builder()
+                .content(pageRows.stream()
+                        .map(mapper)
+                        .toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+}
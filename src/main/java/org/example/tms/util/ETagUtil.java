@@ -0,0 +1,74 @@
+package org.example.tms.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Builds strong entity tags and the responses to conditional {@code GET} requests.
+ * <p>
+ * Services compute the entity tag of a resource from the state they have already loaded and hand it to
+ * {@code WebRequest::checkNotModified} before loading anything else, so a request whose {@code If-None-Match}
+ * still matches skips the associations, the mapping and the serialization of the body.
+ */
+@UtilityClass
+public class ETagUtil {
+    private static final String SEPARATOR = "|";
+    private static final CacheControl REVALIDATE = CacheControl.noCache()
+            .cachePrivate();
+
+    /**
+     * Builds a strong entity tag from the values that identify the state of a representation.
+     *
+     * @param parts the values, always in the same order
+     * @return the quoted MD5 hex digest of the values
+     */
+    public static String eTag(Object... parts) {
+        var value = new StringBuilder();
+        for (Object part : parts) {
+            value.append(part)
+                    .append(SEPARATOR);
+        }
+
+        return '"' + DigestUtils.md5DigestAsHex(value.toString()
+                .getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+
+    /**
+     * Builds the entity tag of a page from the total number of elements and the entity tag of each element,
+     * so it changes when an element changes, enters or leaves the page.
+     *
+     * @param page        the page
+     * @param elementETag computes the entity tag of an element
+     * @return the entity tag of the page
+     */
+    public static <T> String pageETag(Page<T> page, Function<? super T, String> elementETag) {
+        return eTag(Stream.concat(Stream.of(page.getTotalElements()), page.stream()
+                        .map(elementETag))
+                .toArray());
+    }
+
+    /**
+     * Wraps the result of a conditional {@code GET} into a response that clients may cache but must revalidate.
+     * The entity tag itself is set by {@code WebRequest::checkNotModified}.
+     *
+     * @param body the body, or empty if the client's copy is still current
+     * @return a {@code 200 OK} response with the body, or a {@code 304 Not Modified} response without one
+     */
+    public static <T> ResponseEntity<T> toConditionalResponse(Optional<T> body) {
+        return body.map(value -> ResponseEntity.ok()
+                        .cacheControl(REVALIDATE)
+                        .body(value))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(REVALIDATE)
+                        .build());
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.tms.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by {@code (created_at DESC, id DESC)}.
+ * Clients receive it as an opaque, URL-safe continuation token.
+ *
+ * @param createdAt the creation timestamp of the last row of the previous page
+ * @param id        the ID of the last row of the previous page
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) implements PageCursor {
+    private static final String SEPARATOR = "|";
+    private static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            new UUID(-1L, -1L));
+
+    /**
+     * Returns the cursor placed before the first row, so the first page uses the same query as the following ones.
+     *
+     * @return the starting cursor
+     */
+    public static KeysetCursor start() {
+        return START;
+    }
+
+    /**
+     * Decodes a continuation token, falling back to the starting cursor when no token is given.
+     *
+     * @param token the token returned as {@code nextCursor} by a previous page, may be {@code null}
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder()
+                    .decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.indexOf(SEPARATOR);
+
+            return new KeysetCursor(LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    UUID.fromString(value.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque continuation token.
+     *
+     * @return the URL-safe token
+     */
+    @Override
+    public String encode() {
+        String value = createdAt + SEPARATOR + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.tms.util;
+
+/**
+ * Position in a keyset-paginated listing, handed to clients as an opaque continuation token.
+ */
+public interface PageCursor {
+
+    /**
+     * Encodes this cursor as an opaque continuation token.
+     *
+     * @return the URL-safe token
+     */
+    String encode();
+}
@@ -0,0 +1,59 @@
+package org.example.tms.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in search results ordered by {@code (rank DESC, id DESC)}.
+ * Clients receive it as an opaque, URL-safe continuation token.
+ *
+ * @param rank the relevance rank of the last row of the previous page
+ * @param id   the ID of the last row of the previous page
+ */
+public record SearchCursor(double rank, UUID id) implements PageCursor {
+    private static final String SEPARATOR = "|";
+    private static final SearchCursor START = new SearchCursor(Double.MAX_VALUE, new UUID(-1L, -1L));
+
+    /**
+     * Returns the cursor placed before the best match, so the first page uses the same query as the following ones.
+     *
+     * @return the starting cursor
+     */
+    public static SearchCursor start() {
+        return START;
+    }
+
+    /**
+     * Decodes a continuation token, falling back to the starting cursor when no token is given.
+     *
+     * @param token the token returned as {@code nextCursor} by a previous page, may be {@code null}
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder()
+                    .decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = value.indexOf(SEPARATOR);
+
+            return new SearchCursor(Double.parseDouble(value.substring(0, separatorIndex)),
+                    UUID.fromString(value.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    @Override
+    public String encode() {
+        String value = rank + SEPARATOR + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
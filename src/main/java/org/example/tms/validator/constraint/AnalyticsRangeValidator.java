@@ -0,0 +1,36 @@
+package org.example.tms.validator.constraint;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.example.tms.dto.requests.TaskAnalyticsRequestDto;
+import org.example.tms.util.ConstantUtil;
+import org.example.tms.validator.constraint.annotation.ValidAnalyticsRange;
+import org.springframework.stereotype.Component;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validator for checking the range of a task analytics query.
+ * The range must not end before it starts and may span at most {@value ConstantUtil#MAX_ANALYTICS_RANGE_DAYS} days,
+ * which bounds the number of rollup rows a query reads.
+ */
+@Component
+public class AnalyticsRangeValidator implements ConstraintValidator<ValidAnalyticsRange, TaskAnalyticsRequestDto> {
+
+    /**
+     * Validates the range of the request. Missing bounds are left to their own constraints.
+     *
+     * @param request                    the request to validate
+     * @param constraintValidatorContext the context in which the constraint is being evaluated
+     * @return {@code true} if the range is valid or incomplete, {@code false} otherwise
+     */
+    @Override
+    public boolean isValid(TaskAnalyticsRequestDto request, ConstraintValidatorContext constraintValidatorContext) {
+        if (request == null || request.getFrom() == null || request.getTo() == null) {
+            return true;
+        }
+        long days = ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) + 1;
+
+        return days >= 1 && days <= ConstantUtil.MAX_ANALYTICS_RANGE_DAYS;
+    }
+}
@@ -3,7 +3,8 @@ package org.example.tms.validator.constraint;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
-import org.example.tms.repository.UserRepository;
+import org.example.tms.model.User;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.validator.constraint.annotation.UserExists;
 import org.springframework.stereotype.Component;
 
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Component
 @RequiredArgsConstructor
 public class AuthorExistsValidator implements ConstraintValidator<UserExists, UUID> {
-    private final UserRepository userRepository;
+    private final EntityResolver entityResolver;
 
     /**
      * Validates whether a User exists in the system based on the provided user ID.
@@ -31,6 +32,6 @@ public class AuthorExistsValidator implements ConstraintValidator<UserExists, UU
         if (userId == null) {
             return false;
         }
-        return userRepository.existsById(userId);
+        return entityResolver.exists(User.class, userId);
     }
 }
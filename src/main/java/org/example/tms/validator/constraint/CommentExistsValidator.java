@@ -3,7 +3,8 @@ package org.example.tms.validator.constraint;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
-import org.example.tms.repository.CommentRepository;
+import org.example.tms.model.Comment;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.validator.constraint.annotation.CommentExists;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +18,7 @@ import java.util.UUID;
 @Component
 @RequiredArgsConstructor
 public class CommentExistsValidator implements ConstraintValidator<CommentExists, UUID> {
-    private final CommentRepository commentRepository;
+    private final EntityResolver entityResolver;
 
     /**
      * Validates if the comment ID exists in the database.
@@ -32,6 +33,6 @@ public class CommentExistsValidator implements ConstraintValidator<CommentExists
         if (commentId == null) {
             return false;
         }
-        return commentRepository.existsById(commentId);
+        return entityResolver.exists(Comment.class, commentId);
     }
 }
@@ -3,7 +3,8 @@ package org.example.tms.validator.constraint;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
-import org.example.tms.repository.TaskRepository;
+import org.example.tms.model.Task;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.validator.constraint.annotation.TaskExists;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +18,7 @@ import java.util.UUID;
 @Component
 @RequiredArgsConstructor
 public class TaskExistsValidator implements ConstraintValidator<TaskExists, UUID> {
-    private final TaskRepository taskRepository;
+    private final EntityResolver entityResolver;
 
     /**
      * Validates if the task ID exists in the database.
@@ -32,6 +33,6 @@ public class TaskExistsValidator implements ConstraintValidator<TaskExists, UUID
         if (taskId == null) {
             return false;
         }
-        return taskRepository.existsById(taskId);
+        return entityResolver.exists(Task.class, taskId);
     }
 }
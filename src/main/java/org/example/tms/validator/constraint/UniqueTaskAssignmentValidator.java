@@ -0,0 +1,49 @@
+package org.example.tms.validator.constraint;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeRequestDto;
+import org.example.tms.repository.TaskAssigneeRepository;
+import org.example.tms.validator.constraint.annotation.UniqueTaskAssignment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validator for checking that a task is not assigned to the same User twice.
+ * Mirrors the unique {@code (task_id, user_id)} constraint of the {@code task_assignee} table,
+ * so duplicates are rejected as a validation error instead of failing on insert.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueTaskAssignmentValidator
+        implements ConstraintValidator<UniqueTaskAssignment, CreateTaskAssigneeRequestDto> {
+    private final TaskAssigneeRepository taskAssigneeRepository;
+
+    /**
+     * Validates whether the task in the provided {@link CreateTaskAssigneeRequestDto} is not yet assigned to the User.
+     * Missing IDs are left to the {@code @NotNull} constraints of the request.
+     *
+     * @param request                    the data transfer object containing the task and assignee IDs
+     * @param constraintValidatorContext the context in which the constraint is being evaluated
+     * @return {@code true} if the assignment does not exist yet, {@code false} otherwise
+     */
+    @Override
+    public boolean isValid(CreateTaskAssigneeRequestDto request,
+                           ConstraintValidatorContext constraintValidatorContext) {
+        if (request.getTaskId() == null || request.getAssigneeId() == null) {
+            return true;
+        }
+
+        boolean exists = taskAssigneeRepository.existsByTask_IdAndAssignee_Id(request.getTaskId(),
+                request.getAssigneeId());
+        if (exists) {
+            log.info("Task with ID {} is already assigned to user with ID {}", request.getTaskId(),
+                    request.getAssigneeId());
+            return false;
+        }
+
+        return true;
+    }
+}
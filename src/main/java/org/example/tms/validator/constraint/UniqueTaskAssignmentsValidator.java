@@ -0,0 +1,89 @@
+package org.example.tms.validator.constraint;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto.Assignment;
+import org.example.tms.model.TaskAssignee;
+import org.example.tms.repository.TaskAssigneeRepository;
+import org.example.tms.validator.constraint.annotation.UniqueTaskAssignments;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Validator for checking that a batch of assignments neither repeats an assignment nor assigns a task
+ * to a User it is already assigned to. Existing assignments of the whole batch are looked up with a single query
+ * instead of one query per assignment.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueTaskAssignmentsValidator
+        implements ConstraintValidator<UniqueTaskAssignments, CreateTaskAssigneeBatchRequestDto> {
+    private final TaskAssigneeRepository taskAssigneeRepository;
+
+    /**
+     * Validates whether all assignments of the provided {@link CreateTaskAssigneeBatchRequestDto} are new.
+     * Missing assignments and IDs are left to the {@code @NotEmpty} and {@code @NotNull} constraints of the request.
+     *
+     * @param request                    the data transfer object containing the assignments
+     * @param constraintValidatorContext the context in which the constraint is being evaluated
+     * @return {@code true} if every assignment is unique and does not exist yet, {@code false} otherwise
+     */
+    @Override
+    public boolean isValid(CreateTaskAssigneeBatchRequestDto request,
+                           ConstraintValidatorContext constraintValidatorContext) {
+        if (request.getAssignments() == null) {
+            return true;
+        }
+
+        List<Assignment> assignments = request.getAssignments()
+                .stream()
+                .filter(Objects::nonNull)
+                .filter(assignment -> assignment.getTaskId() != null && assignment.getAssigneeId() != null)
+                .toList();
+
+        Set<AssignmentKey> keys = new HashSet<>();
+        for (Assignment assignment : assignments) {
+            if (!keys.add(new AssignmentKey(assignment.getTaskId(), assignment.getAssigneeId()))) {
+                log.info("Batch assigns task with ID {} to user with ID {} more than once", assignment.getTaskId(),
+                        assignment.getAssigneeId());
+                return false;
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return true;
+        }
+
+        Set<UUID> taskIds = new HashSet<>();
+        Set<UUID> assigneeIds = new HashSet<>();
+        keys.forEach(key -> {
+            taskIds.add(key.taskId());
+            assigneeIds.add(key.assigneeId());
+        });
+
+        for (TaskAssignee taskAssignee : taskAssigneeRepository.findAllByTask_IdInAndAssignee_IdIn(taskIds,
+                assigneeIds)) {
+            var key = new AssignmentKey(taskAssignee.getTask()
+                    .getId(), taskAssignee.getAssignee()
+                    .getId());
+            if (keys.contains(key)) {
+                log.info("Task with ID {} is already assigned to user with ID {}", key.taskId(), key.assigneeId());
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private record AssignmentKey(UUID taskId, UUID assigneeId) {
+    }
+}
@@ -2,16 +2,16 @@ package org.example.tms.validator.constraint.annotation;
 
 import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
-import org.example.tms.validator.constraint.AuthRequestValidator;
+import org.example.tms.validator.constraint.UniqueTaskAssignmentValidator;
 
 import java.lang.annotation.*;
 
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
-@Constraint(validatedBy = AuthRequestValidator.class)
+@Constraint(validatedBy = UniqueTaskAssignmentValidator.class)
 @Documented
-public @interface ValidAuthRequest {
-    String message() default "Invalid username or password";
+public @interface UniqueTaskAssignment {
+    String message() default "Task is already assigned to this user";
 
     Class<?>[] groups() default {};
 
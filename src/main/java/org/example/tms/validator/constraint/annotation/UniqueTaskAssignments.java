@@ -0,0 +1,19 @@
+package org.example.tms.validator.constraint.annotation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import org.example.tms.validator.constraint.UniqueTaskAssignmentsValidator;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = UniqueTaskAssignmentsValidator.class)
+@Documented
+public @interface UniqueTaskAssignments {
+    String message() default "Batch contains duplicate assignments or tasks already assigned to these users";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,21 @@
+package org.example.tms.validator.constraint.annotation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import org.example.tms.util.ConstantUtil;
+import org.example.tms.validator.constraint.AnalyticsRangeValidator;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = AnalyticsRangeValidator.class)
+@Documented
+public @interface ValidAnalyticsRange {
+    String message() default "Range must not end before it starts or span more than "
+            + ConstantUtil.MAX_ANALYTICS_RANGE_DAYS + " days";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
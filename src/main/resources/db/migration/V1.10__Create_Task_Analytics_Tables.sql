@@ -0,0 +1,69 @@
+CREATE TABLE task_status_event
+(
+    id              BIGSERIAL PRIMARY KEY,
+    task_id         UUID        NOT NULL,
+    user_id         UUID        NOT NULL REFERENCES "user" (id) ON DELETE CASCADE,
+    priority        VARCHAR(20) NOT NULL,
+    from_status     VARCHAR(20),
+    to_status       VARCHAR(20) NOT NULL,
+    occurred_at     TIMESTAMP   NOT NULL,
+    task_created_at TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_status_event_user_id
+    ON task_status_event (user_id);
+
+CREATE TABLE task_daily_rollup
+(
+    day                DATE        NOT NULL,
+    priority           VARCHAR(20) NOT NULL,
+    created_count      BIGINT      NOT NULL,
+    completed_count    BIGINT      NOT NULL,
+    cycle_time_seconds BIGINT      NOT NULL,
+    PRIMARY KEY (day, priority)
+);
+
+CREATE TABLE task_user_daily_rollup
+(
+    user_id            UUID        NOT NULL REFERENCES "user" (id) ON DELETE CASCADE,
+    day                DATE        NOT NULL,
+    priority           VARCHAR(20) NOT NULL,
+    created_count      BIGINT      NOT NULL,
+    completed_count    BIGINT      NOT NULL,
+    cycle_time_seconds BIGINT      NOT NULL,
+    PRIMARY KEY (user_id, day, priority)
+);
+
+CREATE TABLE rollup_watermark
+(
+    name          VARCHAR(64) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL
+);
+
+INSERT INTO rollup_watermark (name, last_event_id)
+VALUES ('task_daily_rollup', 0);
+
+-- Existing tasks have no recorded history. They are backfilled as created by their author at created_at,
+-- and completed tasks as completed by their author at updated_at, the closest approximation available.
+INSERT INTO task_status_event (task_id, user_id, priority, from_status, to_status, occurred_at, task_created_at)
+SELECT id,
+       author_id,
+       priority,
+       NULL,
+       CASE WHEN status = 'COMPLETED' THEN 'PENDING' ELSE status END,
+       COALESCE(created_at, LOCALTIMESTAMP),
+       COALESCE(created_at, LOCALTIMESTAMP)
+FROM task
+ORDER BY created_at;
+
+INSERT INTO task_status_event (task_id, user_id, priority, from_status, to_status, occurred_at, task_created_at)
+SELECT id,
+       author_id,
+       priority,
+       'PENDING',
+       'COMPLETED',
+       GREATEST(COALESCE(updated_at, created_at, LOCALTIMESTAMP), COALESCE(created_at, LOCALTIMESTAMP)),
+       COALESCE(created_at, LOCALTIMESTAMP)
+FROM task
+WHERE status = 'COMPLETED'
+ORDER BY updated_at;
@@ -0,0 +1,2 @@
+ALTER TABLE revoked_token
+    ALTER COLUMN revoked_at SET DEFAULT (CURRENT_TIMESTAMP AT TIME ZONE 'UTC');
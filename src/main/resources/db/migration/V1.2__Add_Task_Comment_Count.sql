@@ -0,0 +1,9 @@
+ALTER TABLE task
+    ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE task t
+SET comment_count = c.total
+FROM (SELECT task_id, COUNT(*) AS total
+      FROM comment
+      GROUP BY task_id) c
+WHERE c.task_id = t.id;
@@ -0,0 +1,11 @@
+CREATE INDEX IF NOT EXISTS idx_task_created_at_id
+    ON task (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_task_author_id_created_at_id
+    ON task (author_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_comment_task_id_created_at_id
+    ON comment (task_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_task_assignee_user_id_task_id
+    ON task_assignee (user_id, task_id);
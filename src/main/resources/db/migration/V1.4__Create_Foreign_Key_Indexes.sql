@@ -0,0 +1,24 @@
+DO
+$$
+    DECLARE
+        duplicate_count BIGINT;
+    BEGIN
+        SELECT COUNT(*)
+        INTO duplicate_count
+        FROM (SELECT 1
+              FROM task_assignee
+              GROUP BY task_id, user_id
+              HAVING COUNT(*) > 1) duplicates;
+
+        IF duplicate_count > 0 THEN
+            RAISE EXCEPTION 'task_assignee has % task and user pairs assigned more than once', duplicate_count
+                USING HINT = 'Review and remove the duplicate assignments, then rerun the migration.';
+        END IF;
+    END
+$$;
+
+ALTER TABLE task_assignee
+    ADD CONSTRAINT uk_task_assignee_task_id_user_id UNIQUE (task_id, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_comment_author_id
+    ON comment (author_id);
@@ -0,0 +1,13 @@
+CREATE TABLE revoked_token
+(
+    id           UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    token_digest VARCHAR(64) NOT NULL UNIQUE,
+    expires_at   TIMESTAMP   NOT NULL,
+    revoked_at   TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at
+    ON revoked_token (revoked_at);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at
+    ON revoked_token (expires_at);
@@ -0,0 +1,23 @@
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID
+AS
+$$
+SELECT encode(set_bit(set_bit(overlay(uuid_send(gen_random_uuid())
+                                      PLACING substring(int8send(floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT)
+                                                        FROM 3)
+                                      FROM 1 FOR 6), 52, 1), 53, 1), 'hex')::UUID
+$$ LANGUAGE SQL VOLATILE;
+
+ALTER TABLE "user"
+    ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+ALTER TABLE task
+    ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+ALTER TABLE comment
+    ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+ALTER TABLE task_assignee
+    ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+ALTER TABLE revoked_token
+    ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,14 @@
+ALTER TABLE task
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', title), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+
+ALTER TABLE comment
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', content), 'C')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_task_search_vector
+    ON task USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_comment_search_vector
+    ON comment USING GIN (search_vector);
@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_task_status_priority_created_at_id
+    ON task (status, priority, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_task_priority_created_at_id
+    ON task (priority, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_task_updated_at
+    ON task (updated_at);
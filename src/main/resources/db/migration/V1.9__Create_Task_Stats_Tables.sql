@@ -0,0 +1,29 @@
+CREATE TABLE task_stat
+(
+    status     VARCHAR(20) NOT NULL,
+    priority   VARCHAR(20) NOT NULL,
+    stripe     SMALLINT    NOT NULL,
+    task_count BIGINT      NOT NULL,
+    PRIMARY KEY (status, priority, stripe)
+);
+
+CREATE TABLE task_assignee_stat
+(
+    user_id    UUID        NOT NULL REFERENCES "user" (id) ON DELETE CASCADE,
+    status     VARCHAR(20) NOT NULL,
+    priority   VARCHAR(20) NOT NULL,
+    stripe     SMALLINT    NOT NULL,
+    task_count BIGINT      NOT NULL,
+    PRIMARY KEY (user_id, status, priority, stripe)
+);
+
+INSERT INTO task_stat (status, priority, stripe, task_count)
+SELECT status, priority, 0, COUNT(*)
+FROM task
+GROUP BY status, priority;
+
+INSERT INTO task_assignee_stat (user_id, status, priority, stripe, task_count)
+SELECT ta.user_id, t.status, t.priority, 0, COUNT(*)
+FROM task_assignee ta
+         JOIN task t ON t.id = ta.task_id
+GROUP BY ta.user_id, t.status, t.priority;
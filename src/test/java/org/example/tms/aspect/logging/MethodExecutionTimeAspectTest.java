@@ -0,0 +1,84 @@
+package org.example.tms.aspect.logging;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.tms.exception.MethodExecutionException;
+import org.example.tms.properties.ExecutionTimeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MethodExecutionTimeAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint proceedingJoinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MethodExecutionTimeAspect methodExecutionTimeAspect;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        methodExecutionTimeAspect = new MethodExecutionTimeAspect(meterRegistry, new ExecutionTimeProperties());
+
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(MethodExecutionTimeAspectTest.class.getMethod("setUp"));
+    }
+
+    @Test
+    public void testLogExecutionTime_RecordsSuccessfulCall() throws Throwable {
+        when(proceedingJoinPoint.proceed()).thenReturn("result");
+
+        assertEquals("result", methodExecutionTimeAspect.logExecutionTime(proceedingJoinPoint));
+        assertEquals("result", methodExecutionTimeAspect.logExecutionTime(proceedingJoinPoint));
+
+        Timer timer = findTimer("success");
+        assertEquals(2, timer.count());
+        assertTrue(timer.max(TimeUnit.NANOSECONDS) >= 0);
+        assertEquals(0, findTimer("error").count());
+    }
+
+    @Test
+    public void testLogExecutionTime_RecordsFailedCallAsError() throws Throwable {
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+        when(signature.toShortString()).thenReturn("MethodExecutionTimeAspectTest.setUp()");
+
+        assertThrows(MethodExecutionException.class,
+                () -> methodExecutionTimeAspect.logExecutionTime(proceedingJoinPoint));
+
+        assertEquals(1, findTimer("error").count());
+        assertEquals(0, findTimer("success").count());
+    }
+
+    @Test
+    public void testLogExecutionTime_DoesNotRenderSignatureForFastCall() throws Throwable {
+        when(proceedingJoinPoint.proceed()).thenReturn(null);
+
+        methodExecutionTimeAspect.logExecutionTime(proceedingJoinPoint);
+
+        verify(signature, never()).toShortString();
+    }
+
+    private Timer findTimer(String outcome) {
+        return meterRegistry.get(MethodExecutionTimeAspect.TIMER_NAME)
+                .tag("class", "MethodExecutionTimeAspectTest")
+                .tag("method", "setUp")
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
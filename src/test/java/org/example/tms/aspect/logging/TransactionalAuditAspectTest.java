@@ -0,0 +1,189 @@
+package org.example.tms.aspect.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.example.tms.dto.responses.AuthenticationResponseDto;
+import org.example.tms.dto.responses.TaskResponseDto;
+import org.example.tms.exception.TransactionExecutionException;
+import org.example.tms.model.Task;
+import org.example.tms.model.User;
+import org.example.tms.properties.AuditProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionalAuditAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint proceedingJoinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private AuditProperties auditProperties;
+    private AuditValueRenderer auditValueRenderer;
+    private TransactionalAuditAspect transactionalAuditAspect;
+
+    @BeforeEach
+    public void setUp() {
+        auditProperties = new AuditProperties();
+        auditValueRenderer = new AuditValueRenderer(auditProperties);
+        transactionalAuditAspect = new TransactionalAuditAspect(auditProperties, auditValueRenderer);
+    }
+
+    @Test
+    public void testHandleTransactional_DoesNotRenderArguments() throws Throwable {
+        var result = new Object();
+        when(proceedingJoinPoint.proceed()).thenReturn(result);
+
+        assertSame(result, transactionalAuditAspect.handleTransactional(proceedingJoinPoint));
+        verify(proceedingJoinPoint, never()).getArgs();
+    }
+
+    @Test
+    public void testHandleTransactional_TranslatesSqlException() throws Throwable {
+        when(proceedingJoinPoint.proceed()).thenThrow(new SQLException("boom"));
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("createTask");
+
+        var exception = assertThrows(TransactionExecutionException.class,
+                () -> transactionalAuditAspect.handleTransactional(proceedingJoinPoint));
+
+        assertTrue(exception.getMessage()
+                .startsWith("Database error while executing method: createTask"));
+    }
+
+    @Test
+    public void testLogTransactionalAudit_RendersArgumentsOfSampledCall() throws Throwable {
+        when(proceedingJoinPoint.proceed()).thenReturn("done");
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("createTask");
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[]{"title"});
+
+        assertEquals("done", transactionalAuditAspect.logTransactionalAudit(proceedingJoinPoint));
+        verify(proceedingJoinPoint).getArgs();
+    }
+
+    @Test
+    public void testLogTransactionalAudit_SkipsRenderingOfUnsampledCall() throws Throwable {
+        auditProperties.setSampleRate(0.0);
+        when(proceedingJoinPoint.proceed()).thenReturn("done");
+
+        assertEquals("done", transactionalAuditAspect.logTransactionalAudit(proceedingJoinPoint));
+        verify(proceedingJoinPoint, never()).getArgs();
+    }
+
+    @Test
+    public void testLogTransactionalAudit_RendersArgumentsOfFailedCallEvenWhenUnsampled() throws Throwable {
+        auditProperties.setSampleRate(0.0);
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("deleteTask");
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[]{UUID.randomUUID()});
+
+        assertThrows(TransactionExecutionException.class,
+                () -> transactionalAuditAspect.logTransactionalAudit(proceedingJoinPoint));
+        verify(proceedingJoinPoint).getArgs();
+    }
+
+    @Test
+    public void testLogTransactionalAudit_LogsFailedCallOnce() throws Throwable {
+        var taskId = UUID.randomUUID();
+        when(proceedingJoinPoint.proceed()).thenThrow(new SQLException("boom"));
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("deleteTask");
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[]{taskId});
+
+        List<String> messages = new ArrayList<>();
+        var appender = new AbstractAppender("audit", null, null, true, Property.EMPTY_ARRAY) {
+            @Override
+            public void append(LogEvent event) {
+                messages.add(event.getMessage()
+                        .getFormattedMessage());
+            }
+        };
+        var logger = (Logger) LogManager.getLogger(TransactionalAuditAspect.class);
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            assertThrows(TransactionExecutionException.class,
+                    () -> transactionalAuditAspect.logTransactionalAudit(proceedingJoinPoint));
+        } finally {
+            logger.removeAppender(appender);
+        }
+
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0)
+                .contains("deleteTask with arguments [" + taskId + "]: boom"));
+    }
+
+    @Test
+    public void testRender_EntityIsRenderedByIdWithoutTouchingAssociations() {
+        var id = UUID.randomUUID();
+        Task task = mock(Task.class);
+        when(task.getId()).thenReturn(id);
+
+        assertEquals("Task[id=" + id + "]", auditValueRenderer.render(task)
+                .replaceFirst("\\$MockitoMock\\$\\w+", ""));
+        verify(task).getId();
+        verifyNoMoreInteractions(task);
+    }
+
+    @Test
+    public void testRender_RecordIsRenderedOneLevelDeepWithCollectionsBySize() {
+        var author = User.builder()
+                .id(UUID.randomUUID())
+                .build();
+        var task = TaskResponseDto.builder()
+                .title("title")
+                .taskAssignees(List.of())
+                .comments(List.of())
+                .build();
+
+        var rendered = auditValueRenderer.renderArguments(new Object[]{author, task, new PageImpl<>(List.of(1, 2))});
+
+        assertTrue(rendered.contains("User[id=" + author.getId() + "]"));
+        assertTrue(rendered.contains("title=title"));
+        assertTrue(rendered.contains("comments=ListN[size=0]"));
+        assertTrue(rendered.contains("PageImpl[number=0, elements=2]"));
+    }
+
+    @Test
+    public void testRender_MasksCredentialComponents() {
+        var rendered = auditValueRenderer.render(new AuthenticationResponseDto("secret", "refresh-secret"));
+
+        assertFalse(rendered.contains("secret"));
+        assertEquals("AuthenticationResponseDto[token=****, refreshToken=****]", rendered);
+    }
+
+    @Test
+    public void testRender_CapsValueLength() {
+        auditProperties.setMaxValueLength(10);
+
+        var rendered = auditValueRenderer.render("x".repeat(1000));
+
+        assertTrue(rendered.startsWith("x".repeat(10) + "..."));
+        assertTrue(rendered.length() < 30);
+    }
+}
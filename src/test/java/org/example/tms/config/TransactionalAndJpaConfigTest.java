@@ -0,0 +1,69 @@
+package org.example.tms.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.util.ConstantUtil;
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TransactionalAndJpaConfigTest {
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.getSecondLevelCache()
+                .setMaximumSize(500);
+        hibernateProperties.getSecondLevelCache()
+                .setExpireAfterWrite(Duration.ofMinutes(1));
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, new DataSourceProperties(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        cacheManager = config.hibernateCacheManager();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    public void testHibernateCacheManager_EntityAndQueryRegionsAreBounded() {
+        for (String region : new String[]{ConstantUtil.USER_CACHE_REGION, ConstantUtil.USER_BY_EMAIL_CACHE_REGION,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME}) {
+            CaffeineConfiguration<?, ?> configuration = regionConfiguration(region);
+
+            assertEquals(OptionalLong.of(500), configuration.getMaximumSize());
+            assertEquals(OptionalLong.of(Duration.ofMinutes(1)
+                    .toNanos()), configuration.getExpireAfterWrite());
+            assertFalse(configuration.isStoreByValue());
+        }
+    }
+
+    @Test
+    public void testHibernateCacheManager_UpdateTimestampsRegionIsNeverEvicted() {
+        CaffeineConfiguration<?, ?> configuration =
+                regionConfiguration(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+        assertEquals(OptionalLong.empty(), configuration.getMaximumSize());
+        assertEquals(OptionalLong.empty(), configuration.getExpireAfterWrite());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<?, ?> regionConfiguration(String region) {
+        return cacheManager.getCache(region)
+                .getConfiguration(CaffeineConfiguration.class);
+    }
+}
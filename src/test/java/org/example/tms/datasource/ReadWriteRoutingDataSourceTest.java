@@ -0,0 +1,37 @@
+package org.example.tms.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.example.tms.datasource.ReadWriteRoutingDataSource.DataSourceType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReadWriteRoutingDataSourceTest {
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void testDetermineCurrentLookupKey_ReadOnlyTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(DataSourceType.READ_ONLY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void testDetermineCurrentLookupKey_ReadWriteTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertEquals(DataSourceType.READ_WRITE, routingDataSource.determineCurrentLookupKey());
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.tms.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.UserRole;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Boots the routing data source of {@link TransactionalAndJpaConfig} against PostgreSQL, with the read-only pool
+ * logging in as a role that may only read, and checks that a write following a read-only transaction in the same
+ * request is routed to the read-write pool.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class ReadWriteRoutingTest {
+    private static final String READER = "reader";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory entityManagerFactory;
+    private static EntityManager entityManager;
+    private static TransactionTemplate readOnlyTransaction;
+    private static TransactionTemplate readWriteTransaction;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        createReader();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+        dataSourceProperties.getReadOnly()
+                .setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.getReadOnly()
+                .setUsername(READER);
+        dataSourceProperties.getReadOnly()
+                .setPassword(READER);
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            var routingDataSource = (ReadWriteRoutingDataSource) ((LazyConnectionDataSourceProxy) factoryBean
+                    .getDataSource()).getTargetDataSource();
+            routingDataSource.getResolvedDataSources()
+                    .values()
+                    .forEach(dataSource -> ((HikariDataSource) dataSource).close());
+        }
+    }
+
+    @Test
+    public void testReadThenWrite_WriteIsRoutedToReadWritePool() {
+        assertEquals(READER, readOnlyTransaction.execute(status -> readUsers()));
+        assertEquals(POSTGRES.getUsername(), readWriteTransaction.execute(status -> insertUser()));
+    }
+
+    @Test
+    public void testReadThenWrite_SharedEntityManager_WriteIsRoutedToReadWritePool() {
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(requestEntityManager));
+        try {
+            assertEquals(READER, readOnlyTransaction.execute(status -> readUsers()));
+            assertEquals(POSTGRES.getUsername(), readWriteTransaction.execute(status -> insertUser()));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+    }
+
+    /**
+     * Reads the {@code user} table.
+     *
+     * @return the database role the statement ran as
+     */
+    private String readUsers() {
+        entityManager.createQuery("SELECT COUNT(u) FROM User u")
+                .getSingleResult();
+
+        return currentRole();
+    }
+
+    /**
+     * Inserts a User, which the read-only role isn't allowed to.
+     *
+     * @return the database role the statement ran as
+     */
+    private String insertUser() {
+        entityManager.persist(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("password")
+                .role(UserRole.ROLE_USER)
+                .build());
+        entityManager.flush();
+
+        return currentRole();
+    }
+
+    private String currentRole() {
+        return (String) entityManager.createNativeQuery("SELECT CAST(current_user AS TEXT)")
+                .getSingleResult();
+    }
+
+    private static void createReader() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ROLE " + READER + " LOGIN PASSWORD '" + READER + "'");
+            statement.execute("GRANT SELECT ON ALL TABLES IN SCHEMA public TO " + READER);
+        }
+    }
+}
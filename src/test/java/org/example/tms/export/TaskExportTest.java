@@ -0,0 +1,195 @@
+package org.example.tms.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.mapper.CommentMapperImpl;
+import org.example.tms.mapper.TaskAssigneeMapperImpl;
+import org.example.tms.mapper.TaskMapper;
+import org.example.tms.mapper.TaskMapperImpl;
+import org.example.tms.mapper.UserMapperImpl;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.repository.EntityResolver;
+import org.example.tms.repository.EntityStreamReader;
+import org.example.tms.repository.TaskRepository;
+import org.example.tms.service.impl.TaskServiceImpl;
+import org.example.tms.util.ConstantUtil;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exports a million seeded tasks through {@link TaskServiceImpl#exportTasks} against PostgreSQL and checks
+ * that every task is written while the persistence context never holds more than a few chunks worth of entities.
+ * <p>
+ * Run it under a fixed heap to check the memory bound end to end, for example
+ * {@code mvn test -Dtest=TaskExportTest -DargLine=-Xmx256m}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskExportTest {
+    private static final int USERS = 1_000;
+    private static final int TASKS = 1_000_000;
+    private static final int COMMENTS = 200_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static AnnotationConfigApplicationContext mapperContext;
+    private static EntityManager entityManager;
+    private static TransactionTemplate transactionTemplate;
+    private static TaskServiceImpl taskService;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        seed();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factoryBean.getObject()));
+        transactionTemplate.setReadOnly(true);
+
+        mapperContext = new AnnotationConfigApplicationContext(TaskMapperImpl.class, TaskAssigneeMapperImpl.class,
+                CommentMapperImpl.class, UserMapperImpl.class);
+
+        taskService = new TaskServiceImpl(mapperContext.getBean(TaskMapper.class), null,
+                new JpaRepositoryFactory(entityManager).getRepository(TaskRepository.class), null, null,
+                new EntityStreamReader(entityManager), new ObjectMapper().findAndRegisterModules(),
+                null, null, new EntityResolver(entityManager));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (mapperContext != null) {
+            mapperContext.close();
+        }
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @Test
+    public void testExportTasks_NdjsonWritesEveryTaskWithBoundedPersistenceContext() {
+        var outputStream = new LineCountingOutputStream();
+
+        transactionTemplate.executeWithoutResult(status -> export(ExportFormat.NDJSON, outputStream));
+
+        assertEquals(TASKS, outputStream.lines);
+        assertTrue(outputStream.maxManagedEntities < 10 * ConstantUtil.EXPORT_CHUNK_SIZE,
+                "Persistence context grew to " + outputStream.maxManagedEntities + " entities");
+    }
+
+    @Test
+    public void testExportTasks_CsvWritesHeaderAndEveryTask() {
+        var outputStream = new LineCountingOutputStream();
+
+        transactionTemplate.executeWithoutResult(status -> export(ExportFormat.CSV, outputStream));
+
+        assertEquals(TASKS + 1, outputStream.lines);
+    }
+
+    private static void export(ExportFormat format, OutputStream outputStream) {
+        try {
+            taskService.exportTasks(format, outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO task (title, description, status, priority, author_id, created_at, " +
+                    "updated_at) " +
+                    "SELECT 'Task ' || g, 'Description, with \"quotes\"', 'PENDING', 'MEDIUM', " +
+                    "u.ids[1 + g % " + USERS + "], now() - g * interval '1 second', now() " +
+                    "FROM generate_series(1, " + TASKS + ") g, (SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("INSERT INTO task_assignee (task_id, user_id) " +
+                    "SELECT numbered.id, u.ids[1 + numbered.position % " + USERS + "] " +
+                    "FROM (SELECT id, ROW_NUMBER() OVER () AS position FROM task) numbered, " +
+                    "(SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("INSERT INTO comment (content, task_id, author_id, created_at) " +
+                    "SELECT 'Comment ' || g, t.ids[1 + g % " + TASKS + "], u.ids[1 + g % " + USERS + "], " +
+                    "now() - g * interval '1 second' " +
+                    "FROM generate_series(1, " + COMMENTS + ") g, (SELECT array_agg(id) AS ids FROM task) t, " +
+                    "(SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Discards the export, counting its lines and sampling the size of the persistence context on every write.
+     */
+    private static final class LineCountingOutputStream extends OutputStream {
+        private long lines;
+        private long maxManagedEntities;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+            maxManagedEntities = Math.max(maxManagedEntities, entityManager.unwrap(Session.class)
+                    .getStatistics()
+                    .getEntityCount());
+        }
+    }
+}
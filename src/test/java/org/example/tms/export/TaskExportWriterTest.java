@@ -0,0 +1,125 @@
+package org.example.tms.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.tms.dto.responses.TaskAssigneeResponseDto;
+import org.example.tms.dto.responses.TaskResponseDto;
+import org.example.tms.dto.responses.UserResponseDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskExportWriterTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+    private static final UUID FIRST_ASSIGNEE_ID = UUID.randomUUID();
+    private static final UUID SECOND_ASSIGNEE_ID = UUID.randomUUID();
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    public void testNdjson_WritesOneJsonDocumentPerLine() throws IOException {
+        String export = export(ExportFormat.NDJSON, task("First"), task("Second"));
+
+        assertTrue(export.endsWith("\n"));
+        String[] lines = export.split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("First", first.get("title")
+                .asText());
+        assertEquals(AUTHOR_ID.toString(), first.get("author")
+                .get("id")
+                .asText());
+        assertEquals("Second", objectMapper.readTree(lines[1])
+                .get("title")
+                .asText());
+    }
+
+    @Test
+    public void testCsv_WritesHeaderAndQuotesSpecialCharacters() throws IOException {
+        String export = export(ExportFormat.CSV, task("Fix \"login\", then deploy"));
+
+        String[] rows = export.split("\r\n");
+        assertEquals(2, rows.length);
+        assertEquals("id,title,description,status,priority,author_id,author_email,assignee_ids,comment_count," +
+                "created_at,updated_at", rows[0]);
+        assertEquals(TASK_ID + ",\"Fix \"\"login\"\", then deploy\",,PENDING,HIGH," + AUTHOR_ID +
+                ",author@example.com," + FIRST_ASSIGNEE_ID + ";" + SECOND_ASSIGNEE_ID + ",3," + CREATED_AT + ","
+                + CREATED_AT, rows[1]);
+    }
+
+    @Test
+    public void testCsv_PrefixesFormulaValuesWithApostrophe() throws IOException {
+        Map<String, String> cells = Map.of(
+                "=HYPERLINK(\"http://example.com\")", "\"'=HYPERLINK(\"\"http://example.com\"\")\"",
+                "+1", "'+1",
+                "-1", "'-1",
+                "@SUM(A1)", "'@SUM(A1)",
+                "'quoted'", "''quoted'",
+                "Plain", "Plain");
+
+        for (Map.Entry<String, String> cell : cells.entrySet()) {
+            String row = export(ExportFormat.CSV, task(cell.getKey())).split("\r\n")[1];
+
+            assertTrue(row.startsWith(TASK_ID + "," + cell.getValue() + ","), row);
+        }
+    }
+
+    @Test
+    public void testFromValue_IgnoresCaseAndRejectsUnknownFormat() {
+        assertEquals(ExportFormat.CSV, ExportFormat.fromValue("CSV"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromValue("ndjson"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.fromValue("xml"));
+    }
+
+    private String export(ExportFormat format, TaskResponseDto... tasks) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (TaskExportWriter writer = format.openWriter(outputStream, objectMapper)) {
+            for (TaskResponseDto task : tasks) {
+                writer.write(task);
+            }
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TaskResponseDto task(String title) {
+        return TaskResponseDto.builder()
+                .id(TASK_ID)
+                .title(title)
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.HIGH)
+                .author(UserResponseDto.builder()
+                        .id(AUTHOR_ID)
+                        .email("author@example.com")
+                        .build())
+                .taskAssignees(List.of(assignee(FIRST_ASSIGNEE_ID), assignee(SECOND_ASSIGNEE_ID)))
+                .comments(List.of())
+                .commentCount(3)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    private static TaskAssigneeResponseDto assignee(UUID assigneeId) {
+        return TaskAssigneeResponseDto.builder()
+                .id(UUID.randomUUID())
+                .assignee(UserResponseDto.builder()
+                        .id(assigneeId)
+                        .build())
+                .build();
+    }
+}
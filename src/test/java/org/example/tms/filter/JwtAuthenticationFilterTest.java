@@ -1,10 +1,13 @@
 package org.example.tms.filter;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.tms.exception.JwtAuthenticationException;
 import org.example.tms.service.JwtBlacklistService;
+import org.example.tms.service.JwtPrincipalService;
 import org.example.tms.service.JwtService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,9 +20,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.PrintWriter;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -49,19 +52,24 @@ public class JwtAuthenticationFilterTest {
     private HttpServletResponse response;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private JwtPrincipalService jwtPrincipalService;
 
     @Mock
     private JwtBlacklistService jwtBlacklistService;
 
+    private Claims claims;
+
     @BeforeEach
     public void setUp() {
         SecurityContextHolder.clearContext();
+
+        claims = Jwts.claims()
+                .setSubject(USERNAME);
     }
 
     @Test
     public void testDoFilterInternal_InvalidToken() throws Exception {
-        when(jwtService.isAccessTokenValid(ACCESS_TOKEN)).thenReturn(false);
+        when(jwtService.parseAccessToken(ACCESS_TOKEN)).thenReturn(Optional.empty());
         when(request.getHeader("Authorization")).thenReturn("Bearer " + ACCESS_TOKEN);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -71,7 +79,7 @@ public class JwtAuthenticationFilterTest {
 
     @Test
     public void testDoFilterInternal_BlacklistedToken() throws Exception {
-        when(jwtService.isAccessTokenValid(ACCESS_TOKEN)).thenReturn(true);
+        when(jwtService.parseAccessToken(ACCESS_TOKEN)).thenReturn(Optional.of(claims));
         when(jwtBlacklistService.isTokenBlacklisted(ACCESS_TOKEN)).thenReturn(true);
         when(request.getHeader("Authorization")).thenReturn("Bearer " + ACCESS_TOKEN);
 
@@ -89,10 +97,9 @@ public class JwtAuthenticationFilterTest {
 
     @Test
     void testDoFilterInternal_ValidTokenAndNoAuthentication() throws Exception {
-        when(jwtService.isAccessTokenValid(ACCESS_TOKEN)).thenReturn(true);
+        when(jwtService.parseAccessToken(ACCESS_TOKEN)).thenReturn(Optional.of(claims));
         when(jwtBlacklistService.isTokenBlacklisted(ACCESS_TOKEN)).thenReturn(false);
-        when(jwtService.extractUsername(ACCESS_TOKEN, jwtService.getAccessSecretKey())).thenReturn(USERNAME);
-        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+        when(jwtPrincipalService.resolvePrincipal(claims)).thenReturn(userDetails);
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + ACCESS_TOKEN);
 
@@ -111,15 +118,16 @@ public class JwtAuthenticationFilterTest {
             verify(context).setAuthentication(argThat(auth -> auth instanceof UsernamePasswordAuthenticationToken &&
                     auth.getPrincipal()
                             .equals(userDetails)));
+            verify(jwtService, times(1)).parseAccessToken(ACCESS_TOKEN);
+            verifyNoMoreInteractions(jwtService);
         }
     }
 
     @Test
     public void testDoFilterInternal_ExceptionDuringProcessing() {
-        when(jwtService.isAccessTokenValid(ACCESS_TOKEN)).thenReturn(true);
+        when(jwtService.parseAccessToken(ACCESS_TOKEN)).thenReturn(Optional.of(claims));
         when(jwtBlacklistService.isTokenBlacklisted(ACCESS_TOKEN)).thenReturn(false);
-        when(jwtService.extractUsername(ACCESS_TOKEN, jwtService.getAccessSecretKey())).thenReturn(USERNAME);
-        when(userDetailsService.loadUserByUsername(USERNAME)).thenThrow(new RuntimeException("Unexpected Error"));
+        when(jwtPrincipalService.resolvePrincipal(claims)).thenThrow(new RuntimeException("Unexpected Error"));
         when(request.getHeader("Authorization")).thenReturn("Bearer " + ACCESS_TOKEN);
 
         JwtAuthenticationException exception = assertThrows(JwtAuthenticationException.class,
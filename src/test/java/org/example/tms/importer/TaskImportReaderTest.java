@@ -0,0 +1,136 @@
+package org.example.tms.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskImportReaderTest {
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    public void testNdjson_ParsesRowsAndReportsMalformedLine() throws IOException {
+        List<TaskImportRow> rows = read(ImportFormat.NDJSON,
+                "{\"title\":\"First\",\"status\":\"PENDING\",\"priority\":\"LOW\",\"authorId\":\"" + AUTHOR_ID +
+                        "\",\"unknown\":1}\n" +
+                        "\n" +
+                        "{\"title\":\"Second\",\"status\":\"DONE\"}\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0)
+                .line());
+        assertEquals("First", rows.get(0)
+                .request()
+                .getTitle());
+        assertEquals(AUTHOR_ID, rows.get(0)
+                .request()
+                .getAuthorId());
+
+        assertEquals(3, rows.get(1)
+                .line());
+        assertNull(rows.get(1)
+                .request());
+        assertTrue(rows.get(1)
+                .error()
+                .contains("DONE"));
+    }
+
+    @Test
+    public void testCsv_ParsesQuotedFieldsAndTracksLines() throws IOException {
+        List<TaskImportRow> rows = read(ImportFormat.CSV,
+                "title,description,status,priority,author_id,created_at\r\n" +
+                        "\"Fix \"\"login\"\", then deploy\",\"Line one\nLine two\",IN_PROGRESS,HIGH," + AUTHOR_ID +
+                        ",2024-05-01T12:30\r\n" +
+                        "Second,,COMPLETED,LOW," + AUTHOR_ID + ",\r\n");
+
+        assertEquals(2, rows.size());
+
+        var first = rows.get(0)
+                .request();
+        assertEquals(2, rows.get(0)
+                .line());
+        assertEquals("Fix \"login\", then deploy", first.getTitle());
+        assertEquals("Line one\nLine two", first.getDescription());
+        assertEquals(TaskStatus.IN_PROGRESS, first.getStatus());
+        assertEquals(TaskPriority.HIGH, first.getPriority());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30), first.getCreatedAt());
+
+        var second = rows.get(1)
+                .request();
+        assertEquals(4, rows.get(1)
+                .line());
+        assertNull(second.getDescription());
+        assertNull(second.getCreatedAt());
+    }
+
+    @Test
+    public void testCsv_StripsApostropheOfEscapedFormulaValues() throws IOException {
+        List<TaskImportRow> rows = read(ImportFormat.CSV,
+                "title,description,status,priority,author_id\r\n" +
+                        "'=SUM(A1),'@mention,PENDING,LOW," + AUTHOR_ID + "\r\n" +
+                        "''quoted',-1,PENDING,LOW," + AUTHOR_ID + "\r\n" +
+                        "'Tis,'+1,PENDING,LOW," + AUTHOR_ID + "\r\n");
+
+        assertEquals("=SUM(A1)", rows.get(0)
+                .request()
+                .getTitle());
+        assertEquals("@mention", rows.get(0)
+                .request()
+                .getDescription());
+        assertEquals("'quoted'", rows.get(1)
+                .request()
+                .getTitle());
+        assertEquals("-1", rows.get(1)
+                .request()
+                .getDescription());
+        assertEquals("'Tis", rows.get(2)
+                .request()
+                .getTitle());
+        assertEquals("+1", rows.get(2)
+                .request()
+                .getDescription());
+    }
+
+    @Test
+    public void testCsv_ReportsInvalidValue() throws IOException {
+        List<TaskImportRow> rows = read(ImportFormat.CSV,
+                "title,status,priority,author_id\n" +
+                        "Task,PENDING,URGENT," + AUTHOR_ID + "\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("priority: invalid value 'URGENT'", rows.get(0)
+                .error());
+    }
+
+    @Test
+    public void testCsv_RejectsHeaderWithoutRequiredColumn() {
+        assertThrows(IllegalArgumentException.class, () -> read(ImportFormat.CSV, "title,status,priority\n"));
+    }
+
+    private List<TaskImportRow> read(ImportFormat format, String content) throws IOException {
+        List<TaskImportRow> rows = new ArrayList<>();
+        try (TaskImportReader reader = format.openReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            TaskImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.tms.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    public void testGenerate_SetsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1,
+                "Timestamp " + timestamp + " is outside [" + before + ", " + after + "]");
+    }
+
+    @Test
+    public void testGenerate_IsStrictlyIncreasingWithinTheSameMillisecond() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7Generator.generate());
+        }
+
+        for (int i = 1; i < uuids.size(); i++) {
+            assertTrue(Long.compareUnsigned(uuids.get(i - 1)
+                            .getMostSignificantBits(), uuids.get(i)
+                            .getMostSignificantBits()) < 0,
+                    uuids.get(i - 1) + " is not followed by a greater UUID: " + uuids.get(i));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.tms.model.Task;
+import org.example.tms.properties.HibernateProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EntityBatchWriterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EntityBatchWriter entityBatchWriter;
+
+    @BeforeEach
+    public void setUp() {
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.getBatch()
+                .setSize(2);
+
+        entityBatchWriter = new EntityBatchWriter(entityManager, hibernateProperties);
+    }
+
+    @Test
+    public void testPersistAll_FlushesAndClearsEveryBatch() {
+        List<Task> tasks = IntStream.range(0, 5)
+                .mapToObj(i -> task("Task " + i))
+                .toList();
+
+        List<String> titles = entityBatchWriter.persistAll(tasks, Task::getTitle);
+
+        assertEquals(List.of("Task 0", "Task 1", "Task 2", "Task 3", "Task 4"), titles);
+        tasks.forEach(task -> verify(entityManager).persist(task));
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager)
+                .persist(tasks.get(1));
+        inOrder.verify(entityManager)
+                .flush();
+        inOrder.verify(entityManager)
+                .clear();
+        inOrder.verify(entityManager)
+                .persist(tasks.get(2));
+    }
+
+    @Test
+    public void testPersistAll_DoesNothingForEmptyList() {
+        assertEquals(List.of(), entityBatchWriter.persistAll(List.<Task>of(), Task::getTitle));
+        verifyNoInteractions(entityManager);
+    }
+
+    private static Task task(String title) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .build();
+    }
+}
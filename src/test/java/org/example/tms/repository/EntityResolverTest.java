@@ -0,0 +1,139 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.example.tms.model.Task;
+import org.example.tms.model.User;
+import org.hibernate.jpa.SpecHints;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EntityResolverTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Metamodel metamodel;
+
+    @Mock
+    private EntityType<Task> entityType;
+
+    @Mock
+    private SingularAttribute<Task, User> authorAttribute;
+
+    @Mock
+    private SingularAttribute<Task, String> titleAttribute;
+
+    @Mock
+    private EntityGraph<Task> entityGraph;
+
+    @Mock
+    private RequestAttributes requestAttributes;
+
+    private EntityResolver entityResolver;
+
+    @BeforeEach
+    public void setUp() {
+        entityResolver = new EntityResolver(entityManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testExists_KeepsEntityForTheRestOfTheRequest() {
+        Task task = Task.builder()
+                .id(TASK_ID)
+                .build();
+        bindRequest();
+        stubFind(task);
+
+        assertTrue(entityResolver.exists(Task.class, TASK_ID));
+        assertEquals(Optional.of(task), entityResolver.findResolved(Task.class, TASK_ID));
+        assertEquals(Optional.empty(), entityResolver.findResolved(User.class, TASK_ID));
+        verify(entityGraph).addAttributeNodes("author");
+        verifyNoMoreInteractions(entityGraph);
+    }
+
+    @Test
+    public void testExists_ReturnsFalseWhenEntityIsMissing() {
+        bindRequest();
+        stubFind(null);
+
+        assertFalse(entityResolver.exists(Task.class, TASK_ID));
+        assertEquals(Optional.empty(), entityResolver.findResolved(Task.class, TASK_ID));
+    }
+
+    @Test
+    public void testExists_KeepsNothingOutsideOfRequest() {
+        stubFind(Task.builder()
+                .id(TASK_ID)
+                .build());
+
+        assertTrue(entityResolver.exists(Task.class, TASK_ID));
+        assertEquals(Optional.empty(), entityResolver.findResolved(Task.class, TASK_ID));
+    }
+
+    @Test
+    public void testExists_RunsInReadOnlyTransaction() throws NoSuchMethodException {
+        Transactional transactional = EntityResolver.class.getMethod("exists", Class.class, UUID.class)
+                .getAnnotation(Transactional.class);
+
+        assertTrue(transactional.readOnly());
+    }
+
+    /**
+     * Binds request attributes backed by a map to the current thread.
+     */
+    private void bindRequest() {
+        Map<String, Object> attributes = new HashMap<>();
+        lenient().when(requestAttributes.getAttribute(anyString(), eq(RequestAttributes.SCOPE_REQUEST)))
+                .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        lenient().doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(requestAttributes)
+                .setAttribute(anyString(), any(), eq(RequestAttributes.SCOPE_REQUEST));
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    private void stubFind(Task task) {
+        when(entityManager.createEntityGraph(Task.class)).thenReturn(entityGraph);
+        when(entityManager.getMetamodel()).thenReturn(metamodel);
+        when(metamodel.entity(Task.class)).thenReturn(entityType);
+        doReturn(Set.of(authorAttribute, titleAttribute)).when(entityType)
+                .getSingularAttributes();
+        when(authorAttribute.isAssociation()).thenReturn(true);
+        when(authorAttribute.getName()).thenReturn("author");
+        when(titleAttribute.isAssociation()).thenReturn(false);
+        when(entityManager.find(Task.class, TASK_ID, Map.of(SpecHints.HINT_SPEC_LOAD_GRAPH, entityGraph)))
+                .thenReturn(task);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.tms.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class EntityStreamReaderTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EntityStreamReader entityStreamReader;
+
+    @BeforeEach
+    public void setUp() {
+        entityStreamReader = new EntityStreamReader(entityManager);
+    }
+
+    @Test
+    public void testForEachChunk_ClearsPersistenceContextAfterEveryChunk() {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        entityStreamReader.forEachChunk(Stream.of(1, 2, 3, 4, 5), 2, chunk -> chunks.add(List.copyOf(chunk)));
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), chunks);
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    public void testForEachChunk_DoesNothingForEmptyStream() {
+        entityStreamReader.forEachChunk(Stream.empty(), 2, chunk -> {
+            throw new AssertionError("No chunk expected");
+        });
+
+        verifyNoInteractions(entityManager);
+    }
+}
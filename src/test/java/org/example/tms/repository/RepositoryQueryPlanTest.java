@@ -0,0 +1,500 @@
+package org.example.tms.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.dto.requests.TaskFilterRequestDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.repository.specification.TaskSpecifications;
+import org.example.tms.util.KeysetCursor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@code EXPLAIN} for the SQL issued by {@link TaskRepository}, {@link CommentRepository} and the
+ * foreign key checks of cascade deletes against a migrated and seeded PostgreSQL database.
+ * Fails when any of them falls back to a sequential scan over {@code task}, {@code task_assignee} or {@code comment},
+ * or when a filter query doesn't use the index meant for it.
+ * <p>
+ * The repository queries are called through Hibernate on a data source that runs every prepared statement under
+ * {@code EXPLAIN} first, with the parameters Hibernate bound to it, so the plans are those of the SQL the application
+ * actually sends. Only the foreign key checks, which PostgreSQL issues itself, are written out by hand.
+ * Unbounded counts over a whole table are left out on purpose, they can't avoid reading every row.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class RepositoryQueryPlanTest {
+    private static final int USERS = 200;
+    private static final int TASKS = 20_000;
+    private static final int COMMENTS = 60_000;
+    private static final int PAGE_LIMIT = 21;
+    private static final Pattern SEQUENTIAL_SCAN = Pattern.compile("Seq Scan on (task|task_assignee|comment)\\b");
+    private static final Pattern TASK_SCAN = Pattern.compile("Scan .*on task \\w+");
+    private static final Pattern INDEX_SEEK =
+            Pattern.compile("Index Cond: .*ROW\\((\\w+\\.)?created_at, (\\w+\\.)?id\\) <");
+    private static final int DEEP_CURSOR_POSITION = TASKS * 3 / 4;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    private static final Pageable KEYSET_PAGE = PageRequest.ofSize(PAGE_LIMIT);
+    private static final ThreadLocal<String> EXPLAIN_OPTIONS = new ThreadLocal<>();
+    private static final List<QueryPlan> PLANS = new CopyOnWriteArrayList<>();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static UUID userId;
+    private static UUID taskId;
+    private static UUID commentId;
+    private static List<UUID> taskIds;
+    private static LocalDateTime cursorCreatedAt;
+    private static LocalDateTime deepCursorCreatedAt;
+    private static UUID deepCursorId;
+    private static UUID deepCursorAuthorId;
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static HikariDataSource dataSource;
+    private static TransactionTemplate transactionTemplate;
+    private static TaskRepository taskRepository;
+    private static CommentRepository commentRepository;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO task (title, status, priority, author_id, created_at, updated_at) " +
+                    "SELECT 'Task ' || g, (ARRAY['PENDING', 'IN_PROGRESS', 'COMPLETED'])[1 + g % 3], " +
+                    "CASE WHEN g % 50 = 0 THEN 'HIGH' WHEN g % 2 = 0 THEN 'MEDIUM' ELSE 'LOW' END, " +
+                    "u.ids[1 + g % " + USERS + "], " +
+                    "now() - g * interval '1 minute', now() - g * interval '30 second' " +
+                    "FROM generate_series(1, " + TASKS + ") g, (SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("INSERT INTO comment (content, task_id, author_id, created_at) " +
+                    "SELECT 'Comment ' || g, t.ids[1 + g % " + TASKS + "], u.ids[1 + g % " + USERS + "], " +
+                    "now() - g * interval '1 second' " +
+                    "FROM generate_series(1, " + COMMENTS + ") g, (SELECT array_agg(id) AS ids FROM task) t, " +
+                    "(SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("INSERT INTO task_assignee (task_id, user_id) " +
+                    "SELECT numbered.id, u.ids[1 + numbered.position % " + USERS + "] " +
+                    "FROM (SELECT id, ROW_NUMBER() OVER () AS position FROM task) numbered, " +
+                    "(SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("VACUUM ANALYZE");
+
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT t.id, t.author_id, t.created_at FROM task t ORDER BY t.created_at DESC LIMIT 3")) {
+                taskIds = new ArrayList<>();
+                while (resultSet.next()) {
+                    taskIds.add(resultSet.getObject("id", UUID.class));
+                    userId = resultSet.getObject("author_id", UUID.class);
+                    cursorCreatedAt = resultSet.getTimestamp("created_at")
+                            .toLocalDateTime();
+                }
+                taskId = taskIds.get(0);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT t.id, t.author_id, t.created_at FROM task t " +
+                    "ORDER BY t.created_at DESC, t.id DESC OFFSET " + DEEP_CURSOR_POSITION + " LIMIT 1")) {
+                resultSet.next();
+                deepCursorId = resultSet.getObject("id", UUID.class);
+                deepCursorAuthorId = resultSet.getObject("author_id", UUID.class);
+                deepCursorCreatedAt = resultSet.getTimestamp("created_at")
+                        .toLocalDateTime();
+            }
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT id FROM comment LIMIT 1")) {
+                resultSet.next();
+                commentId = resultSet.getObject("id", UUID.class);
+            }
+        }
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        dataSource = (HikariDataSource) factoryBean.getDataSource();
+        factoryBean.setDataSource(explaining(dataSource));
+        factoryBean.afterPropertiesSet();
+
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factoryBean.getObject()));
+        var repositoryFactory = new JpaRepositoryFactory(entityManager);
+        taskRepository = repositoryFactory.getRepository(TaskRepository.class);
+        commentRepository = repositoryFactory.getRepository(CommentRepository.class);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            dataSource.close();
+        }
+    }
+
+    @Test
+    public void testTaskAssociationQueries_UseIndexes() {
+        assertNoSequentialScan(explain(() -> {
+            taskRepository.fetchTaskAssigneesByTaskIds(taskIds);
+            taskRepository.fetchCommentsByTaskIds(taskIds);
+            taskRepository.fetchLatestCommentIdsByTaskIds(taskIds, 5);
+            taskRepository.fetchCommentsByIds(List.of(commentId));
+            taskRepository.updateCommentCount(taskId, 1);
+        }));
+    }
+
+    @Test
+    public void testTaskPageQueries_UseIndexes() {
+        // The count of all tasks that follows the first page is unbounded, only the page itself is checked
+        assertNoSequentialScan(explain(() -> taskRepository.findAllWithDetails(FIRST_PAGE))
+                .subList(0, 1));
+        assertNoSequentialScan(explain(() -> {
+            taskRepository.findAllByAuthor_Id(userId, FIRST_PAGE);
+            taskRepository.countByAuthor_Id(userId);
+            taskRepository.findAllByTaskAssignees_Assignee_Id(userId, FIRST_PAGE);
+            taskRepository.countByAssigneeId(userId);
+        }));
+    }
+
+    @Test
+    public void testTaskKeysetQueries_UseIndexes() {
+        assertNoSequentialScan(explain(() -> {
+            taskRepository.findAllAfter(cursorCreatedAt, taskId, KEYSET_PAGE);
+            taskRepository.findAllByAuthorIdAfter(userId, cursorCreatedAt, taskId, KEYSET_PAGE);
+            taskRepository.findAllByAssigneeIdAfter(userId, cursorCreatedAt, taskId, KEYSET_PAGE);
+        }));
+    }
+
+    @Test
+    public void testTaskKeysetQueries_DeepCursorSeeksIndex() {
+        assertIndexSeek(explainAnalyze(() -> {
+            taskRepository.findAllAfter(deepCursorCreatedAt, deepCursorId, KEYSET_PAGE);
+            taskRepository.findAllByAuthorIdAfter(deepCursorAuthorId, deepCursorCreatedAt, deepCursorId,
+                    KEYSET_PAGE);
+        }));
+    }
+
+    @Test
+    public void testCommentQueries_UseIndexes() {
+        assertNoSequentialScan(explain(() -> {
+            commentRepository.findAllByTask_Id(taskId, FIRST_PAGE);
+            commentRepository.countByTask_Id(taskId);
+            commentRepository.findAllByTaskIdAfter(taskId, LocalDateTime.now(), commentId, KEYSET_PAGE);
+        }));
+    }
+
+    /**
+     * Runs the filter page query built from {@link TaskSpecifications}, the way the task service does, for common
+     * filters and checks that each uses the index meant for it. A status alone has no index ordered by creation
+     * time, so it is served by walking {@code idx_task_created_at_id} from the cursor, a third of its rows matching.
+     * High priority is seeded on one task in fifty, as a priority shared by a third of the tasks would be served
+     * the same way. The update time ranges are narrow, as the index on {@code updated_at} only pays off for
+     * selective ranges.
+     */
+    @Test
+    public void testTaskFilterQueries_UseFilterIndexes() {
+        KeysetCursor cursor = new KeysetCursor(cursorCreatedAt, taskId);
+        LocalDateTime updatedTo = cursorCreatedAt.minusDays(1);
+
+        Map<TaskFilterRequestDto, String> filters = new LinkedHashMap<>();
+        filters.put(TaskFilterRequestDto.builder()
+                .status(Set.of(TaskStatus.IN_PROGRESS))
+                .build(), "idx_task_created_at_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .status(Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS))
+                .build(), "idx_task_created_at_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .priority(Set.of(TaskPriority.HIGH))
+                .build(), "idx_task_priority_created_at_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .status(Set.of(TaskStatus.IN_PROGRESS))
+                .priority(Set.of(TaskPriority.HIGH))
+                .build(), "idx_task_status_priority_created_at_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .authorId(userId)
+                .status(Set.of(TaskStatus.PENDING))
+                .build(), "idx_task_author_id_created_at_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .assigneeId(userId)
+                .status(Set.of(TaskStatus.PENDING))
+                .build(), "idx_task_assignee_user_id_task_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .createdFrom(cursorCreatedAt.minusDays(2))
+                .createdTo(cursorCreatedAt.minusDays(1))
+                .build(), "idx_task_created_at_id");
+        filters.put(TaskFilterRequestDto.builder()
+                .updatedFrom(updatedTo.minusMinutes(5))
+                .updatedTo(updatedTo)
+                .build(), "idx_task_updated_at");
+        filters.put(TaskFilterRequestDto.builder()
+                .status(Set.of(TaskStatus.COMPLETED))
+                .updatedFrom(cursorCreatedAt)
+                .build(), "idx_task_updated_at");
+
+        filters.forEach((filter, index) -> assertUsesIndex(explain(() -> taskRepository.findBy(
+                TaskSpecifications.matching(filter)
+                        .and(TaskSpecifications.after(cursor)),
+                query -> query.sortBy(TaskSpecifications.KEYSET_ORDER)
+                        .limit(PAGE_LIMIT)
+                        .project("author")
+                        .all())), index));
+    }
+
+    @Test
+    public void testTaskSearchQueries_UseFullTextIndexes() {
+        assertNoSequentialScan(explain(() -> {
+            taskRepository.searchAfter("1234", Double.MAX_VALUE, taskId, PAGE_LIMIT);
+            taskRepository.countSearchMatches("1234");
+        }));
+    }
+
+    @Test
+    public void testForeignKeyLookupsOfCascadeDeletes_UseIndexes() throws SQLException {
+        assertNoSequentialScan("SELECT 1 FROM task WHERE author_id = ?", userId);
+        assertNoSequentialScan("SELECT 1 FROM comment WHERE author_id = ?", userId);
+        assertNoSequentialScan("SELECT 1 FROM comment WHERE task_id = ?", taskId);
+        assertNoSequentialScan("SELECT 1 FROM task_assignee WHERE user_id = ?", userId);
+        assertNoSequentialScan("SELECT 1 FROM task_assignee WHERE task_id = ?", taskId);
+    }
+
+    private static void assertNoSequentialScan(String sql, Object... parameters) throws SQLException {
+        assertNoSequentialScan(List.of(new QueryPlan(sql, explain(sql, parameters))));
+    }
+
+    private static void assertNoSequentialScan(List<QueryPlan> plans) {
+        for (QueryPlan plan : plans) {
+            assertFalse(SEQUENTIAL_SCAN.matcher(plan.plan())
+                    .find(), () -> "Sequential scan in plan of " + plan);
+        }
+    }
+
+    private static void assertUsesIndex(List<QueryPlan> plans, String index) {
+        assertNoSequentialScan(plans);
+
+        Pattern indexScan = Pattern.compile("(using|on) " + Pattern.quote(index) + " ");
+        for (QueryPlan plan : plans) {
+            assertTrue(indexScan.matcher(plan.plan())
+                    .find(), () -> "No scan of " + index + " in plan of " + plan);
+        }
+    }
+
+    /**
+     * Asserts that the keyset predicate is an index condition, so the page starts with a seek to the cursor,
+     * rather than a filter discarding every row before the cursor. Only the scan of {@code task} is checked, the
+     * lookup of the joined author may filter the few rows of {@code user}.
+     */
+    private static void assertIndexSeek(List<QueryPlan> plans) {
+        for (QueryPlan plan : plans) {
+            String taskScan = taskScan(plan.plan());
+            assertTrue(INDEX_SEEK.matcher(taskScan)
+                    .find(), () -> "No index seek to the cursor in plan of " + plan);
+            assertFalse(taskScan.contains("Rows Removed by Filter"), () -> "Rows filtered in plan of " + plan);
+        }
+    }
+
+    /**
+     * Returns the node of the plan that scans {@code task}, with its details and child nodes, or an empty string
+     * if the plan doesn't scan it.
+     */
+    private static String taskScan(String plan) {
+        StringBuilder taskScan = new StringBuilder();
+        int nodeIndent = -1;
+        for (String line : plan.split("\n")) {
+            int indent = line.length() - line.stripLeading()
+                    .length();
+            if (nodeIndent < 0 && TASK_SCAN.matcher(line)
+                    .find()) {
+                nodeIndent = indent;
+            } else if (nodeIndent >= 0 && indent <= nodeIndent) {
+                break;
+            }
+
+            if (nodeIndent >= 0) {
+                taskScan.append(line)
+                        .append('\n');
+            }
+        }
+
+        return taskScan.toString();
+    }
+
+    private static List<QueryPlan> explain(Runnable queries) {
+        return explain("", queries);
+    }
+
+    private static List<QueryPlan> explainAnalyze(Runnable queries) {
+        return explain("(ANALYZE) ", queries);
+    }
+
+    /**
+     * Runs the queries in a transaction that is rolled back, collecting the plan of every statement they issue.
+     *
+     * @param options the options of {@code EXPLAIN}, followed by a space, or an empty string for none
+     * @param queries calls to the repositories
+     * @return the plans, in the order the statements were issued
+     */
+    private static List<QueryPlan> explain(String options, Runnable queries) {
+        PLANS.clear();
+        EXPLAIN_OPTIONS.set(options);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                queries.run();
+            });
+        } finally {
+            EXPLAIN_OPTIONS.remove();
+        }
+
+        assertFalse(PLANS.isEmpty(), "No statements were issued");
+        return List.copyOf(PLANS);
+    }
+
+    private static String explain(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+
+            return readPlan(statement);
+        }
+    }
+
+    private static String readPlan(PreparedStatement statement) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1))
+                        .append('\n');
+            }
+        }
+
+        return plan.toString();
+    }
+
+    /**
+     * Wraps the data source of the entity manager factory, so that every statement prepared on its connections
+     * records its parameters and, while {@link #EXPLAIN_OPTIONS} is set, is explained right before it runs.
+     */
+    private static DataSource explaining(DataSource dataSource) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? explaining(connection) : result;
+        });
+    }
+
+    private static Connection explaining(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName()
+                    .equals("prepareStatement")) {
+                return explaining(connection, (String) args[0], (PreparedStatement) result);
+            }
+
+            return result;
+        });
+    }
+
+    private static PreparedStatement explaining(Connection connection, String sql, PreparedStatement statement) {
+        List<Map.Entry<Method, Object[]>> parameters = new ArrayList<>();
+
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            String options = EXPLAIN_OPTIONS.get();
+            if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                parameters.add(Map.entry(method, args));
+            } else if (name.startsWith("execute") && options != null) {
+                try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + options + sql)) {
+                    for (Map.Entry<Method, Object[]> parameter : parameters) {
+                        invoke(explain, parameter.getKey(), parameter.getValue());
+                    }
+                    PLANS.add(new QueryPlan(sql, readPlan(explain)));
+                }
+            }
+
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, ProxiedCall call) {
+        return type.cast(Proxy.newProxyInstance(RepositoryQueryPlanTest.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> call.invoke(method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    @FunctionalInterface
+    private interface ProxiedCall {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private record QueryPlan(String sql, String plan) {
+
+        @Override
+        public String toString() {
+            return "[" + sql + "]:\n" + plan;
+        }
+    }
+}
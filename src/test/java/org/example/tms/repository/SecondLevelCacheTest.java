@@ -0,0 +1,178 @@
+package org.example.tms.repository;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.model.Task;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.UserRole;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.util.ConstantUtil;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.cache.Caching;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Boots the JPA layer of {@link TransactionalAndJpaConfig} against a migrated PostgreSQL database and checks
+ * that {@link User} lookups and the {@code findByEmail} query are served from the second-level cache,
+ * that writes invalidate them and that {@link Task}s, whose versions back entity tags, are never cached.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class SecondLevelCacheTest {
+    private static final String EMAIL = "cached@example.com";
+    private static final String FIND_BY_EMAIL = "SELECT u FROM User u WHERE u.email = :email";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory entityManagerFactory;
+    private static UUID userId;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    public static void setUp() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(true);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        inTransaction(entityManager -> {
+            var user = User.builder()
+                    .email(EMAIL)
+                    .password("password")
+                    .role(UserRole.ROLE_USER)
+                    .build();
+            entityManager.persist(user);
+            userId = user.getId();
+        });
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .close();
+    }
+
+    @BeforeEach
+    public void resetCaches() {
+        entityManagerFactory.getCache()
+                .unwrap(Cache.class)
+                .evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFind_SecondLookupIsServedFromEntityRegion() {
+        inTransaction(entityManager -> entityManager.find(User.class, userId));
+        inTransaction(entityManager -> entityManager.find(User.class, userId));
+
+        var region = statistics.getDomainDataRegionStatistics(ConstantUtil.USER_CACHE_REGION);
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testFindByEmail_SecondQueryIsServedFromQueryRegion() {
+        inTransaction(this::findByEmail);
+        inTransaction(this::findByEmail);
+
+        var region = statistics.getQueryRegionStatistics(ConstantUtil.USER_BY_EMAIL_CACHE_REGION);
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getHitCount());
+    }
+
+    @Test
+    public void testTask_IsNotCached() {
+        assertFalse(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Task.class)
+                .canWriteToCache());
+    }
+
+    @Test
+    public void testBulkUpdate_InvalidatesEntityAndQueryRegions() {
+        inTransaction(this::findByEmail);
+        inTransaction(entityManager -> entityManager.createQuery(
+                        "UPDATE User u SET u.password = :password WHERE u.id = :userId")
+                .setParameter("password", "rehashed")
+                .setParameter("userId", userId)
+                .executeUpdate());
+
+        inTransaction(entityManager -> assertEquals("rehashed", findByEmail(entityManager).getPassword()));
+
+        assertEquals(2, statistics.getQueryRegionStatistics(ConstantUtil.USER_BY_EMAIL_CACHE_REGION)
+                .getMissCount());
+    }
+
+    private User findByEmail(EntityManager entityManager) {
+        return entityManager.createQuery(FIND_BY_EMAIL, User.class)
+                .setParameter("email", EMAIL)
+                .setHint(AvailableHints.HINT_CACHEABLE, true)
+                .setHint(AvailableHints.HINT_CACHE_REGION, ConstantUtil.USER_BY_EMAIL_CACHE_REGION)
+                .getSingleResult();
+    }
+
+    private static void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction()
+                    .begin();
+            work.accept(entityManager);
+            entityManager.getTransaction()
+                    .commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
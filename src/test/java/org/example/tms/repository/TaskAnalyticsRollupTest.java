@@ -0,0 +1,225 @@
+package org.example.tms.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.dto.requests.TaskAnalyticsRequestDto;
+import org.example.tms.dto.responses.TaskAnalyticsDayDto;
+import org.example.tms.dto.responses.TaskAnalyticsResponseDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.service.impl.TaskAnalyticsServiceImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rolls up a year of seeded task events through {@link TaskAnalyticsServiceImpl} against PostgreSQL and checks
+ * that the rollups match the events, that later rollups only add the events recorded since the previous one,
+ * that a backlog larger than one run is caught up over several runs, and that year-long queries for a User read the rollups through their primary key.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskAnalyticsRollupTest {
+    private static final int USERS = 100;
+    private static final int EVENTS = 500_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 12, 31);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static TransactionTemplate transactionTemplate;
+    private static TaskAnalyticsServiceImpl taskAnalyticsService;
+    private static UUID userId;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factoryBean.getObject()));
+        taskAnalyticsService = new TaskAnalyticsServiceImpl(new TaskAnalyticsRepository(entityManager));
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            try (ResultSet resultSet = statement.executeQuery("SELECT id FROM \"user\" ORDER BY email LIMIT 1")) {
+                resultSet.next();
+                userId = resultSet.getObject(1, UUID.class);
+            }
+        }
+        insertEvents(1, EVENTS);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @Test
+    public void testRollUp_MatchesEventsAndOnlyAddsNewOnes() throws SQLException {
+        rollUp();
+        assertRollupsMatchEvents();
+
+        long watermark = rollUp();
+        insertEvents(EVENTS + 1, EVENTS + 1_000);
+        assertTrue(rollUp() > watermark);
+        assertRollupsMatchEvents();
+
+        TaskAnalyticsResponseDto analytics = transactionTemplate.execute(status ->
+                taskAnalyticsService.getTaskAnalytics(TaskAnalyticsRequestDto.builder()
+                        .from(FIRST_DAY)
+                        .to(LAST_DAY)
+                        .build()));
+        assertEquals(365, analytics.days()
+                .size());
+        assertEquals(count("SELECT COUNT(*) FROM task_status_event WHERE from_status IS NULL"), analytics.days()
+                .stream()
+                .mapToLong(TaskAnalyticsDayDto::createdCount)
+                .sum());
+    }
+
+    @Test
+    public void testFindDailyCounts_YearLongRangesOfUserReadRollupsByKey() throws SQLException {
+        rollUp();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE task_user_daily_rollup");
+        }
+        assertNoSequentialScan("SELECT day, SUM(created_count) FROM task_user_daily_rollup " +
+                "WHERE user_id = '" + userId + "' AND day BETWEEN '" + FIRST_DAY + "' AND '" + LAST_DAY + "' " +
+                "GROUP BY day");
+
+        TaskAnalyticsResponseDto analytics = transactionTemplate.execute(status ->
+                taskAnalyticsService.getTaskAnalytics(TaskAnalyticsRequestDto.builder()
+                        .from(FIRST_DAY)
+                        .to(LAST_DAY)
+                        .userId(userId)
+                        .priority(TaskPriority.HIGH)
+                        .build()));
+        assertEquals(userId, analytics.userId());
+    }
+
+    /**
+     * Rolls up until the watermark reaches the last event, as consecutive scheduled runs would.
+     */
+    private static long rollUp() {
+        long previousWatermark;
+        long watermark = 0;
+        do {
+            previousWatermark = watermark;
+            watermark = transactionTemplate.execute(status -> taskAnalyticsService.rollUp());
+        } while (watermark > previousWatermark);
+
+        return watermark;
+    }
+
+    /**
+     * Seeds events spread over the year, users and priorities. Every third event completes a task
+     * a number of hours after its creation.
+     */
+    private static void insertEvents(int first, int last) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO task_status_event " +
+                    "(task_id, user_id, priority, from_status, to_status, occurred_at, task_created_at) " +
+                    "SELECT gen_random_uuid(), u.ids[1 + g % " + USERS + "], " +
+                    "(ARRAY['HIGH', 'MEDIUM', 'LOW'])[1 + g % 3], " +
+                    "CASE WHEN g % 3 = 0 THEN 'IN_PROGRESS' END, " +
+                    "CASE WHEN g % 3 = 0 THEN 'COMPLETED' ELSE 'PENDING' END, " +
+                    "TIMESTAMP '" + FIRST_DAY + "' + (g % 365) * INTERVAL '1 day' + (g % 24) * INTERVAL '1 hour', " +
+                    "TIMESTAMP '" + FIRST_DAY + "' + (g % 365) * INTERVAL '1 day' " +
+                    "FROM generate_series(" + first + ", " + last + ") g, " +
+                    "(SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static void assertRollupsMatchEvents() throws SQLException {
+        String expected = "SELECT CAST(occurred_at AS DATE) AS day, priority, " +
+                "COUNT(*) FILTER (WHERE from_status IS NULL) AS created_count, " +
+                "COUNT(*) FILTER (WHERE to_status = 'COMPLETED') AS completed_count, " +
+                "COALESCE(SUM(CAST(EXTRACT(EPOCH FROM occurred_at - task_created_at) AS BIGINT)) " +
+                "FILTER (WHERE to_status = 'COMPLETED'), 0) AS cycle_time_seconds " +
+                "FROM task_status_event GROUP BY 1, 2";
+        String actual = "SELECT day, priority, created_count, completed_count, cycle_time_seconds " +
+                "FROM task_daily_rollup";
+
+        assertEquals(0, count("SELECT COUNT(*) FROM ((" + expected + ") EXCEPT (" + actual + ")) difference"));
+        assertEquals(0, count("SELECT COUNT(*) FROM ((" + actual + ") EXCEPT (" + expected + ")) difference"));
+        assertEquals(count("SELECT COUNT(*) FROM task_status_event"),
+                count("SELECT SUM(created_count + completed_count) FROM task_user_daily_rollup"));
+    }
+
+    private static void assertNoSequentialScan(String sql) throws SQLException {
+        var plan = new StringBuilder();
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1))
+                        .append('\n');
+            }
+        }
+        assertFalse(plan.toString()
+                .contains("Seq Scan"), "Sequential scan in plan:\n" + plan);
+    }
+
+    private static long count(String sql) throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
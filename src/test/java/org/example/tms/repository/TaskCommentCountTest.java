@@ -0,0 +1,125 @@
+package org.example.tms.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.model.Task;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks against PostgreSQL that saving a task loaded before a comment was added doesn't overwrite the
+ * denormalized comment counter with the value it was loaded with.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskCommentCountTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static TransactionTemplate transactionTemplate;
+    private static TransactionTemplate concurrentTransaction;
+    private static TaskRepository taskRepository;
+    private static UUID taskId;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        taskId = seed();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        var transactionManager = new JpaTransactionManager(factoryBean.getObject());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        taskRepository = new JpaRepositoryFactory(entityManager).getRepository(TaskRepository.class);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @Test
+    public void testSaveOfStaleTask_KeepsConcurrentCommentCountIncrement() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow();
+
+            concurrentTransaction.executeWithoutResult(nested -> taskRepository.updateCommentCount(taskId, 1));
+
+            task.setTitle("Updated title");
+            taskRepository.saveAndFlush(task);
+        });
+
+        Task task = transactionTemplate.execute(status -> taskRepository.findById(taskId)
+                .orElseThrow());
+        assertEquals("Updated title", task.getTitle());
+        assertEquals(1, task.getCommentCount());
+    }
+
+    private static UUID seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "VALUES ('author@example.com', 'password', 'ROLE_USER')");
+            statement.execute("INSERT INTO task (title, description, status, priority, author_id, created_at, " +
+                    "updated_at) SELECT 'Task', 'Description', 'IN_PROGRESS', 'HIGH', id, now(), now() " +
+                    "FROM \"user\"");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT id FROM task")) {
+                resultSet.next();
+                return resultSet.getObject(1, UUID.class);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.tms.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+import org.example.tms.importer.TaskImportRow;
+import org.example.tms.model.Task;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.model.enums.UserRole;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs {@link TaskImportRepository} against a migrated PostgreSQL database and checks that rows copied into
+ * the staging table are inserted into {@code task} with their values intact.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskImportRepositoryTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory entityManagerFactory;
+    private static UUID authorId;
+
+    @BeforeAll
+    public static void setUp() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        inTransaction(entityManager -> {
+            var user = User.builder()
+                    .email("importer@example.com")
+                    .password("password")
+                    .role(UserRole.ROLE_USER)
+                    .build();
+            entityManager.persist(user);
+            authorId = user.getId();
+        });
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @Test
+    public void testMergeStagingTable_InsertsCopiedRowsWithTheirValues() {
+        var rows = List.of(
+                row(1, "Fix \"login\", then deploy", "Line one\nLine two", CREATED_AT),
+                row(2, "No description", null, null),
+                row(3, "Empty description", "", null));
+
+        inTransaction(entityManager -> {
+            var repository = new TaskImportRepository(entityManager);
+            repository.createStagingTable();
+            repository.copyToStagingTable(rows);
+            assertEquals(3, repository.mergeStagingTable());
+        });
+
+        inTransaction(entityManager -> {
+            assertEquals("Line one\nLine two", findByTitle(entityManager, "Fix \"login\", then deploy")
+                    .getDescription());
+            assertEquals(CREATED_AT, findByTitle(entityManager, "Fix \"login\", then deploy").getCreatedAt());
+
+            Task withoutDescription = findByTitle(entityManager, "No description");
+            assertNull(withoutDescription.getDescription());
+            assertNotNull(withoutDescription.getCreatedAt());
+
+            assertEquals("", findByTitle(entityManager, "Empty description").getDescription());
+        });
+    }
+
+    private static TaskImportRow row(long line, String title, String description, LocalDateTime createdAt) {
+        return TaskImportRow.parsed(line, ImportTaskRequestDto.builder()
+                .title(title)
+                .description(description)
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.MEDIUM)
+                .authorId(authorId)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private static Task findByTitle(EntityManager entityManager, String title) {
+        return entityManager.createQuery("SELECT t FROM Task t WHERE t.title = :title", Task.class)
+                .setParameter("title", title)
+                .getSingleResult();
+    }
+
+    private static void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction()
+                    .begin();
+            work.accept(entityManager);
+            entityManager.getTransaction()
+                    .commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.tms.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.util.SearchCursor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the full-text search of {@link TaskRepository} against a migrated and seeded PostgreSQL database.
+ * Checks that title matches outrank description matches, which outrank comment matches, that keyset pages
+ * cover every match exactly once, and logs the average latency of a search page.
+ * <p>
+ * Raise {@code TASKS}, for example to 5 million, to measure the latency at production scale.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskSearchTest {
+    private static final int USERS = 100;
+    private static final int TASKS = 200_000;
+    private static final int SPRINTS = 2_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static TransactionTemplate transactionTemplate;
+    private static TaskRepository taskRepository;
+    private static UUID titleMatchId;
+    private static UUID descriptionMatchId;
+    private static UUID commentMatchId;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        seed();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factoryBean.getObject()));
+        transactionTemplate.setReadOnly(true);
+        taskRepository = new JpaRepositoryFactory(entityManager).getRepository(TaskRepository.class);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @Test
+    public void testSearchAfter_RanksTitleAboveDescriptionAboveComment() {
+        List<UUID> ids = search("zeppelin", SearchCursor.start(), PAGE_SIZE).stream()
+                .map(TaskSearchHit::getId)
+                .toList();
+
+        assertEquals(List.of(titleMatchId, descriptionMatchId, commentMatchId), ids);
+        assertEquals(3, (long) transactionTemplate.execute(status -> taskRepository.countSearchMatches("zeppelin")));
+    }
+
+    @Test
+    public void testSearchAfter_PagesCoverEveryMatchOnce() {
+        long matches = transactionTemplate.execute(status -> taskRepository.countSearchMatches("\"sprint 7\""));
+        var seen = new HashSet<UUID>();
+        var cursor = SearchCursor.start();
+
+        List<TaskSearchHit> page;
+        do {
+            page = search("\"sprint 7\"", cursor, PAGE_SIZE);
+            page.forEach(hit -> assertTrue(seen.add(hit.getId()), "Task " + hit.getId() + " returned twice"));
+            if (!page.isEmpty()) {
+                TaskSearchHit last = page.get(page.size() - 1);
+                cursor = new SearchCursor(last.getRank(), last.getId());
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        assertEquals(TASKS / SPRINTS, matches);
+        assertEquals(matches, seen.size());
+    }
+
+    @Test
+    public void testSearchAfter_FirstPageLatency() {
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            queries.add(String.valueOf(1 + i * (TASKS / 50)));
+        }
+        queries.forEach(query -> search(query, SearchCursor.start(), PAGE_SIZE + 1));
+
+        long start = System.nanoTime();
+        queries.forEach(query -> search(query, SearchCursor.start(), PAGE_SIZE + 1));
+        long averageMicros = (System.nanoTime() - start) / 1_000 / queries.size();
+
+        log.info("Search over {} tasks: {} µs per page", TASKS, averageMicros);
+    }
+
+    private static List<TaskSearchHit> search(String query, SearchCursor cursor, int limit) {
+        return transactionTemplate.execute(status -> taskRepository.searchAfter(query, cursor.rank(), cursor.id(),
+                limit));
+    }
+
+    private static void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO task (title, description, status, priority, author_id, created_at, " +
+                    "updated_at) " +
+                    "SELECT 'Task ' || g, 'Description of task ' || g || ' in sprint ' || g % " + SPRINTS + ", " +
+                    "'PENDING', 'MEDIUM', " +
+                    "u.ids[1 + g % " + USERS + "], now() - g * interval '1 second', now() " +
+                    "FROM generate_series(1, " + TASKS + ") g, (SELECT array_agg(id) AS ids FROM \"user\") u");
+
+            titleMatchId = insertTask(statement, "Zeppelin launch checklist", "Prepare the hangar");
+            descriptionMatchId = insertTask(statement, "Hangar maintenance", "Inspect the zeppelin envelope");
+            commentMatchId = insertTask(statement, "Quarterly report", "Collect the figures");
+            statement.execute("INSERT INTO comment (content, task_id, author_id) " +
+                    "SELECT 'Include the zeppelin budget', id, author_id FROM task " +
+                    "WHERE id = '" + commentMatchId + "'");
+
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static UUID insertTask(Statement statement, String title, String description) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("INSERT INTO task (title, description, status, " +
+                "priority, author_id) SELECT '" + title + "', '" + description + "', 'PENDING', 'MEDIUM', " +
+                "min(id::text)::uuid FROM \"user\" RETURNING id")) {
+            resultSet.next();
+            return resultSet.getObject(1, UUID.class);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package org.example.tms.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.service.impl.TaskStatsServiceImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs concurrent transactions that create, update, delete and assign tasks through {@link TaskStatsServiceImpl}
+ * against PostgreSQL, with reconciliations in between, and checks that the counters match a recount afterwards.
+ * Also checks that a reconciliation corrects drift while a writer holds its counters, without waiting for it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskStatsConsistencyTest {
+    private static final int USERS = 20;
+    private static final int TASKS = 200;
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 250;
+    private static final String DEADLOCK_DETECTED = "40P01";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManager entityManager;
+    private static TransactionTemplate transactionTemplate;
+    private static TaskStatsRepository taskStatsRepository;
+    private static TaskStatsServiceImpl taskStatsService;
+    private static List<UUID> userIds;
+    private static List<UUID> taskIds;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        seed();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(false);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(factoryBean.getObject()));
+        taskStatsRepository = new TaskStatsRepository(entityManager);
+        taskStatsService = new TaskStatsServiceImpl(taskStatsRepository);
+
+        userIds = transactionTemplate.execute(status -> ids("SELECT id FROM \"user\""));
+        taskIds = new CopyOnWriteArrayList<>(transactionTemplate.<List<UUID>>execute(status ->
+                ids("SELECT id FROM task")));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @Test
+    public void testCountersMatchRecountAfterConcurrentWrites() throws Exception {
+        var committed = new AtomicInteger();
+        var deadlocks = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> randomOperation());
+                        committed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (DEADLOCK_DETECTED.equals(sqlState(e))) {
+                            deadlocks.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(0, deadlocks.get());
+        assertTrue(committed.get() > THREADS * OPERATIONS_PER_THREAD / 2,
+                "Only " + committed.get() + " transactions committed");
+        int drift = transactionTemplate.execute(status -> taskStatsService.reconcile());
+        assertEquals(0, drift);
+    }
+
+    @Test
+    public void testReconcile_CorrectsDriftWithoutWaitingForOpenWriters() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> insertTask(TaskStatus.PENDING, TaskPriority.LOW));
+
+        var writerCounted = new CountDownLatch(1);
+        var commitWriter = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                taskStatsService.recordTasksCreated(Map.of(
+                        new TaskStatsKey(TaskStatus.COMPLETED, TaskPriority.HIGH), 1L));
+                insertTask(TaskStatus.COMPLETED, TaskPriority.HIGH);
+                writerCounted.countDown();
+                awaitUninterruptibly(commitWriter);
+            }));
+            assertTrue(writerCounted.await(10, TimeUnit.SECONDS));
+
+            Future<Integer> reconciliation = executor.submit(() ->
+                    transactionTemplate.execute(status -> taskStatsService.reconcile()));
+            assertEquals(1, reconciliation.get(10, TimeUnit.SECONDS));
+
+            commitWriter.countDown();
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            commitWriter.countDown();
+            executor.shutdown();
+        }
+
+        int drift = transactionTemplate.execute(status -> taskStatsService.reconcile());
+        assertEquals(0, drift);
+    }
+
+    /**
+     * Runs one operation the way the services do: the counters are changed before the task tables,
+     * and a failing statement rolls both back.
+     */
+    private static void randomOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID taskId = taskIds.get(random.nextInt(taskIds.size()));
+        TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+        TaskPriority priority = TaskPriority.values()[random.nextInt(TaskPriority.values().length)];
+
+        switch (random.nextInt(20)) {
+            case 0 -> taskStatsService.reconcile();
+            case 1, 2, 3, 4 -> {
+                taskStatsService.recordTasksCreated(Map.of(new TaskStatsKey(status, priority), 1L));
+                taskIds.add((UUID) entityManager.createNativeQuery("INSERT INTO task " +
+                                "(title, status, priority, author_id) VALUES ('Task', :status, :priority, :authorId) " +
+                                "RETURNING id")
+                        .setParameter("status", status.name())
+                        .setParameter("priority", priority.name())
+                        .setParameter("authorId", userIds.get(random.nextInt(USERS)))
+                        .getSingleResult());
+            }
+            case 5, 6, 7, 8, 9, 10 -> {
+                taskStatsRepository.lockTaskForUpdate(taskId)
+                        .ifPresent(previousKey -> taskStatsService.recordTaskUpdate(taskId, previousKey, status,
+                                priority));
+                entityManager.createNativeQuery("UPDATE task SET status = :status, priority = :priority " +
+                                "WHERE id = :taskId")
+                        .setParameter("status", status.name())
+                        .setParameter("priority", priority.name())
+                        .setParameter("taskId", taskId)
+                        .executeUpdate();
+            }
+            case 11, 12 -> {
+                taskStatsService.recordTaskDeletion(taskId);
+                entityManager.createNativeQuery("DELETE FROM task WHERE id = :taskId")
+                        .setParameter("taskId", taskId)
+                        .executeUpdate();
+            }
+            default -> {
+                UUID assigneeId = userIds.get(random.nextInt(USERS));
+                taskStatsService.recordAssignments(List.of(Map.entry(taskId, assigneeId)));
+                entityManager.createNativeQuery("INSERT INTO task_assignee (task_id, user_id) " +
+                                "VALUES (:taskId, :assigneeId)")
+                        .setParameter("taskId", taskId)
+                        .setParameter("assigneeId", assigneeId)
+                        .executeUpdate();
+            }
+        }
+    }
+
+    private static void insertTask(TaskStatus status, TaskPriority priority) {
+        entityManager.createNativeQuery("INSERT INTO task (title, status, priority, author_id) " +
+                        "VALUES ('Task', :status, :priority, :authorId)")
+                .setParameter("status", status.name())
+                .setParameter("priority", priority.name())
+                .setParameter("authorId", userIds.get(0))
+                .executeUpdate();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+
+    private static String sqlState(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException.getSQLState();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<UUID> ids(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .getResultList();
+    }
+
+    private static void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO task (title, status, priority, author_id) " +
+                    "SELECT 'Task ' || g, (ARRAY['PENDING', 'IN_PROGRESS', 'COMPLETED'])[1 + g % 3], " +
+                    "(ARRAY['HIGH', 'MEDIUM', 'LOW'])[1 + g % 3], u.ids[1 + g % " + USERS + "] " +
+                    "FROM generate_series(1, " + TASKS + ") g, (SELECT array_agg(id) AS ids FROM \"user\") u");
+            statement.execute("INSERT INTO task_stat (status, priority, stripe, task_count) " +
+                    "SELECT status, priority, 0, COUNT(*) FROM task GROUP BY status, priority");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.tms.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts the same number of rows keyed by random version 4 UUIDs and by the {@code uuid_generate_v7()}
+ * column default into two tables, and checks that the time-ordered keys build a smaller primary key index.
+ * Random keys split pages all over the index, leaving them about half full, while time-ordered keys only
+ * ever split the rightmost page.
+ * <p>
+ * Index sizes and insert rates are logged, so the test doubles as a benchmark. Raise {@code ROWS},
+ * for example to 10 million, to compare them at production scale.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+public class UuidIndexFragmentationTest {
+    private static final int ROWS = 1_000_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    public static void setUp() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @Test
+    public void testUuidV7Default_IsTimeOrdered() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT uuid_generate_v7()")) {
+            resultSet.next();
+            UUID uuid = resultSet.getObject(1, UUID.class);
+
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertTrue(Math.abs((uuid.getMostSignificantBits() >>> 16) - System.currentTimeMillis()) < 60_000);
+        }
+    }
+
+    @Test
+    public void testUuidV7Keys_BuildSmallerPrimaryKeyIndexThanRandomKeys() throws SQLException {
+        long randomIndexSize = insertAndMeasure("gen_random_uuid()");
+        long timeOrderedIndexSize = insertAndMeasure("uuid_generate_v7()");
+
+        assertTrue(timeOrderedIndexSize < randomIndexSize,
+                "Time-ordered index (" + timeOrderedIndexSize + " bytes) is not smaller than the random one (" +
+                        randomIndexSize + " bytes)");
+    }
+
+    private static long insertAndMeasure(String idDefault) throws SQLException {
+        String table = "uuid_benchmark_" + idDefault.replaceAll("\\W", "");
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY DEFAULT " + idDefault +
+                    ", title VARCHAR(255) NOT NULL)");
+
+            long start = System.nanoTime();
+            for (int from = 0; from < ROWS; from += 10_000) {
+                statement.execute("INSERT INTO " + table + " (title) " +
+                        "SELECT 'Task ' || g FROM generate_series(" + (from + 1) + ", " + (from + 10_000) + ") g");
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT pg_relation_size('" + table + "_pkey')")) {
+                resultSet.next();
+                long indexSize = resultSet.getLong(1);
+
+                log.info("{}: {} rows/s, primary key index {} bytes", idDefault,
+                        ROWS * 1_000_000_000L / elapsedNanos, indexSize);
+                return indexSize;
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
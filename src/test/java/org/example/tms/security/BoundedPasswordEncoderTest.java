@@ -0,0 +1,151 @@
+package org.example.tms.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tms.exception.PasswordHashingRejectedException;
+import org.example.tms.properties.PasswordHashingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class BoundedPasswordEncoderTest {
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingProperties properties;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (passwordEncoder != null) {
+            passwordEncoder.destroy();
+        }
+    }
+
+    @Test
+    public void testEncodeAndMatches_RunOnHashingThreadAndRecordLatency() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), properties, meterRegistry);
+
+        String encoded = passwordEncoder.encode("password123");
+
+        assertTrue(passwordEncoder.matches("password123", encoded));
+        assertFalse(passwordEncoder.matches("wrong-password", encoded));
+        assertEquals(1, meterRegistry.get("password.hashing.duration")
+                .tag("operation", "encode")
+                .timer()
+                .count());
+        assertEquals(2, meterRegistry.get("password.hashing.duration")
+                .tag("operation", "matches")
+                .timer()
+                .count());
+    }
+
+    @Test
+    public void testUpgradeEncoding_DetectsLowerCost() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), properties, meterRegistry);
+
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password123")));
+    }
+
+    @Test
+    public void testMatches_RejectsWhenPoolAndQueueAreFull() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        passwordEncoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+
+        var running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "hash"));
+        waitForQueuedTask();
+
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.matches("c", "hash"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejections")
+                .tag("reason", "saturated")
+                .counter()
+                .count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMatches_RejectsWhenNotStartedInTime() throws Exception {
+        properties.setTimeout(Duration.ofMillis(50));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(eq("a"), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        passwordEncoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+
+        var running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PasswordHashingRejectedException.class, () -> passwordEncoder.matches("b", "hash"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejections")
+                .tag("reason", "timeout")
+                .counter()
+                .count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        passwordEncoder.matches("c", "hash");
+        verify(delegate, never()).matches(eq("b"), any());
+    }
+
+    @Test
+    public void testMatches_AwaitsStartedHashBeyondTimeout() {
+        properties.setTimeout(Duration.ofMillis(50));
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return true;
+        });
+        passwordEncoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+
+        assertTrue(passwordEncoder.matches("a", "hash"));
+        assertEquals(0.0, meterRegistry.get("password.hashing.rejections")
+                .tag("reason", "timeout")
+                .counter()
+                .count());
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued")
+                .tag("name", "password.hashing")
+                .gauge()
+                .value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
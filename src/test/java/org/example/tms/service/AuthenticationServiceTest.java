@@ -1,8 +1,10 @@
 package org.example.tms.service;
 
+import io.jsonwebtoken.Jwts;
 import org.example.tms.dto.requests.AuthenticationRequestDto;
 import org.example.tms.dto.requests.RegisterRequestDto;
 import org.example.tms.dto.responses.AuthenticationResponseDto;
+import org.example.tms.exception.InvalidCredentialsException;
 import org.example.tms.exception.InvalidRefreshTokenException;
 import org.example.tms.model.User;
 import org.example.tms.model.enums.UserRole;
@@ -11,12 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -54,13 +54,13 @@ public class AuthenticationServiceTest {
     private JwtService jwtService;
 
     @Mock
-    private UserService userService;
+    private JwtPrincipalService jwtPrincipalService;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private UserService userService;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private PasswordEncoder passwordEncoder;
 
     @Test
     public void testRegister_Success() {
@@ -87,62 +87,69 @@ public class AuthenticationServiceTest {
 
     @Test
     public void testAuthenticate_Success() {
-        when(authenticationManager.authenticate(argThat(argument ->
-                argument instanceof UsernamePasswordAuthenticationToken &&
-                        argument.getPrincipal()
-                                .equals(EMAIL) &&
-                        argument.getCredentials()
-                                .equals(PASSWORD))))
-                .thenReturn(mock(Authentication.class)); // Mock successful authentication
-        when(userService.getUserByEmail(EMAIL)).thenReturn(user);
-        when(jwtService.generateAccessToken(eq(user))) // заменили any() на eq(user)
+        when(userService.findUserByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(PASSWORD, user.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(user.getPassword())).thenReturn(false);
+        when(jwtService.generateAccessToken(eq(user)))
                 .thenReturn("accessToken");
-        when(jwtService.generateRefreshToken(eq(user))) // заменили any() на eq(user)
+        when(jwtService.generateRefreshToken(eq(user)))
                 .thenReturn("refreshToken");
 
         AuthenticationResponseDto result = authenticationService.authenticate(authenticationRequestDto);
 
         assertEquals(authenticationResponseDto, result);
-        verify(authenticationManager).authenticate(argThat(argument ->
-                argument instanceof UsernamePasswordAuthenticationToken &&
-                        argument.getPrincipal()
-                                .equals(EMAIL) &&
-                        argument.getCredentials()
-                                .equals(PASSWORD)));
-
-        verify(userService).getUserByEmail(EMAIL);
-        verify(jwtService).generateAccessToken(eq(user)); // проверяем с конкретным объектом
-        verify(jwtService).generateRefreshToken(eq(user)); // аналогично
+        verify(userService).findUserByEmail(EMAIL);
+        verify(passwordEncoder).matches(PASSWORD, user.getPassword());
+        verify(passwordEncoder).upgradeEncoding(user.getPassword());
+        verifyNoMoreInteractions(userService, passwordEncoder);
+        verifyNoInteractions(jwtPrincipalService);
     }
 
     @Test
-    public void testAuthenticate_InvalidCredentials() {
-        when(authenticationManager.authenticate(argThat(argument ->
-                argument instanceof UsernamePasswordAuthenticationToken &&
-                        argument.getPrincipal()
-                                .equals(EMAIL) &&
-                        argument.getCredentials()
-                                .equals(PASSWORD))))
-                .thenThrow(new RuntimeException("Invalid credentials"));
-
-        assertThrows(RuntimeException.class, () -> authenticationService.authenticate(authenticationRequestDto));
-        verify(authenticationManager).authenticate(argThat(argument ->
-                argument instanceof UsernamePasswordAuthenticationToken &&
-                        argument.getPrincipal()
-                                .equals(EMAIL) &&
-                        argument.getCredentials()
-                                .equals(PASSWORD)));
+    public void testAuthenticate_RehashesPasswordWithOutdatedCost() {
+        when(userService.findUserByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(PASSWORD, user.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(user.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode(PASSWORD)).thenReturn("upgradedHash");
+
+        authenticationService.authenticate(authenticationRequestDto);
+
+        verify(userService).updatePassword(user.getId(), "upgradedHash");
+        verify(jwtPrincipalService).evictPrincipal(EMAIL);
+        verify(userService, never()).save(any());
     }
 
     @Test
-    public void testRefreshToken_Success() {
-        when(jwtService.getRefreshSecretKey()).thenReturn(
-                "yourMockedSecretKey"); // Замокайте возвращаемое значение для getRefreshSecretKey
+    public void testAuthenticate_InvalidPassword() {
+        when(userService.findUserByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(PASSWORD, user.getPassword())).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> authenticationService.authenticate(authenticationRequestDto));
+        verify(passwordEncoder).matches(PASSWORD, user.getPassword());
+        verifyNoInteractions(jwtService);
+    }
+
+    @Test
+    public void testAuthenticate_UnknownEmailStillComparesAgainstDummyHash() {
+        when(userService.findUserByEmail(EMAIL)).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("dummyHash");
+        when(passwordEncoder.matches(PASSWORD, "dummyHash")).thenReturn(true);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> authenticationService.authenticate(authenticationRequestDto));
+        assertThrows(InvalidCredentialsException.class,
+                () -> authenticationService.authenticate(authenticationRequestDto));
+
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(passwordEncoder, times(2)).matches(PASSWORD, "dummyHash");
+        verifyNoInteractions(jwtService);
+    }
 
-        when(jwtService.extractUsername(eq(REFRESH_TOKEN),
-                eq("yourMockedSecretKey"))) // Используйте замоканное значение
-                .thenReturn(EMAIL);
-        when(jwtService.isRefreshTokenValid(eq(REFRESH_TOKEN))).thenReturn(true);
+    @Test
+    public void testRefreshToken_Success() {
+        when(jwtService.parseRefreshToken(eq(REFRESH_TOKEN))).thenReturn(Optional.of(Jwts.claims()
+                .setSubject(EMAIL)));
         when(userService.getUserByEmail(eq(EMAIL))).thenReturn(user);
         when(jwtService.generateAccessToken(eq(user))).thenReturn("accessToken");
         when(jwtService.generateRefreshToken(eq(user))).thenReturn("refreshToken");
@@ -150,8 +157,7 @@ public class AuthenticationServiceTest {
         AuthenticationResponseDto result = authenticationService.refreshToken(REFRESH_TOKEN);
 
         assertEquals(authenticationResponseDto, result);
-        verify(jwtService).extractUsername(eq(REFRESH_TOKEN), eq("yourMockedSecretKey"));
-        verify(jwtService).isRefreshTokenValid(eq(REFRESH_TOKEN));
+        verify(jwtService, times(1)).parseRefreshToken(eq(REFRESH_TOKEN));
         verify(userService).getUserByEmail(eq(EMAIL));
         verify(jwtService).generateAccessToken(eq(user));
         verify(jwtService).generateRefreshToken(eq(user));
@@ -160,9 +166,10 @@ public class AuthenticationServiceTest {
 
     @Test
     public void testRefreshToken_Invalid() {
-        when(jwtService.isRefreshTokenValid(eq(REFRESH_TOKEN))).thenReturn(false);
+        when(jwtService.parseRefreshToken(eq(REFRESH_TOKEN))).thenReturn(Optional.empty());
 
         assertThrows(InvalidRefreshTokenException.class, () -> authenticationService.refreshToken(REFRESH_TOKEN));
-        verify(jwtService).isRefreshTokenValid(eq(REFRESH_TOKEN));
+        verify(jwtService).parseRefreshToken(eq(REFRESH_TOKEN));
+        verifyNoInteractions(userService);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,401 @@
+package org.example.tms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.dto.requests.create.CreateCommentRequestDto;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
+import org.example.tms.dto.requests.update.UpdateTaskRequestDto;
+import org.example.tms.mapper.CommentMapper;
+import org.example.tms.mapper.CommentMapperImpl;
+import org.example.tms.mapper.TaskAssigneeMapper;
+import org.example.tms.mapper.TaskAssigneeMapperImpl;
+import org.example.tms.mapper.TaskMapper;
+import org.example.tms.mapper.TaskMapperImpl;
+import org.example.tms.mapper.UserMapper;
+import org.example.tms.mapper.UserMapperImpl;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.repository.CommentRepository;
+import org.example.tms.repository.EntityBatchWriter;
+import org.example.tms.repository.EntityResolver;
+import org.example.tms.repository.EntityStreamReader;
+import org.example.tms.repository.TaskAnalyticsRepository;
+import org.example.tms.repository.TaskAssigneeRepository;
+import org.example.tms.repository.TaskRepository;
+import org.example.tms.repository.TaskStatsRepository;
+import org.example.tms.repository.UserRepository;
+import org.example.tms.service.impl.CommentServiceImpl;
+import org.example.tms.service.impl.TaskAnalyticsServiceImpl;
+import org.example.tms.service.impl.TaskAssigneeServiceImpl;
+import org.example.tms.service.impl.TaskServiceImpl;
+import org.example.tms.service.impl.TaskStatsServiceImpl;
+import org.example.tms.service.impl.UserServiceImpl;
+import org.example.tms.validator.PermissionValidator;
+import org.example.tms.validator.constraint.AuthorExistsValidator;
+import org.example.tms.validator.constraint.CommentExistsValidator;
+import org.example.tms.validator.constraint.TaskExistsValidator;
+import org.example.tms.validator.constraint.UniqueTaskAssignmentsValidator;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the statements each endpoint that takes an entity ID executes against PostgreSQL, from its constraint
+ * validators to the end of its service call. Each step runs in the transaction its proxy would open: the validators
+ * in a read-only transaction each, the service method in its own. The budgets document which lookups the
+ * request-scoped {@link EntityResolver} saves and which ones a read-write transaction still repeats on purpose.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class EndpointStatementCountTest {
+    private static final int USERS = 5;
+    private static final int TASKS = 10;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static AnnotationConfigApplicationContext mapperContext;
+    private static TransactionTemplate readTransaction;
+    private static TransactionTemplate writeTransaction;
+    private static Statistics statistics;
+    private static TaskServiceImpl taskService;
+    private static CommentServiceImpl commentService;
+    private static TaskAssigneeServiceImpl taskAssigneeService;
+    private static TaskExistsValidator taskExistsValidator;
+    private static CommentExistsValidator commentExistsValidator;
+    private static AuthorExistsValidator authorExistsValidator;
+    private static UniqueTaskAssignmentsValidator uniqueTaskAssignmentsValidator;
+    private static User admin;
+    private static List<UUID> userIds;
+    private static List<UUID> taskIds;
+    private static List<UUID> commentIds;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        seed();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+        statistics = factoryBean.getObject()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(factoryBean.getObject());
+        var transactionManager = new JpaTransactionManager(factoryBean.getObject());
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        mapperContext = new AnnotationConfigApplicationContext(TaskMapperImpl.class, TaskAssigneeMapperImpl.class,
+                CommentMapperImpl.class, UserMapperImpl.class);
+        var repositoryFactory = new JpaRepositoryFactory(entityManager);
+        var entityResolver = new EntityResolver(entityManager);
+        var userRepository = repositoryFactory.getRepository(UserRepository.class);
+        var userService = new UserServiceImpl(mapperContext.getBean(UserMapper.class), userRepository,
+                entityResolver);
+        var taskStatsService = new TaskStatsServiceImpl(new TaskStatsRepository(entityManager));
+        var taskAssigneeRepository = repositoryFactory.getRepository(TaskAssigneeRepository.class);
+        taskService = new TaskServiceImpl(mapperContext.getBean(TaskMapper.class), userService,
+                repositoryFactory.getRepository(TaskRepository.class), new PermissionValidator(), null,
+                new EntityStreamReader(entityManager), new ObjectMapper().findAndRegisterModules(),
+                taskStatsService, new TaskAnalyticsServiceImpl(new TaskAnalyticsRepository(entityManager)),
+                entityResolver);
+        commentService = new CommentServiceImpl(taskService, mapperContext.getBean(CommentMapper.class),
+                repositoryFactory.getRepository(CommentRepository.class), new PermissionValidator(),
+                entityResolver);
+        taskAssigneeService = new TaskAssigneeServiceImpl(userService, taskService,
+                mapperContext.getBean(TaskAssigneeMapper.class), taskAssigneeRepository,
+                new EntityBatchWriter(entityManager, hibernateProperties), taskStatsService);
+
+        taskExistsValidator = new TaskExistsValidator(entityResolver);
+        commentExistsValidator = new CommentExistsValidator(entityResolver);
+        authorExistsValidator = new AuthorExistsValidator(entityResolver);
+        uniqueTaskAssignmentsValidator = new UniqueTaskAssignmentsValidator(taskAssigneeRepository);
+        admin = readTransaction.execute(status -> userRepository.findByEmail("admin@example.com")
+                .orElseThrow());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (mapperContext != null) {
+            mapperContext.close();
+        }
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    @AfterEach
+    public void clearContexts() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testGetTaskById_ReusesValidatedTask() {
+        UUID taskId = taskIds.get(0);
+
+        long statements = countStatements(() -> {
+            validate(() -> taskExistsValidator.isValid(taskId, null));
+            readTransaction.executeWithoutResult(status -> taskService.getTaskById(taskId, null, eTag -> false));
+        });
+
+        assertEquals(3, statements, "Task with its author, then its assignees and its comments");
+    }
+
+    @Test
+    public void testGetTaskById_NotModifiedReadsTaskOnce() {
+        UUID taskId = taskIds.get(0);
+
+        long statements = countStatements(() -> {
+            validate(() -> taskExistsValidator.isValid(taskId, null));
+            readTransaction.executeWithoutResult(status -> taskService.getTaskById(taskId, null, eTag -> true));
+        });
+
+        assertEquals(1, statements, "Only the validator reads the task");
+    }
+
+    @Test
+    public void testUpdateTask_ReloadsTaskForWriting() {
+        UUID taskId = taskIds.get(1);
+        UpdateTaskRequestDto request = UpdateTaskRequestDto.builder()
+                .title("Updated title")
+                .description("Updated description")
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .authorId(admin.getId())
+                .build();
+
+        long statements = countStatements(() -> {
+            validate(() -> taskExistsValidator.isValid(taskId, null));
+            validate(() -> authorExistsValidator.isValid(request.getAuthorId(), null));
+            writeTransaction.executeWithoutResult(status -> taskService.updateTask(taskId, request, admin));
+        });
+
+        assertEquals(8, statements, "Task and author validation, the task under its lock, its assignees and "
+                + "comments with their Users for the response, and the update");
+    }
+
+    @Test
+    public void testDeleteTask_ReloadsTaskForWriting() {
+        UUID taskId = taskIds.get(2);
+
+        long statements = countStatements(() -> {
+            validate(() -> taskExistsValidator.isValid(taskId, null));
+            writeTransaction.executeWithoutResult(status -> taskService.deleteTask(taskId));
+        });
+
+        assertEquals(7, statements, "Task validation, the task, its lock, its assignees, the overall and "
+                + "assignee counters, and the delete");
+    }
+
+    @Test
+    public void testGetCommentById_ReusesValidatedComment() {
+        UUID commentId = commentIds.get(0);
+
+        long statements = countStatements(() -> {
+            validate(() -> commentExistsValidator.isValid(commentId, null));
+            readTransaction.executeWithoutResult(status -> commentService.getCommentById(commentId,
+                    eTag -> false));
+        });
+
+        assertEquals(1, statements, "Comment with its task and author, read by the validator only");
+    }
+
+    @Test
+    public void testGetCommentsByTaskId_ReusesValidatedTask() {
+        UUID taskId = taskIds.get(0);
+
+        long statements = countStatements(() -> {
+            validate(() -> taskExistsValidator.isValid(taskId, null));
+            readTransaction.executeWithoutResult(status -> commentService.getCommentsByTaskId(taskId,
+                    PageRequest.of(0, 20), eTag -> false));
+        });
+
+        assertEquals(2, statements, "Task validation and the page of comments");
+    }
+
+    @Test
+    public void testAddComment_UsesAuthenticatedAuthor() {
+        UUID taskId = taskIds.get(3);
+        CreateCommentRequestDto request = CreateCommentRequestDto.builder()
+                .content("New comment")
+                .taskId(taskId)
+                .build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+
+        long statements = countStatements(() -> {
+            validate(() -> taskExistsValidator.isValid(taskId, null));
+            writeTransaction.executeWithoutResult(status -> commentService.addComment(request));
+        });
+
+        assertEquals(4, statements, "Task validation, the task, the insert and the comment count update");
+    }
+
+    @Test
+    public void testDeleteComment_ReloadsCommentForWriting() {
+        UUID commentId = commentIds.get(1);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+
+        long statements = countStatements(() -> {
+            validate(() -> commentExistsValidator.isValid(commentId, null));
+            writeTransaction.executeWithoutResult(status -> commentService.deleteComment(commentId));
+        });
+
+        assertEquals(4, statements, "Comment validation, the comment, the delete and the comment count update");
+    }
+
+    @Test
+    public void testAssignTasksToUsers_CostDoesNotGrowWithBatchSize() {
+        long smallBatch = countStatements(() -> assignTasksToUsers(userIds.get(1), taskIds.subList(4, 6)));
+        long largeBatch = countStatements(() -> assignTasksToUsers(userIds.get(2), taskIds.subList(4, TASKS)));
+
+        assertEquals(smallBatch, largeBatch, "Tasks and assignees are resolved once per batch, not per row");
+        assertEquals(8, largeBatch, "Uniqueness validation, the tasks, the assignees, the version lock and "
+                + "update, the stats lock, the assignee counter and the insert batch");
+    }
+
+    /**
+     * Validates and runs a batch that assigns the given tasks to one User, as its endpoint does.
+     */
+    private static void assignTasksToUsers(UUID assigneeId, List<UUID> assignedTaskIds) {
+        CreateTaskAssigneeBatchRequestDto request = new CreateTaskAssigneeBatchRequestDto(assignedTaskIds.stream()
+                .map(taskId -> new CreateTaskAssigneeBatchRequestDto.Assignment(taskId, assigneeId, null))
+                .toList());
+
+        validate(() -> uniqueTaskAssignmentsValidator.isValid(request, null));
+        writeTransaction.executeWithoutResult(status -> taskAssigneeService.assignTasksToUsers(
+                request.getAssignments()));
+    }
+
+    /**
+     * Runs the steps of one request with its own request attributes and counts the statements they prepare.
+     */
+    private static long countStatements(Runnable request) {
+        bindRequest();
+        statistics.clear();
+        request.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Runs a validator the way the validation proxy does before the service call, in a read-only transaction.
+     */
+    private static void validate(BooleanSupplier validator) {
+        assertEquals(Boolean.TRUE, readTransaction.execute(status -> validator.getAsBoolean()));
+    }
+
+    private static void bindRequest() {
+        Map<String, Object> attributes = new HashMap<>();
+        RequestAttributes requestAttributes = mock(RequestAttributes.class);
+        when(requestAttributes.getAttribute(anyString(), eq(RequestAttributes.SCOPE_REQUEST)))
+                .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(requestAttributes)
+                .setAttribute(anyString(), any(), eq(RequestAttributes.SCOPE_REQUEST));
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    private static void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "VALUES ('admin@example.com', 'password', 'ROLE_ADMIN')");
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO task (title, description, status, priority, author_id, created_at, " +
+                    "updated_at, comment_count) " +
+                    "SELECT 'Task ' || g, 'Description', 'IN_PROGRESS', 'HIGH', a.id, now(), now(), 2 " +
+                    "FROM generate_series(1, " + TASKS + ") g, \"user\" a WHERE a.email = 'admin@example.com'");
+            statement.execute("INSERT INTO task_assignee (task_id, user_id) " +
+                    "SELECT t.id, u.id FROM task t, \"user\" u WHERE u.email = 'user1@example.com'");
+            statement.execute("INSERT INTO comment (content, task_id, author_id, created_at) " +
+                    "SELECT 'Comment ' || g, t.id, t.author_id, now() - g * interval '1 second' " +
+                    "FROM generate_series(1, 2) g, task t");
+
+            userIds = selectIds(statement, "SELECT id FROM \"user\" WHERE role = 'ROLE_USER' ORDER BY email");
+            taskIds = selectIds(statement, "SELECT id FROM task ORDER BY id");
+            commentIds = selectIds(statement, "SELECT id FROM comment WHERE task_id = '" + taskIds.get(0)
+                    + "' ORDER BY id");
+        }
+    }
+
+    private static List<UUID> selectIds(Statement statement, String sql) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.tms.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.UserRole;
+import org.example.tms.properties.JwtPrincipalProperties;
+import org.example.tms.util.ConstantUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtPrincipalServiceTest {
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String USERNAME = "user@example.com";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtPrincipalProperties jwtPrincipalProperties;
+    private Claims claims;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        jwtPrincipalProperties = new JwtPrincipalProperties();
+
+        claims = Jwts.claims()
+                .setSubject(USERNAME);
+        claims.put(ConstantUtil.USER_ID_CLAIM, USER_ID.toString());
+        claims.put(ConstantUtil.ROLE_CLAIM, UserRole.ROLE_ADMIN.name());
+
+        user = User.builder()
+                .id(USER_ID)
+                .email(USERNAME)
+                .role(UserRole.ROLE_USER)
+                .build();
+    }
+
+    @Test
+    public void testResolvePrincipal_ClaimsModeBuildsUserWithoutDatabaseAccess() {
+        var jwtPrincipalService = new JwtPrincipalService(userDetailsService, jwtPrincipalProperties);
+
+        UserDetails principal = jwtPrincipalService.resolvePrincipal(claims);
+
+        User principalUser = assertInstanceOf(User.class, principal);
+        assertEquals(USER_ID, principalUser.getId());
+        assertEquals(USERNAME, principalUser.getUsername());
+        assertEquals(UserRole.ROLE_ADMIN, principalUser.getRole());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    public void testResolvePrincipal_ClaimsModeLoadsUserForTokenWithoutClaims() {
+        var jwtPrincipalService = new JwtPrincipalService(userDetailsService, jwtPrincipalProperties);
+        Claims legacyClaims = Jwts.claims()
+                .setSubject(USERNAME);
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(user);
+
+        assertSame(user, jwtPrincipalService.resolvePrincipal(legacyClaims));
+        verify(userDetailsService).loadUserByUsername(USERNAME);
+    }
+
+    @Test
+    public void testResolvePrincipal_CacheModeLoadsUserOnceWithinTtl() {
+        jwtPrincipalProperties.setMode(JwtPrincipalProperties.Mode.CACHE);
+        var jwtPrincipalService = new JwtPrincipalService(userDetailsService, jwtPrincipalProperties);
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(user);
+
+        assertSame(user, jwtPrincipalService.resolvePrincipal(claims));
+        assertSame(user, jwtPrincipalService.resolvePrincipal(claims));
+
+        verify(userDetailsService, times(1)).loadUserByUsername(USERNAME);
+    }
+
+    @Test
+    public void testEvictPrincipal_CacheModeLoadsUserAgain() {
+        jwtPrincipalProperties.setMode(JwtPrincipalProperties.Mode.CACHE);
+        var jwtPrincipalService = new JwtPrincipalService(userDetailsService, jwtPrincipalProperties);
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(user);
+
+        jwtPrincipalService.resolvePrincipal(claims);
+        jwtPrincipalService.evictPrincipal(USERNAME);
+        jwtPrincipalService.resolvePrincipal(claims);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(USERNAME);
+    }
+}
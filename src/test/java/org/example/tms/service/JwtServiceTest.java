@@ -1,10 +1,14 @@
 package org.example.tms.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.UserRole;
+import org.example.tms.util.ConstantUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +19,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -108,6 +114,64 @@ public class JwtServiceTest {
         assertFalse(isExpired);
     }
 
+    @Test
+    public void testParseAccessToken_ShouldReturnVerifiedClaims() {
+        when(userDetails.getUsername()).thenReturn(USERNAME);
+        String token = jwtService.generateAccessToken(userDetails);
+
+        Optional<Claims> claims = jwtService.parseAccessToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals(USERNAME, claims.get()
+                .getSubject());
+    }
+
+    @Test
+    public void testGenerateAccessToken_ShouldCarryUserIdAndRoleClaims() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email(USERNAME)
+                .role(UserRole.ROLE_ADMIN)
+                .build();
+
+        Claims claims = parseToken(jwtService.generateAccessToken(user), ACCESS_SECRET_KEY);
+
+        assertEquals(USERNAME, claims.getSubject());
+        assertEquals(user.getId()
+                .toString(), claims.get(ConstantUtil.USER_ID_CLAIM, String.class));
+        assertEquals(UserRole.ROLE_ADMIN.name(), claims.get(ConstantUtil.ROLE_CLAIM, String.class));
+    }
+
+    @Test
+    public void testParseAccessToken_ShouldReturnEmpty_ForExpiredToken() {
+        assertTrue(jwtService.parseAccessToken(generateExpiredToken())
+                .isEmpty());
+    }
+
+    @Test
+    public void testParseAccessToken_ShouldThrow_ForTokenSignedWithOtherKey() {
+        when(userDetails.getUsername()).thenReturn(USERNAME);
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
+
+        assertThrows(JwtException.class, () -> jwtService.parseAccessToken(refreshToken));
+    }
+
+    @Test
+    public void testParseRefreshToken_ShouldUseUpdatedSecretKey() {
+        String newSecretKey = Base64.getEncoder()
+                .encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256)
+                        .getEncoded());
+        when(userDetails.getUsername()).thenReturn(USERNAME);
+        jwtService.parseRefreshToken(jwtService.generateRefreshToken(userDetails));
+
+        jwtService.setRefreshSecretKey(newSecretKey);
+        String token = jwtService.generateRefreshToken(userDetails);
+
+        assertEquals(USERNAME, parseToken(token, newSecretKey).getSubject());
+        assertTrue(jwtService.parseRefreshToken(token)
+                .isPresent());
+    }
+
     private Claims parseToken(String token, String secretKey) {
         return Jwts.parserBuilder()
                 .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
@@ -0,0 +1,277 @@
+package org.example.tms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.tms.config.TransactionalAndJpaConfig;
+import org.example.tms.mapper.CommentMapper;
+import org.example.tms.mapper.CommentMapperImpl;
+import org.example.tms.mapper.TaskAssigneeMapperImpl;
+import org.example.tms.mapper.TaskMapper;
+import org.example.tms.mapper.TaskMapperImpl;
+import org.example.tms.mapper.UserMapperImpl;
+import org.example.tms.model.Task;
+import org.example.tms.properties.DataSourceProperties;
+import org.example.tms.properties.HibernateProperties;
+import org.example.tms.repository.CommentRepository;
+import org.example.tms.repository.EntityResolver;
+import org.example.tms.repository.EntityStreamReader;
+import org.example.tms.repository.TaskRepository;
+import org.example.tms.service.impl.CommentServiceImpl;
+import org.example.tms.service.impl.TaskServiceImpl;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.cache.Caching;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Polls a task with many comments and assignees against PostgreSQL, once unconditionally and once with the entity
+ * tag of the previous response, and compares the statements executed and the bytes of body serialized per poll.
+ * Also checks that adding comments and assignees changes the entity tags of the task, its comments and task pages.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskConditionalGetTest {
+    private static final int USERS = 20;
+    private static final int COMMENTS = 200;
+    private static final int POLLS = 50;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory entityManagerFactory;
+    private static AnnotationConfigApplicationContext mapperContext;
+    private static TransactionTemplate readTransaction;
+    private static TransactionTemplate writeTransaction;
+    private static TaskRepository taskRepository;
+    private static TaskServiceImpl taskService;
+    private static CommentServiceImpl commentService;
+    private static Statistics statistics;
+    private static UUID taskId;
+
+    @BeforeAll
+    public static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        taskId = seed();
+
+        var hibernateProperties = new HibernateProperties();
+        hibernateProperties.setHibernateDialect("org.hibernate.dialect.PostgreSQLDialect");
+        hibernateProperties.setShowSql(false);
+        hibernateProperties.setDdlAuto("none");
+        hibernateProperties.getSecondLevelCache()
+                .setEnabled(true);
+
+        var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(POSTGRES.getJdbcUrl());
+        dataSourceProperties.setUsername(POSTGRES.getUsername());
+        dataSourceProperties.setPassword(POSTGRES.getPassword());
+        dataSourceProperties.setDriverClassName(POSTGRES.getDriverClassName());
+
+        var config = new TransactionalAndJpaConfig(hibernateProperties, dataSourceProperties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        factoryBean = config.entityManagerFactory();
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var transactionManager = new JpaTransactionManager(entityManagerFactory);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        mapperContext = new AnnotationConfigApplicationContext(TaskMapperImpl.class, TaskAssigneeMapperImpl.class,
+                CommentMapperImpl.class, UserMapperImpl.class);
+
+        var repositoryFactory = new JpaRepositoryFactory(entityManager);
+        taskRepository = repositoryFactory.getRepository(TaskRepository.class);
+        var entityResolver = new EntityResolver(entityManager);
+        taskService = new TaskServiceImpl(mapperContext.getBean(TaskMapper.class), null, taskRepository, null, null,
+                new EntityStreamReader(entityManager), OBJECT_MAPPER, null, null, entityResolver);
+        commentService = new CommentServiceImpl(taskService, mapperContext.getBean(CommentMapper.class),
+                repositoryFactory.getRepository(CommentRepository.class), null, entityResolver);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (mapperContext != null) {
+            mapperContext.close();
+        }
+        if (factoryBean != null) {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .close();
+    }
+
+    @Test
+    public void testGetTaskById_PollingWithETagSkipsAssociationsAndBody() {
+        String eTag = currentETag(notModified -> taskService.getTaskById(taskId, null, notModified));
+
+        Poll full = poll(notModified -> taskService.getTaskById(taskId, null, notModified), tag -> false);
+        Poll conditional = poll(notModified -> taskService.getTaskById(taskId, null, notModified), eTag::equals);
+
+        assertEquals(0, conditional.bytes);
+        assertEquals(POLLS, conditional.statements, "Only the task row should be read per conditional poll");
+        assertTrue(full.bytes > COMMENTS * 50L, "Full polls wrote " + full.bytes + " bytes");
+        assertTrue(full.statements >= 3L * POLLS, "Full polls executed " + full.statements + " statements");
+    }
+
+    @Test
+    public void testGetAllTasks_PollingWithETagSkipsAssociationsAndBody() {
+        String eTag = currentETag(notModified -> taskService.getAllTasks(FIRST_PAGE, null, notModified));
+
+        Poll full = poll(notModified -> taskService.getAllTasks(FIRST_PAGE, null, notModified), tag -> false);
+        Poll conditional = poll(notModified -> taskService.getAllTasks(FIRST_PAGE, null, notModified), eTag::equals);
+
+        assertEquals(0, conditional.bytes);
+        assertTrue(conditional.statements <= 2L * POLLS, "Only the page and its count should be read per poll");
+        assertTrue(full.statements > conditional.statements);
+    }
+
+    @Test
+    public void testETags_ChangeWithCommentsAndAssignees() {
+        String taskETag = currentETag(notModified -> taskService.getTaskById(taskId, null, notModified));
+        String pageETag = currentETag(notModified -> taskService.getAllTasks(FIRST_PAGE, null, notModified));
+        String commentsETag = currentETag(notModified -> commentService.getCommentsByTaskId(taskId, FIRST_PAGE,
+                notModified));
+
+        writeTransaction.executeWithoutResult(status -> taskService.updateCommentCount(taskId, 1));
+
+        String taskETagAfterComment = currentETag(notModified -> taskService.getTaskById(taskId, null,
+                notModified));
+        assertNotEquals(taskETag, taskETagAfterComment);
+        assertNotEquals(pageETag, currentETag(notModified -> taskService.getAllTasks(FIRST_PAGE, null,
+                notModified)));
+        assertNotEquals(commentsETag, currentETag(notModified -> commentService.getCommentsByTaskId(taskId,
+                FIRST_PAGE, notModified)));
+
+        writeTransaction.executeWithoutResult(status -> taskService.incrementVersions(List.of(taskId)));
+
+        assertNotEquals(taskETagAfterComment, currentETag(notModified -> taskService.getTaskById(taskId, null,
+                notModified)));
+        assertEquals(2L, readVersion());
+        assertEquals(Long.valueOf(2), writeTransaction.execute(status -> taskRepository.lockById(taskId)
+                .map(Task::getVersion)
+                .orElseThrow()));
+    }
+
+    /**
+     * Reads the entity tag the service computes for the current state, without loading the body.
+     */
+    private static <T> String currentETag(Function<Predicate<String>, Optional<T>> request) {
+        var eTag = new AtomicReference<String>();
+        readTransaction.executeWithoutResult(status -> request.apply(value -> {
+            eTag.set(value);
+            return true;
+        }));
+        return eTag.get();
+    }
+
+    /**
+     * Polls {@link #POLLS} times with a cold second-level cache, counting the statements executed and
+     * the bytes of body serialized.
+     */
+    private static <T> Poll poll(Function<Predicate<String>, Optional<T>> request, Predicate<String> notModified) {
+        long bytes = 0;
+        long statements = 0;
+
+        for (int i = 0; i < POLLS; i++) {
+            entityManagerFactory.getCache()
+                    .evictAll();
+            statistics.clear();
+
+            Optional<T> body = readTransaction.execute(status -> request.apply(notModified));
+            statements += statistics.getPrepareStatementCount();
+            if (body != null && body.isPresent()) {
+                bytes += serialize(body.get()).length;
+            }
+        }
+        return new Poll(bytes, statements);
+    }
+
+    private static byte[] serialize(Object body) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long readVersion() {
+        return readTransaction.execute(status -> taskRepository.findById(taskId)
+                .orElseThrow()
+                .getVersion());
+    }
+
+    private static UUID seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword()); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO \"user\" (email, password, role) " +
+                    "SELECT 'user' || g || '@example.com', 'password', 'ROLE_USER' " +
+                    "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("INSERT INTO task (title, description, status, priority, author_id, created_at, " +
+                    "updated_at, comment_count) " +
+                    "SELECT 'Polled task', 'Description', 'IN_PROGRESS', 'HIGH', id, now(), now(), " +
+                    COMMENTS + " FROM \"user\" ORDER BY email LIMIT 1");
+            statement.execute("INSERT INTO task_assignee (task_id, user_id) " +
+                    "SELECT t.id, u.id FROM task t, \"user\" u");
+            statement.execute("INSERT INTO comment (content, task_id, author_id, created_at) " +
+                    "SELECT 'Comment number ' || g || ' with a realistic amount of text in it', t.id, " +
+                    "u.ids[1 + g % " + USERS + "], now() - g * interval '1 second' " +
+                    "FROM generate_series(1, " + COMMENTS + ") g, task t, " +
+                    "(SELECT array_agg(id) AS ids FROM \"user\") u");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT id FROM task")) {
+                resultSet.next();
+                return resultSet.getObject(1, UUID.class);
+            }
+        }
+    }
+
+    private record Poll(long bytes, long statements) {
+    }
+}
@@ -2,6 +2,7 @@ package org.example.tms.service.impl;
 
 import org.example.tms.dto.requests.create.CreateCommentRequestDto;
 import org.example.tms.dto.responses.CommentResponseDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
 import org.example.tms.dto.responses.TaskResponseDto;
 import org.example.tms.dto.responses.UserResponseDto;
 import org.example.tms.exception.CommentNotFoundException;
@@ -15,8 +16,9 @@ import org.example.tms.model.enums.TaskPriority;
 import org.example.tms.model.enums.TaskStatus;
 import org.example.tms.model.enums.UserRole;
 import org.example.tms.repository.CommentRepository;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.service.TaskService;
-import org.example.tms.service.UserService;
+import org.example.tms.util.KeysetCursor;
 import org.example.tms.validator.PermissionValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,12 +36,18 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,9 +60,6 @@ public class CommentServiceImplTest {
     @InjectMocks
     private CommentServiceImpl commentService;
 
-    @Mock
-    private UserService userService;
-
     @Mock
     private TaskService taskService;
 
@@ -73,6 +78,9 @@ public class CommentServiceImplTest {
     @Mock
     private PermissionValidator permissionValidator;
 
+    @Mock
+    private EntityResolver entityResolver;
+
     private Comment comment;
     private CommentResponseDto commentResponseDto;
     private CreateCommentRequestDto createCommentRequestDto;
@@ -136,18 +144,32 @@ public class CommentServiceImplTest {
         when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.of(comment));
         when(commentMapper.toCommentResponseDto(comment)).thenReturn(commentResponseDto);
 
-        CommentResponseDto result = commentService.getCommentById(COMMENT_ID);
+        CommentResponseDto result = commentService.getCommentById(COMMENT_ID, eTag -> false)
+                .orElseThrow();
 
         assertEquals(commentResponseDto, result);
         verify(commentRepository).findById(COMMENT_ID);
         verify(commentMapper).toCommentResponseDto(comment);
     }
 
+    @Test
+    public void testGetCommentById_ReusesResolvedComment() {
+        when(entityResolver.findResolved(Comment.class, COMMENT_ID)).thenReturn(Optional.of(comment));
+        when(commentMapper.toCommentResponseDto(comment)).thenReturn(commentResponseDto);
+
+        CommentResponseDto result = commentService.getCommentById(COMMENT_ID, eTag -> false)
+                .orElseThrow();
+
+        assertEquals(commentResponseDto, result);
+        verifyNoInteractions(commentRepository);
+    }
+
     @Test
     public void testGetCommentById_NotFound() {
         when(commentRepository.findById(COMMENT_ID)).thenReturn(Optional.empty());
 
-        assertThrows(CommentNotFoundException.class, () -> commentService.getCommentById(COMMENT_ID));
+        assertThrows(CommentNotFoundException.class, () -> commentService.getCommentById(COMMENT_ID,
+                eTag -> false));
         verify(commentRepository).findById(COMMENT_ID);
     }
 
@@ -156,10 +178,12 @@ public class CommentServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Comment> commentPage = new PageImpl<>(List.of(comment));
 
+        when(taskService.getTaskEntityById(TASK_ID)).thenReturn(task);
         when(commentRepository.findAllByTask_Id(TASK_ID, pageable)).thenReturn(commentPage);
         when(commentMapper.toCommentResponseDto(comment)).thenReturn(commentResponseDto);
 
-        Page<CommentResponseDto> result = commentService.getCommentsByTaskId(TASK_ID, pageable);
+        Page<CommentResponseDto> result = commentService.getCommentsByTaskId(TASK_ID, pageable, eTag -> false)
+                .orElseThrow();
 
         assertEquals(1, result.getTotalElements());
         assertEquals(commentResponseDto, result.getContent()
@@ -168,13 +192,58 @@ public class CommentServiceImplTest {
         verify(commentMapper).toCommentResponseDto(comment);
     }
 
+    @Test
+    public void testGetCommentsByTaskId_NotModifiedSkipsCommentQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(taskService.getTaskEntityById(TASK_ID)).thenReturn(task);
+
+        Optional<Page<CommentResponseDto>> result = commentService.getCommentsByTaskId(TASK_ID, pageable,
+                eTag -> true);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(commentRepository, commentMapper);
+    }
+
+    @Test
+    public void testGetCommentsByTaskId_ETagChangesWithTaskVersion() {
+        Pageable pageable = PageRequest.of(0, 10);
+        List<String> eTags = new ArrayList<>();
+
+        when(taskService.getTaskEntityById(TASK_ID)).thenReturn(task);
+
+        commentService.getCommentsByTaskId(TASK_ID, pageable, eTags::add);
+        task.setVersion(task.getVersion() + 1);
+        commentService.getCommentsByTaskId(TASK_ID, pageable, eTags::add);
+
+        assertNotEquals(eTags.get(0), eTags.get(1));
+    }
+
+    @Test
+    public void testScrollCommentsByTaskId_Success() {
+        KeysetCursor cursor = KeysetCursor.start();
+        comment.setCreatedAt(LocalDateTime.of(2024, 5, 1, 12, 0));
+
+        when(commentRepository.findAllByTaskIdAfter(TASK_ID, cursor.createdAt(), cursor.id(), PageRequest.ofSize(11)))
+                .thenReturn(List.of(comment));
+        when(commentMapper.toCommentResponseDto(comment)).thenReturn(commentResponseDto);
+
+        CursorPageResponseDto<CommentResponseDto> result = commentService.scrollCommentsByTaskId(TASK_ID, cursor, 10,
+                false);
+
+        assertEquals(List.of(commentResponseDto), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        assertNull(result.totalElements());
+        verify(commentRepository, never()).countByTask_Id(TASK_ID);
+    }
+
     @Test
     public void testAddComment_Success() {
         try (MockedStatic<SecurityContextHolder> ignored = mockStatic(SecurityContextHolder.class)) {
             mockSecurityContext();
 
             when(taskService.getTaskEntityById(TASK_ID)).thenReturn(task);
-            when(userService.getUserEntityById(CURRENT_USER_ID)).thenReturn(currentUser);
             doNothing().when(permissionValidator)
                     .validateAssigneePermission(currentUser, task);
 
@@ -200,6 +269,8 @@ public class CommentServiceImplTest {
             verify(commentMapper).toCommentResponseDto(commentMapperCaptor.capture());
 
             assertEquals(commentToSave, commentMapperCaptor.getValue());
+            verify(taskService).updateCommentCount(TASK_ID, 1);
+            verify(taskService).getTaskEntityById(TASK_ID);
         }
     }
 
@@ -209,7 +280,6 @@ public class CommentServiceImplTest {
             mockSecurityContext();
 
             when(taskService.getTaskEntityById(TASK_ID)).thenReturn(task);
-            when(userService.getUserEntityById(CURRENT_USER_ID)).thenReturn(currentUser);
             doNothing().when(permissionValidator)
                     .validateAssigneePermission(currentUser, task);
 
@@ -225,6 +295,7 @@ public class CommentServiceImplTest {
 
             assertThrows(EntitySaveException.class, () -> commentService.addComment(createCommentRequestDto));
             verify(commentRepository).save(commentCaptor.capture());
+            verify(taskService, never()).updateCommentCount(any(), anyInt());
         }
     }
 
@@ -242,6 +313,7 @@ public class CommentServiceImplTest {
 
             verify(commentRepository).findById(COMMENT_ID);
             verify(commentRepository).delete(comment);
+            verify(taskService).updateCommentCount(TASK_ID, -1);
         }
     }
 
@@ -0,0 +1,125 @@
+package org.example.tms.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tms.model.RevokedToken;
+import org.example.tms.properties.JwtBlacklistProperties;
+import org.example.tms.repository.RevokedTokenRepository;
+import org.example.tms.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DatabaseJwtBlacklistServiceImplTest {
+    private static final String TOKEN = "revokedToken";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private DatabaseJwtBlacklistServiceImpl jwtBlacklistService;
+
+    @BeforeEach
+    public void setUp() {
+        jwtBlacklistService = new DatabaseJwtBlacklistServiceImpl(jwtService, revokedTokenRepository,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testAddTokenToBlacklist_PersistsDigestAndAppliesLocally() {
+        Instant expiresAt = Instant.now()
+                .plusSeconds(60);
+
+        jwtBlacklistService.addTokenToBlacklist(TOKEN, expiresAt);
+
+        ArgumentCaptor<String> digestCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<LocalDateTime> expiresAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository).insertIfAbsent(digestCaptor.capture(), expiresAtCaptor.capture(),
+                any(LocalDateTime.class));
+        assertEquals(digest(TOKEN), digestCaptor.getValue());
+        assertEquals(LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC), expiresAtCaptor.getValue());
+        assertTrue(jwtBlacklistService.isTokenBlacklisted(TOKEN));
+    }
+
+    @Test
+    public void testAddTokenToBlacklist_KeepsEveryActiveRevocation() {
+        Instant expiresAt = Instant.now()
+                .plusSeconds(60);
+        int revocations = new JwtBlacklistProperties().getMaximumSize() + 1_000;
+
+        for (int i = 0; i < revocations; i++) {
+            jwtBlacklistService.addTokenToBlacklist(TOKEN + i, expiresAt);
+        }
+
+        for (int i = 0; i < revocations; i++) {
+            assertTrue(jwtBlacklistService.isTokenBlacklisted(TOKEN + i));
+        }
+    }
+
+    @Test
+    public void testIsTokenBlacklisted_DoesNotQueryDatabase() {
+        assertFalse(jwtBlacklistService.isTokenBlacklisted(TOKEN));
+
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    public void testRefreshFromStore_LoadsRevocationsOfOtherInstances() {
+        LocalDateTime revokedAt = LocalDateTime.now(ZoneOffset.UTC);
+        RevokedToken revokedToken = RevokedToken.builder()
+                .tokenDigest(digest(TOKEN))
+                .expiresAt(revokedAt.plusMinutes(10))
+                .revokedAt(revokedAt)
+                .build();
+        when(revokedTokenRepository.findActiveRevokedAfter(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(revokedToken))
+                .thenReturn(List.of());
+
+        assertEquals(1, jwtBlacklistService.refreshFromStore());
+        assertTrue(jwtBlacklistService.isTokenBlacklisted(TOKEN));
+
+        jwtBlacklistService.refreshFromStore();
+
+        ArgumentCaptor<LocalDateTime> revokedAfterCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(2)).findActiveRevokedAfter(revokedAfterCaptor.capture(),
+                any(LocalDateTime.class));
+        LocalDateTime secondPollStart = revokedAfterCaptor.getAllValues()
+                .get(1);
+        assertTrue(secondPollStart.isBefore(revokedAt));
+        assertTrue(secondPollStart.isAfter(revokedAt.minusMinutes(1)));
+    }
+
+    @Test
+    public void testRemoveExpiredTokens_DeletesExpiredRows() {
+        when(revokedTokenRepository.deleteExpired(any(LocalDateTime.class))).thenReturn(3);
+
+        assertEquals(3, jwtBlacklistService.removeExpiredTokens());
+    }
+
+    private String digest(String token) {
+        try {
+            return Base64.getEncoder()
+                    .withoutPadding()
+                    .encodeToString(MessageDigest.getInstance("SHA-256")
+                            .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,33 +1,93 @@
 package org.example.tms.service.impl;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.tms.properties.JwtBlacklistProperties;
+import org.example.tms.service.JwtService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
 public class JwtBlacklistServiceImplTest {
+    private static final int MAXIMUM_SIZE = 1_000;
+
+    @Mock
+    private JwtService jwtService;
+
+    private MeterRegistry meterRegistry;
     private JwtBlacklistServiceImpl jwtBlacklistService;
 
     @BeforeEach
     public void setUp() {
-        jwtBlacklistService = new JwtBlacklistServiceImpl();
+        var jwtBlacklistProperties = new JwtBlacklistProperties();
+        jwtBlacklistProperties.setMaximumSize(MAXIMUM_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+
+        jwtBlacklistService = new JwtBlacklistServiceImpl(jwtService, jwtBlacklistProperties, meterRegistry);
     }
 
     @Test
     public void testAddTokenToBlacklist() {
         String token = "testToken";
+        Claims claims = Jwts.claims()
+                .setExpiration(Date.from(Instant.now()
+                        .plusSeconds(60)));
+        when(jwtService.parseAccessToken(token)).thenReturn(Optional.of(claims));
 
         jwtBlacklistService.addTokenToBlacklist(token);
 
         assertTrue(jwtBlacklistService.isTokenBlacklisted(token));
     }
 
+    @Test
+    public void testAddTokenToBlacklist_SkipsExpiredToken() {
+        String token = "expiredToken";
+        when(jwtService.parseAccessToken(token)).thenReturn(Optional.empty());
+
+        jwtBlacklistService.addTokenToBlacklist(token);
+
+        assertFalse(jwtBlacklistService.isTokenBlacklisted(token));
+        assertEquals(0, blacklistSize());
+    }
+
+    @Test
+    public void testAddTokenToBlacklist_SkipsUnverifiableToken() {
+        String token = "malformedToken";
+        when(jwtService.parseAccessToken(token)).thenThrow(new MalformedJwtException("malformed"));
+
+        jwtBlacklistService.addTokenToBlacklist(token);
+
+        assertFalse(jwtBlacklistService.isTokenBlacklisted(token));
+        assertEquals(0, blacklistSize());
+    }
+
     @Test
     public void testIsTokenBlacklisted_ReturnsTrueForBlacklistedToken() {
         String token = "testToken";
 
-        jwtBlacklistService.addTokenToBlacklist(token);
+        jwtBlacklistService.addTokenToBlacklist(token, Instant.now()
+                .plusSeconds(60));
 
         assertTrue(jwtBlacklistService.isTokenBlacklisted(token));
     }
@@ -38,4 +98,114 @@ public class JwtBlacklistServiceImplTest {
 
         assertFalse(jwtBlacklistService.isTokenBlacklisted(token));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIsTokenBlacklisted_ReturnsFalseAfterTokenExpired() {
+        String token = "testToken";
+
+        jwtBlacklistService.addTokenToBlacklist(token, Instant.now()
+                .minusSeconds(1));
+
+        assertFalse(jwtBlacklistService.isTokenBlacklisted(token));
+    }
+
+    @Test
+    public void testRemoveExpiredTokens_RemovesOnlyExpiredEntries() {
+        jwtBlacklistService.addTokenToBlacklist("expiredToken", Instant.now()
+                .minusSeconds(10));
+        jwtBlacklistService.addTokenToBlacklist("otherExpiredToken", Instant.now()
+                .minusSeconds(5));
+        jwtBlacklistService.addTokenToBlacklist("activeToken", Instant.now()
+                .plusSeconds(60));
+
+        int removed = jwtBlacklistService.removeExpiredTokens();
+
+        assertEquals(2, removed);
+        assertEquals(1, blacklistSize());
+        assertTrue(jwtBlacklistService.isTokenBlacklisted("activeToken"));
+        assertEquals(2, meterRegistry.get("jwt.blacklist.evictions")
+                .tag("reason", "expired")
+                .counter()
+                .count());
+    }
+
+    @Test
+    public void testAddTokenToBlacklist_SweepsExpiredEntriesAboveMaximumSize() {
+        Instant now = Instant.now();
+        jwtBlacklistService.addTokenToBlacklist("expiredToken", now.minusSeconds(1));
+        for (int i = 1; i < MAXIMUM_SIZE; i++) {
+            jwtBlacklistService.addTokenToBlacklist("token-" + i, now.plusSeconds(60 + i));
+        }
+
+        jwtBlacklistService.addTokenToBlacklist("latestToken", now.plusSeconds(60 + MAXIMUM_SIZE));
+
+        assertEquals(MAXIMUM_SIZE, blacklistSize());
+        assertTrue(jwtBlacklistService.isTokenBlacklisted("token-1"));
+        assertTrue(jwtBlacklistService.isTokenBlacklisted("latestToken"));
+        assertEquals(1, meterRegistry.get("jwt.blacklist.evictions")
+                .tag("reason", "expired")
+                .counter()
+                .count());
+    }
+
+    @Test
+    public void testAddTokenToBlacklist_NeverEvictsActiveEntries() {
+        Instant now = Instant.now();
+        for (int i = 0; i <= MAXIMUM_SIZE; i++) {
+            jwtBlacklistService.addTokenToBlacklist("token-" + i, now.plusSeconds(60 + i));
+        }
+
+        assertEquals(MAXIMUM_SIZE + 1, blacklistSize());
+        assertTrue(jwtBlacklistService.isTokenBlacklisted("token-0"));
+        assertTrue(jwtBlacklistService.isTokenBlacklisted("token-" + MAXIMUM_SIZE));
+    }
+
+    @Test
+    public void testConcurrentAccess_StaysConsistent() throws Exception {
+        int threads = 16;
+        int operationsPerThread = 5_000;
+        Instant expiresAt = Instant.now()
+                .plusSeconds(600);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        String token = UUID.randomUUID()
+                                .toString();
+                        jwtBlacklistService.addTokenToBlacklist(token, expiresAt.plusMillis(i));
+                        assertTrue(jwtBlacklistService.isTokenBlacklisted(token));
+                        assertFalse(jwtBlacklistService.isTokenBlacklisted("missing-" + token));
+                        if (i % 500 == 0) {
+                            jwtBlacklistService.removeExpiredTokens();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * operationsPerThread, blacklistSize());
+
+        String token = "finalToken";
+        jwtBlacklistService.addTokenToBlacklist(token, expiresAt.plusSeconds(60));
+        assertTrue(jwtBlacklistService.isTokenBlacklisted(token));
+    }
+
+    private double blacklistSize() {
+        return meterRegistry.get("jwt.blacklist.size")
+                .gauge()
+                .value();
+    }
+}
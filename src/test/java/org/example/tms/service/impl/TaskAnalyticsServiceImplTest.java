@@ -0,0 +1,164 @@
+package org.example.tms.service.impl;
+
+import org.example.tms.dto.requests.TaskAnalyticsRequestDto;
+import org.example.tms.dto.responses.TaskAnalyticsDayDto;
+import org.example.tms.dto.responses.TaskAnalyticsResponseDto;
+import org.example.tms.model.Task;
+import org.example.tms.model.User;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.repository.TaskAnalyticsRepository;
+import org.example.tms.repository.TaskDailyCounts;
+import org.example.tms.repository.TaskStatusEvent;
+import org.example.tms.util.ConstantUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskAnalyticsServiceImplTest {
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+    private static final LocalDateTime CREATED_AT = DAY.atTime(9, 0);
+
+    @InjectMocks
+    private TaskAnalyticsServiceImpl taskAnalyticsService;
+
+    @Mock
+    private TaskAnalyticsRepository taskAnalyticsRepository;
+
+    private Task task;
+
+    @BeforeEach
+    public void setUp() {
+        task = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task")
+                .status(TaskStatus.COMPLETED)
+                .priority(TaskPriority.HIGH)
+                .author(User.builder()
+                        .id(AUTHOR_ID)
+                        .build())
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    @Test
+    public void testGetTaskAnalytics_AveragesCycleTimeOfCompletedTasks() {
+        var request = TaskAnalyticsRequestDto.builder()
+                .from(DAY)
+                .to(DAY.plusDays(1))
+                .userId(USER_ID)
+                .build();
+        when(taskAnalyticsRepository.findDailyCounts(DAY, DAY.plusDays(1), USER_ID, null)).thenReturn(List.of(
+                new TaskDailyCounts(DAY, 3, 2, 600),
+                new TaskDailyCounts(DAY.plusDays(1), 1, 0, 0)));
+
+        TaskAnalyticsResponseDto result = taskAnalyticsService.getTaskAnalytics(request);
+
+        assertEquals(USER_ID, result.userId());
+        assertEquals(new TaskAnalyticsDayDto(DAY, 3, 2, 300L), result.days()
+                .get(0));
+        assertNull(result.days()
+                .get(1)
+                .averageCycleTimeSeconds());
+    }
+
+    @Test
+    public void testRecordTasksCreated_CreditsAuthor() {
+        taskAnalyticsService.recordTasksCreated(List.of(task));
+
+        verify(taskAnalyticsRepository).insertEvents(List.of(new TaskStatusEvent(task.getId(), AUTHOR_ID,
+                TaskPriority.HIGH, null, TaskStatus.COMPLETED, CREATED_AT, CREATED_AT)));
+    }
+
+    @Test
+    public void testRecordStatusChange_CreditsUserWhoChangedIt() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskStatusEvent>> events = ArgumentCaptor.forClass(List.class);
+
+        taskAnalyticsService.recordStatusChange(task, TaskStatus.IN_PROGRESS, USER_ID);
+
+        verify(taskAnalyticsRepository).insertEvents(events.capture());
+        TaskStatusEvent event = events.getValue()
+                .get(0);
+        assertEquals(USER_ID, event.userId());
+        assertEquals(TaskStatus.IN_PROGRESS, event.fromStatus());
+        assertEquals(TaskStatus.COMPLETED, event.toStatus());
+        assertEquals(CREATED_AT, event.taskCreatedAt());
+    }
+
+    @Test
+    public void testRecordStatusChange_SkipsUnchangedStatus() {
+        taskAnalyticsService.recordStatusChange(task, TaskStatus.COMPLETED, USER_ID);
+
+        verifyNoInteractions(taskAnalyticsRepository);
+    }
+
+    @Test
+    public void testRollUp_FoldsEventsSinceWatermark() {
+        when(taskAnalyticsRepository.findLastCommittedEventId()).thenReturn(25L);
+        when(taskAnalyticsRepository.lockWatermark(ConstantUtil.TASK_DAILY_ROLLUP)).thenReturn(10L);
+
+        assertEquals(25, taskAnalyticsService.rollUp());
+
+        var inOrder = inOrder(taskAnalyticsRepository);
+        inOrder.verify(taskAnalyticsRepository)
+                .findLastCommittedEventId();
+        inOrder.verify(taskAnalyticsRepository)
+                .lockWatermark(ConstantUtil.TASK_DAILY_ROLLUP);
+        inOrder.verify(taskAnalyticsRepository)
+                .rollUp(10, 25);
+        inOrder.verify(taskAnalyticsRepository)
+                .updateWatermark(ConstantUtil.TASK_DAILY_ROLLUP, 25);
+    }
+
+    @Test
+    public void testRollUp_CapsEventsPerRun() {
+        long lastCommittedEventId = 10 + ConstantUtil.MAX_ROLLUP_EVENTS + 5;
+        when(taskAnalyticsRepository.findLastCommittedEventId()).thenReturn(lastCommittedEventId);
+        when(taskAnalyticsRepository.lockWatermark(ConstantUtil.TASK_DAILY_ROLLUP)).thenReturn(10L);
+
+        assertEquals(10 + ConstantUtil.MAX_ROLLUP_EVENTS, taskAnalyticsService.rollUp());
+
+        verify(taskAnalyticsRepository).rollUp(10, 10 + ConstantUtil.MAX_ROLLUP_EVENTS);
+        verify(taskAnalyticsRepository).updateWatermark(ConstantUtil.TASK_DAILY_ROLLUP,
+                10 + ConstantUtil.MAX_ROLLUP_EVENTS);
+    }
+
+    @Test
+    public void testRollUp_WithoutNewEventsKeepsWatermark() {
+        when(taskAnalyticsRepository.findLastCommittedEventId()).thenReturn(25L);
+        when(taskAnalyticsRepository.lockWatermark(ConstantUtil.TASK_DAILY_ROLLUP)).thenReturn(25L);
+
+        assertEquals(25, taskAnalyticsService.rollUp());
+
+        verify(taskAnalyticsRepository, never()).rollUp(anyLong(), anyLong());
+        verify(taskAnalyticsRepository, never()).updateWatermark(any(), anyLong());
+    }
+
+    @Test
+    public void testRollUp_ReadsLastCommittedEventInItsOwnTransaction() throws NoSuchMethodException {
+        Transactional transactional = TaskAnalyticsRepository.class.getMethod("findLastCommittedEventId")
+                .getAnnotation(Transactional.class);
+
+        assertEquals(Propagation.REQUIRES_NEW, transactional.propagation());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.tms.service.impl;
 
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskAssigneeRequestDto;
 import org.example.tms.dto.responses.TaskAssigneeResponseDto;
 import org.example.tms.dto.responses.TaskResponseDto;
@@ -13,8 +14,10 @@ import org.example.tms.model.User;
 import org.example.tms.model.enums.TaskPriority;
 import org.example.tms.model.enums.TaskStatus;
 import org.example.tms.model.enums.UserRole;
+import org.example.tms.repository.EntityBatchWriter;
 import org.example.tms.repository.TaskAssigneeRepository;
 import org.example.tms.service.TaskService;
+import org.example.tms.service.TaskStatsService;
 import org.example.tms.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,12 +27,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +61,12 @@ public class TaskAssigneeServiceImplTest {
     @Mock
     private TaskAssigneeRepository taskAssigneeRepository;
 
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private EntityBatchWriter entityBatchWriter;
+
     private Task task;
     private User user;
     private CreateTaskAssigneeRequestDto createTaskAssigneeRequestDto;
@@ -115,6 +130,8 @@ public class TaskAssigneeServiceImplTest {
         assertEquals(taskAssigneeResponseDto.id(), result.id());
         verify(taskService).getTaskEntityById(TASK_ID);
         verify(userService).getUserEntityById(ASSIGNEE_ID);
+        verify(taskService).incrementVersions(List.of(TASK_ID));
+        verify(taskStatsService).recordAssignments(List.of(Map.entry(TASK_ID, ASSIGNEE_ID)));
     }
 
     @Test
@@ -138,4 +155,62 @@ public class TaskAssigneeServiceImplTest {
         verify(taskService).getTaskEntityById(TASK_ID);
         verify(userService).getUserEntityById(ASSIGNEE_ID);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAssignTasksToUsers_ResolvesTasksAndUsersOncePerBatch() {
+        UUID otherTaskId = UUID.randomUUID();
+        Task otherTask = Task.builder()
+                .id(otherTaskId)
+                .build();
+        List<CreateTaskAssigneeBatchRequestDto.Assignment> assignments = List.of(
+                assignment(TASK_ID, ASSIGNEE_ID),
+                assignment(otherTaskId, ASSIGNEE_ID),
+                assignment(TASK_ID, ASSIGNEE_ID));
+
+        when(taskService.findExistingTaskIds(List.of(TASK_ID, otherTaskId))).thenReturn(Set.of(TASK_ID,
+                otherTaskId));
+        when(userService.getUserEntitiesByIds(List.of(ASSIGNEE_ID))).thenReturn(Map.of(ASSIGNEE_ID, user));
+        when(taskService.getTaskReferenceById(TASK_ID)).thenReturn(task);
+        when(taskService.getTaskReferenceById(otherTaskId)).thenReturn(otherTask);
+        when(entityBatchWriter.persistAll(any(), any())).thenReturn(List.of(taskAssigneeResponseDto,
+                taskAssigneeResponseDto, taskAssigneeResponseDto));
+
+        List<TaskAssigneeResponseDto> result = taskAssigneeService.assignTasksToUsers(assignments);
+
+        assertEquals(3, result.size());
+        verify(taskService, never()).getTaskEntityById(any());
+        verify(userService, never()).getUserEntityById(any());
+        verify(taskService).incrementVersions(List.of(TASK_ID, otherTaskId, TASK_ID));
+    }
+
+    @Test
+    public void testAssignTasksToUsers_TaskNotFound() {
+        UUID missingTaskId = UUID.randomUUID();
+        List<CreateTaskAssigneeBatchRequestDto.Assignment> assignments = List.of(
+                assignment(TASK_ID, ASSIGNEE_ID),
+                assignment(missingTaskId, ASSIGNEE_ID));
+
+        when(taskService.findExistingTaskIds(List.of(TASK_ID, missingTaskId))).thenReturn(Set.of(TASK_ID));
+
+        assertThrows(TaskNotFoundException.class, () -> taskAssigneeService.assignTasksToUsers(assignments));
+        verifyNoInteractions(userService, entityBatchWriter);
+    }
+
+    @Test
+    public void testAssignTasksToUsers_UserNotFound() {
+        List<CreateTaskAssigneeBatchRequestDto.Assignment> assignments = List.of(assignment(TASK_ID, ASSIGNEE_ID));
+
+        when(taskService.findExistingTaskIds(List.of(TASK_ID))).thenReturn(Set.of(TASK_ID));
+        when(userService.getUserEntitiesByIds(List.of(ASSIGNEE_ID))).thenReturn(Map.of());
+
+        assertThrows(UserNotFoundException.class, () -> taskAssigneeService.assignTasksToUsers(assignments));
+        verifyNoInteractions(entityBatchWriter);
+    }
+
+    private static CreateTaskAssigneeBatchRequestDto.Assignment assignment(UUID taskId, UUID assigneeId) {
+        return CreateTaskAssigneeBatchRequestDto.Assignment.builder()
+                .taskId(taskId)
+                .assigneeId(assigneeId)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.tms.service.impl;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
+import org.example.tms.dto.responses.TaskImportErrorDto;
+import org.example.tms.dto.responses.TaskImportResponseDto;
+import org.example.tms.importer.TaskImportReader;
+import org.example.tms.importer.TaskImportRow;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.repository.TaskImportRepository;
+import org.example.tms.repository.TaskStatsKey;
+import org.example.tms.service.TaskStatsService;
+import org.example.tms.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceImplTest {
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+    private static final UUID UNKNOWN_AUTHOR_ID = UUID.randomUUID();
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TaskImportRepository taskImportRepository;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    private ValidatorFactory validatorFactory;
+    private TaskImportServiceImpl taskImportService;
+
+    @BeforeEach
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        taskImportService = new TaskImportServiceImpl(validatorFactory.getValidator(), userService,
+                taskImportRepository, taskStatsService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    public void testImportTasks_StagesValidRowsAndReportsRejectedOnes() throws IOException {
+        var valid = TaskImportRow.parsed(1, request("Valid", AUTHOR_ID));
+        var blankTitle = TaskImportRow.parsed(2, request(" ", AUTHOR_ID));
+        var malformed = TaskImportRow.failed(3, "Unexpected character");
+        var unknownAuthor = TaskImportRow.parsed(4, request("Orphan", UNKNOWN_AUTHOR_ID));
+        var sameAuthor = TaskImportRow.parsed(5, request("Also valid", AUTHOR_ID));
+
+        when(userService.findExistingUserIds(Set.of(AUTHOR_ID, UNKNOWN_AUTHOR_ID))).thenReturn(Set.of(AUTHOR_ID));
+        when(taskImportRepository.mergeStagingTable()).thenReturn(2);
+
+        TaskImportResponseDto response = taskImportService.importTasks(
+                reader(valid, blankTitle, malformed, unknownAuthor, sameAuthor));
+
+        assertEquals(2, response.importedCount());
+        assertEquals(3, response.rejectedCount());
+        assertEquals(List.of(
+                new TaskImportErrorDto(2, "title: must not be blank"),
+                new TaskImportErrorDto(3, "Unexpected character"),
+                new TaskImportErrorDto(4, "authorId: User with ID " + UNKNOWN_AUTHOR_ID + " not found")),
+                response.errors());
+
+        verify(taskImportRepository).createStagingTable();
+        verify(taskImportRepository).copyToStagingTable(List.of(valid, sameAuthor));
+        verify(taskStatsService).recordTasksCreated(
+                Map.of(new TaskStatsKey(TaskStatus.PENDING, TaskPriority.MEDIUM), 2L));
+        verify(userService, times(1)).findExistingUserIds(anyCollection());
+    }
+
+    @Test
+    public void testImportTasks_MergesNothingForEmptyUpload() throws IOException {
+        TaskImportResponseDto response = taskImportService.importTasks(reader());
+
+        assertEquals(0, response.importedCount());
+        assertEquals(0, response.rejectedCount());
+        verify(taskImportRepository).copyToStagingTable(List.of());
+        verifyNoInteractions(userService);
+    }
+
+    private static ImportTaskRequestDto request(String title, UUID authorId) {
+        return ImportTaskRequestDto.builder()
+                .title(title)
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.MEDIUM)
+                .authorId(authorId)
+                .build();
+    }
+
+    private static TaskImportReader reader(TaskImportRow... rows) {
+        Deque<TaskImportRow> remaining = new ArrayDeque<>(List.of(rows));
+        return new TaskImportReader() {
+            @Override
+            public TaskImportRow next() {
+                return remaining.poll();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
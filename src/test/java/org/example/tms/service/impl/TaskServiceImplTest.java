@@ -1,21 +1,36 @@
 package org.example.tms.service.impl;
 
+import org.example.tms.dto.requests.TaskFilterRequestDto;
 import org.example.tms.dto.requests.create.CreateTaskRequestDto;
+import org.example.tms.dto.requests.create.ImportTaskRequestDto;
 import org.example.tms.dto.requests.update.UpdateTaskRequestDto;
+import org.example.tms.dto.responses.CursorPageResponseDto;
 import org.example.tms.dto.responses.TaskResponseDto;
 import org.example.tms.exception.TaskNotFoundException;
+import org.example.tms.exception.UserNotFoundException;
 import org.example.tms.mapper.TaskMapper;
+import org.example.tms.model.Comment;
 import org.example.tms.model.Task;
+import org.example.tms.model.TaskAssignee;
 import org.example.tms.model.User;
 import org.example.tms.model.enums.TaskPriority;
 import org.example.tms.model.enums.TaskStatus;
 import org.example.tms.model.enums.UserRole;
+import org.example.tms.repository.EntityBatchWriter;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.repository.TaskRepository;
+import org.example.tms.repository.TaskSearchHit;
+import org.example.tms.repository.TaskStatsKey;
+import org.example.tms.service.TaskAnalyticsService;
+import org.example.tms.service.TaskStatsService;
 import org.example.tms.service.UserService;
+import org.example.tms.util.KeysetCursor;
+import org.example.tms.util.SearchCursor;
 import org.example.tms.validator.PermissionValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,13 +38,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +77,18 @@ public class TaskServiceImplTest {
     @Mock
     private PermissionValidator permissionValidator;
 
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Mock
+    private TaskAnalyticsService taskAnalyticsService;
+
+    @Mock
+    private EntityResolver entityResolver;
+
+    @Mock
+    private EntityBatchWriter entityBatchWriter;
+
     private Task task;
     private TaskResponseDto taskResponseDto;
     private CreateTaskRequestDto createTaskRequestDto;
@@ -114,6 +151,29 @@ public class TaskServiceImplTest {
         verify(taskRepository).findById(taskId);
     }
 
+    @Test
+    public void testGetTaskEntityById_ReusesResolvedTaskInReadOnlyTransaction() {
+        UUID taskId = task.getId();
+        when(entityResolver.findResolved(Task.class, taskId)).thenReturn(Optional.of(task));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            assertEquals(task, taskService.getTaskEntityById(taskId));
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    public void testGetTaskEntityById_LoadsManagedTaskInReadWriteTransaction() {
+        UUID taskId = task.getId();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        assertEquals(task, taskService.getTaskEntityById(taskId));
+        verifyNoInteractions(entityResolver);
+    }
+
     @Test
     public void testGetTaskEntityById_NotFound() {
         UUID taskId = UUID.randomUUID();
@@ -131,7 +191,8 @@ public class TaskServiceImplTest {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
         when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
 
-        TaskResponseDto result = taskService.getTaskById(taskId);
+        TaskResponseDto result = taskService.getTaskById(taskId, null, eTag -> false)
+                .orElseThrow();
 
         assertEquals(taskResponseDto, result);
         verify(taskRepository).findById(taskId);
@@ -150,6 +211,34 @@ public class TaskServiceImplTest {
         verify(taskMapper).toTaskForCreate(createTaskRequestDto);
         verify(taskRepository).save(task);
         verify(taskMapper).toTaskResponseDto(task);
+        verify(taskStatsService).recordTasksCreated(Map.of(new TaskStatsKey(createTaskRequestDto.getStatus(),
+                createTaskRequestDto.getPriority()), 1L));
+        verify(taskAnalyticsService).recordTasksCreated(List.of(task));
+    }
+
+    @Test
+    public void testCreateTasks_ChecksAuthorsWithOneQuery() {
+        List<ImportTaskRequestDto> requests = List.of(importRequest(AUTHOR_ID), importRequest(AUTHOR_ID));
+
+        when(userService.findExistingUserIds(Set.of(AUTHOR_ID))).thenReturn(Set.of(AUTHOR_ID));
+        when(taskMapper.toTaskForCreate(any(ImportTaskRequestDto.class))).thenReturn(task);
+        when(entityBatchWriter.persistAll(eq(List.of(task, task)), any())).thenReturn(List.of(taskResponseDto,
+                taskResponseDto));
+
+        assertEquals(List.of(taskResponseDto, taskResponseDto), taskService.createTasks(requests));
+        verify(userService).findExistingUserIds(Set.of(AUTHOR_ID));
+        verify(userService, never()).getUserEntityById(any());
+    }
+
+    @Test
+    public void testCreateTasks_AuthorNotFound() {
+        UUID missingAuthorId = UUID.randomUUID();
+        List<ImportTaskRequestDto> requests = List.of(importRequest(AUTHOR_ID), importRequest(missingAuthorId));
+
+        when(userService.findExistingUserIds(Set.of(AUTHOR_ID, missingAuthorId))).thenReturn(Set.of(AUTHOR_ID));
+
+        assertThrows(UserNotFoundException.class, () -> taskService.createTasks(requests));
+        verifyNoInteractions(entityBatchWriter, taskStatsService);
     }
 
     @Test
@@ -161,6 +250,7 @@ public class TaskServiceImplTest {
         taskService.deleteTask(taskId);
 
         verify(taskRepository).findById(taskId);
+        verify(taskStatsService).recordTaskDeletion(taskId);
         verify(taskRepository).delete(task);
     }
 
@@ -170,8 +260,10 @@ public class TaskServiceImplTest {
         UUID authorId = task.getAuthor()
                 .getId();
         currentUser.setRole(UserRole.ROLE_ADMIN);
+        task.setVersion(3L);
+        TaskStatsKey previousKey = new TaskStatsKey(task.getStatus(), task.getPriority());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.lockById(taskId)).thenReturn(Optional.of(task));
         when(userService.getUserEntityById(authorId)).thenReturn(task.getAuthor());
         doNothing().when(permissionValidator)
                 .validateAssigneePermission(currentUser, task);
@@ -181,11 +273,34 @@ public class TaskServiceImplTest {
         TaskResponseDto result = taskService.updateTask(taskId, updateTaskRequestDto, currentUser);
 
         assertEquals(taskResponseDto, result);
+        assertEquals(4L, task.getVersion());
         verify(permissionValidator).validateAssigneePermission(currentUser, task);
+        verify(taskStatsService).recordTaskUpdate(taskId, previousKey, updateTaskRequestDto.getStatus(),
+                updateTaskRequestDto.getPriority());
+        verify(taskRepository, never()).findById(taskId);
         verify(taskRepository).save(task);
         verify(taskMapper).toTaskResponseDto(task);
     }
 
+    @Test
+    public void testUpdateTask_RecordsStatusChangeOfPreviousState() {
+        UUID taskId = task.getId();
+
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(TaskPriority.HIGH);
+        TaskStatsKey previousKey = new TaskStatsKey(TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        when(taskRepository.lockById(taskId)).thenReturn(Optional.of(task));
+        when(taskStatsService.recordTaskUpdate(taskId, previousKey, TaskStatus.COMPLETED, TaskPriority.LOW))
+                .thenReturn(Optional.of(previousKey));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
+
+        taskService.updateTask(taskId, updateTaskRequestDto, currentUser);
+
+        assertEquals(TaskStatus.COMPLETED, task.getStatus());
+        verify(taskAnalyticsService).recordStatusChange(task, TaskStatus.IN_PROGRESS, currentUser.getId());
+    }
+
     @Test
     public void testGetTasksByAuthor_Success() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -196,11 +311,324 @@ public class TaskServiceImplTest {
         when(taskRepository.findAllByAuthor_Id(authorId, pageable)).thenReturn(taskPage);
         when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
 
-        Page<TaskResponseDto> result = taskService.getTasksByAuthor(authorId, pageable);
+        Page<TaskResponseDto> result = taskService.getTasksByAuthor(authorId, pageable, null, eTag -> false)
+                .orElseThrow();
 
         assertEquals(1, result.getTotalElements());
         assertEquals(taskResponseDto, result.getContent()
                 .get(0));
         verify(taskRepository).findAllByAuthor_Id(authorId, pageable);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAllTasks_LoadsAssociationsWithConstantQueryCount() {
+        Pageable pageable = PageRequest.of(0, 3);
+        Task secondTask = Task.builder()
+                .id(UUID.randomUUID())
+                .build();
+        Task thirdTask = Task.builder()
+                .id(UUID.randomUUID())
+                .build();
+        TaskAssignee taskAssignee = TaskAssignee.builder()
+                .task(task)
+                .assignee(currentUser)
+                .build();
+        Comment comment = Comment.builder()
+                .task(secondTask)
+                .author(currentUser)
+                .build();
+
+        Page<Task> taskPage = new PageImpl<>(List.of(task, secondTask, thirdTask));
+        List<UUID> taskIds = List.of(task.getId(), secondTask.getId(), thirdTask.getId());
+
+        when(taskRepository.findAllWithDetails(pageable)).thenReturn(taskPage);
+        when(taskRepository.fetchTaskAssigneesByTaskIds(taskIds)).thenReturn(List.of(taskAssignee));
+        when(taskRepository.fetchCommentsByTaskIds(taskIds)).thenReturn(List.of(comment));
+
+        Page<TaskResponseDto> result = taskService.getAllTasks(pageable, null, eTag -> false)
+                .orElseThrow();
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(List.of(taskAssignee), task.getTaskAssignees());
+        assertEquals(List.of(comment), secondTask.getComments());
+        assertTrue(thirdTask.getTaskAssignees()
+                .isEmpty());
+        assertTrue(thirdTask.getComments()
+                .isEmpty());
+
+        verify(taskRepository).findAllWithDetails(pageable);
+        verify(taskRepository, times(1)).fetchTaskAssigneesByTaskIds(taskIds);
+        verify(taskRepository, times(1)).fetchCommentsByTaskIds(taskIds);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    public void testGetTasksByAssignee_EmptyPageSkipsAssociationQueries() {
+        Pageable pageable = PageRequest.of(0, 10);
+        UUID assigneeId = currentUser.getId();
+
+        when(taskRepository.findAllByTaskAssignees_Assignee_Id(assigneeId, pageable)).thenReturn(Page.empty());
+
+        Page<TaskResponseDto> result = taskService.getTasksByAssignee(assigneeId, pageable, null, eTag -> false)
+                .orElseThrow();
+
+        assertTrue(result.isEmpty());
+        verify(taskRepository).findAllByTaskAssignees_Assignee_Id(assigneeId, pageable);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    public void testGetTaskById_WithCommentsLimitLoadsLatestCommentsOnly() {
+        UUID taskId = task.getId();
+        Comment olderComment = Comment.builder()
+                .id(UUID.randomUUID())
+                .task(task)
+                .createdAt(LocalDateTime.now()
+                        .minusDays(1))
+                .build();
+        Comment newerComment = Comment.builder()
+                .id(UUID.randomUUID())
+                .task(task)
+                .createdAt(LocalDateTime.now())
+                .build();
+        List<UUID> latestCommentIds = List.of(olderComment.getId(), newerComment.getId());
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.fetchLatestCommentIdsByTaskIds(List.of(taskId), 2)).thenReturn(latestCommentIds);
+        when(taskRepository.fetchCommentsByIds(latestCommentIds)).thenReturn(List.of(olderComment, newerComment));
+        when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
+
+        TaskResponseDto result = taskService.getTaskById(taskId, 2, eTag -> false)
+                .orElseThrow();
+
+        assertEquals(taskResponseDto, result);
+        assertEquals(List.of(newerComment, olderComment), task.getComments());
+        verify(taskRepository, never()).fetchCommentsByTaskIds(any());
+    }
+
+    @Test
+    public void testGetTaskById_WithZeroCommentsLimitSkipsCommentQueries() {
+        UUID taskId = task.getId();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
+
+        taskService.getTaskById(taskId, 0, eTag -> false);
+
+        assertTrue(task.getComments()
+                .isEmpty());
+        verify(taskRepository).fetchTaskAssigneesByTaskIds(List.of(taskId));
+        verify(taskRepository, never()).fetchCommentsByTaskIds(any());
+        verify(taskRepository, never()).fetchLatestCommentIdsByTaskIds(any(), anyInt());
+    }
+
+    @Test
+    public void testGetTaskById_NotModifiedSkipsAssociationsAndMapping() {
+        UUID taskId = task.getId();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        Optional<TaskResponseDto> result = taskService.getTaskById(taskId, null, eTag -> true);
+
+        assertTrue(result.isEmpty());
+        verify(taskRepository).findById(taskId);
+        verifyNoMoreInteractions(taskRepository);
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    public void testGetTaskById_ETagChangesWithVersion() {
+        UUID taskId = task.getId();
+        List<String> eTags = new ArrayList<>();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+
+        taskService.getTaskById(taskId, null, eTags::add);
+        taskService.getTaskById(taskId, null, eTags::add);
+        task.setVersion(task.getVersion() + 1);
+        taskService.getTaskById(taskId, null, eTags::add);
+
+        assertEquals(eTags.get(0), eTags.get(1));
+        assertNotEquals(eTags.get(1), eTags.get(2));
+    }
+
+    @Test
+    public void testGetAllTasks_NotModifiedSkipsAssociations() {
+        Pageable pageable = PageRequest.of(0, 10);
+        List<String> eTags = new ArrayList<>();
+
+        when(taskRepository.findAllWithDetails(pageable)).thenReturn(new PageImpl<>(List.of(task)));
+
+        Optional<Page<TaskResponseDto>> result = taskService.getAllTasks(pageable, null, eTag -> eTags.add(eTag));
+
+        assertTrue(result.isEmpty());
+        assertEquals(1, eTags.size());
+        verify(taskRepository).findAllWithDetails(pageable);
+        verifyNoMoreInteractions(taskRepository);
+        verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    public void testIncrementVersions_LocksTasksInIdOrder() {
+        UUID firstId = new UUID(0L, 1L);
+        UUID secondId = new UUID(0L, 2L);
+
+        taskService.incrementVersions(List.of(secondId, firstId, secondId));
+
+        var inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockAllByIdIn(List.of(firstId, secondId));
+        inOrder.verify(taskRepository).incrementVersions(List.of(firstId, secondId));
+    }
+
+    @Test
+    public void testUpdateCommentCount_Success() {
+        taskService.updateCommentCount(TASK_ID, 1);
+
+        verify(taskRepository).updateCommentCount(TASK_ID, 1);
+    }
+
+    @Test
+    public void testScrollAllTasks_ReturnsNextCursorFromLastRowWithoutCounting() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        Task secondTask = Task.builder()
+                .id(UUID.randomUUID())
+                .createdAt(createdAt.minusMinutes(1))
+                .build();
+        Task extraTask = Task.builder()
+                .id(UUID.randomUUID())
+                .createdAt(createdAt.minusMinutes(2))
+                .build();
+        task.setCreatedAt(createdAt);
+        KeysetCursor cursor = KeysetCursor.start();
+
+        when(taskRepository.findAllAfter(cursor.createdAt(), cursor.id(), PageRequest.ofSize(3)))
+                .thenReturn(List.of(task, secondTask, extraTask));
+        when(taskMapper.toTaskResponseDto(any(Task.class))).thenReturn(taskResponseDto);
+
+        CursorPageResponseDto<TaskResponseDto> result = taskService.scrollAllTasks(cursor, 2, false, 0);
+
+        assertEquals(2, result.content()
+                .size());
+        assertTrue(result.hasNext());
+        assertEquals(new KeysetCursor(secondTask.getCreatedAt(), secondTask.getId()),
+                KeysetCursor.decode(result.nextCursor()));
+        assertNull(result.totalElements());
+
+        verify(taskRepository).fetchTaskAssigneesByTaskIds(List.of(task.getId(), secondTask.getId()));
+        verify(taskRepository, never()).count();
+        verify(taskMapper, never()).toTaskResponseDto(extraTask);
+    }
+
+    @Test
+    public void testScrollTasksByAuthor_LastPageWithTotal() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 0), UUID.randomUUID());
+
+        when(taskRepository.findAllByAuthorIdAfter(AUTHOR_ID, cursor.createdAt(), cursor.id(),
+                PageRequest.ofSize(11))).thenReturn(List.of(task));
+        when(taskRepository.countByAuthor_Id(AUTHOR_ID)).thenReturn(11L);
+        when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
+
+        CursorPageResponseDto<TaskResponseDto> result = taskService.scrollTasksByAuthor(AUTHOR_ID, cursor, 10, true,
+                0);
+
+        assertEquals(List.of(taskResponseDto), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        assertEquals(11L, result.totalElements());
+    }
+
+    @Test
+    public void testFilterTasks_CountsWithoutKeysetPredicate() {
+        TaskFilterRequestDto filter = TaskFilterRequestDto.builder()
+                .status(Set.of(TaskStatus.IN_PROGRESS))
+                .priority(Set.of(TaskPriority.HIGH))
+                .assigneeId(AUTHOR_ID)
+                .build();
+        Task extraTask = Task.builder()
+                .id(UUID.randomUUID())
+                .build();
+
+        when(taskRepository.findBy(ArgumentMatchers.<Specification<Task>>any(), any()))
+                .thenReturn(List.of(task, extraTask));
+        when(taskRepository.count(ArgumentMatchers.<Specification<Task>>any())).thenReturn(5L);
+        when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
+
+        CursorPageResponseDto<TaskResponseDto> result = taskService.filterTasks(filter, KeysetCursor.start(), 1, true,
+                0);
+
+        assertEquals(1, result.content()
+                .size());
+        assertTrue(result.hasNext());
+        assertEquals(5L, result.totalElements());
+        verify(taskRepository).fetchTaskAssigneesByTaskIds(List.of(TASK_ID));
+        verify(taskMapper, never()).toTaskResponseDto(extraTask);
+    }
+
+    @Test
+    public void testSearchTasks_LoadsOnlyTasksOfThePageInRankOrder() {
+        Task secondTask = Task.builder()
+                .id(UUID.randomUUID())
+                .build();
+        TaskResponseDto secondResponse = TaskResponseDto.builder()
+                .id(secondTask.getId())
+                .build();
+        taskResponseDto = TaskResponseDto.builder()
+                .id(TASK_ID)
+                .build();
+        TaskSearchHit extraHit = searchHit(UUID.randomUUID(), 0.01);
+        SearchCursor cursor = SearchCursor.start();
+
+        when(taskRepository.searchAfter("login bug", cursor.rank(), cursor.id(), 3))
+                .thenReturn(List.of(searchHit(TASK_ID, 0.6), searchHit(secondTask.getId(), 0.2), extraHit));
+        when(taskRepository.findAllWithAuthorByIdIn(List.of(TASK_ID, secondTask.getId())))
+                .thenReturn(List.of(secondTask, task));
+        when(taskRepository.countSearchMatches("login bug")).thenReturn(7L);
+        when(taskMapper.toTaskResponseDto(task)).thenReturn(taskResponseDto);
+        when(taskMapper.toTaskResponseDto(secondTask)).thenReturn(secondResponse);
+
+        CursorPageResponseDto<TaskResponseDto> result = taskService.searchTasks("login bug", cursor, 2, true, 0);
+
+        assertEquals(List.of(taskResponseDto, secondResponse), result.content());
+        assertTrue(result.hasNext());
+        assertEquals(new SearchCursor(0.2, secondTask.getId()), SearchCursor.decode(result.nextCursor()));
+        assertEquals(7L, result.totalElements());
+    }
+
+    @Test
+    public void testSearchTasks_NoMatches() {
+        SearchCursor cursor = SearchCursor.start();
+
+        when(taskRepository.searchAfter("nothing", cursor.rank(), cursor.id(), 21)).thenReturn(List.of());
+
+        CursorPageResponseDto<TaskResponseDto> result = taskService.searchTasks("nothing", cursor, 20, false, null);
+
+        assertTrue(result.content()
+                .isEmpty());
+        assertFalse(result.hasNext());
+        verify(taskRepository, never()).findAllWithAuthorByIdIn(any());
+        verify(taskRepository, never()).countSearchMatches(any());
+    }
+
+    private static TaskSearchHit searchHit(UUID id, double rank) {
+        return new TaskSearchHit() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public double getRank() {
+                return rank;
+            }
+        };
+    }
+
+    private static ImportTaskRequestDto importRequest(UUID authorId) {
+        return ImportTaskRequestDto.builder()
+                .title("Batch task")
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.LOW)
+                .authorId(authorId)
+                .build();
+    }
+}
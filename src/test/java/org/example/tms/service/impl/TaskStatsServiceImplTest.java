@@ -0,0 +1,135 @@
+package org.example.tms.service.impl;
+
+import org.example.tms.dto.responses.TaskStatsEntryDto;
+import org.example.tms.dto.responses.TaskStatsResponseDto;
+import org.example.tms.model.enums.TaskPriority;
+import org.example.tms.model.enums.TaskStatus;
+import org.example.tms.repository.TaskStatsKey;
+import org.example.tms.repository.TaskStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatsServiceImplTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+    private static final UUID OTHER_TASK_ID = UUID.randomUUID();
+    private static final UUID ASSIGNEE_ID = new UUID(0, 1);
+    private static final UUID OTHER_ASSIGNEE_ID = new UUID(0, 2);
+    private static final TaskStatsKey PENDING_HIGH = new TaskStatsKey(TaskStatus.PENDING, TaskPriority.HIGH);
+    private static final TaskStatsKey COMPLETED_LOW = new TaskStatsKey(TaskStatus.COMPLETED, TaskPriority.LOW);
+
+    @InjectMocks
+    private TaskStatsServiceImpl taskStatsService;
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    @Test
+    public void testGetTaskStats_ListsEveryCombinationWithTotal() {
+        when(taskStatsRepository.findTaskCounts()).thenReturn(Map.of(PENDING_HIGH, 3L, COMPLETED_LOW, 2L));
+
+        TaskStatsResponseDto result = taskStatsService.getTaskStats();
+
+        assertNull(result.assigneeId());
+        assertEquals(5, result.total());
+        assertEquals(TaskStatus.values().length * TaskPriority.values().length, result.counts()
+                .size());
+        assertEquals(new TaskStatsEntryDto(TaskStatus.PENDING, TaskPriority.HIGH, 3), result.counts()
+                .get(0));
+        assertEquals(new TaskStatsEntryDto(TaskStatus.PENDING, TaskPriority.MEDIUM, 0), result.counts()
+                .get(1));
+    }
+
+    @Test
+    public void testGetTaskStatsByAssignee_ReturnsAssigneeCounts() {
+        when(taskStatsRepository.findAssigneeTaskCounts(ASSIGNEE_ID)).thenReturn(Map.of(COMPLETED_LOW, 4L));
+
+        TaskStatsResponseDto result = taskStatsService.getTaskStatsByAssignee(ASSIGNEE_ID);
+
+        assertEquals(ASSIGNEE_ID, result.assigneeId());
+        assertEquals(4, result.total());
+    }
+
+    @Test
+    public void testRecordTaskUpdate_MovesTaskAndAssigneeCounts() {
+        when(taskStatsRepository.findAssigneeIds(TASK_ID)).thenReturn(List.of(OTHER_ASSIGNEE_ID, ASSIGNEE_ID));
+
+        assertEquals(Optional.of(PENDING_HIGH), taskStatsService.recordTaskUpdate(TASK_ID, PENDING_HIGH,
+                TaskStatus.COMPLETED, TaskPriority.LOW));
+
+        InOrder inOrder = inOrder(taskStatsRepository);
+        inOrder.verify(taskStatsRepository)
+                .adjustTaskCount(eq(PENDING_HIGH), anyInt(), eq(-1L));
+        inOrder.verify(taskStatsRepository)
+                .adjustTaskCount(eq(COMPLETED_LOW), anyInt(), eq(1L));
+        inOrder.verify(taskStatsRepository)
+                .adjustAssigneeTaskCount(eq(ASSIGNEE_ID), eq(PENDING_HIGH), anyInt(), eq(-1L));
+        inOrder.verify(taskStatsRepository)
+                .adjustAssigneeTaskCount(eq(ASSIGNEE_ID), eq(COMPLETED_LOW), anyInt(), eq(1L));
+        inOrder.verify(taskStatsRepository)
+                .adjustAssigneeTaskCount(eq(OTHER_ASSIGNEE_ID), eq(PENDING_HIGH), anyInt(), eq(-1L));
+        inOrder.verify(taskStatsRepository)
+                .adjustAssigneeTaskCount(eq(OTHER_ASSIGNEE_ID), eq(COMPLETED_LOW), anyInt(), eq(1L));
+    }
+
+    @Test
+    public void testRecordTaskUpdate_LeavesCountsOfUnchangedStatusAndPriority() {
+        taskStatsService.recordTaskUpdate(TASK_ID, PENDING_HIGH, TaskStatus.PENDING, TaskPriority.HIGH);
+
+        verifyNoInteractions(taskStatsRepository);
+    }
+
+    @Test
+    public void testRecordTaskUpdate_WithoutStatusCountsNothing() {
+        assertEquals(Optional.empty(), taskStatsService.recordTaskUpdate(TASK_ID, PENDING_HIGH, null,
+                TaskPriority.LOW));
+
+        verifyNoInteractions(taskStatsRepository);
+    }
+
+    @Test
+    public void testRecordTaskDeletion_SubtractsTaskAndAssigneeCounts() {
+        when(taskStatsRepository.lockTaskForUpdate(TASK_ID)).thenReturn(Optional.of(PENDING_HIGH));
+        when(taskStatsRepository.findAssigneeIds(TASK_ID)).thenReturn(List.of(ASSIGNEE_ID));
+
+        taskStatsService.recordTaskDeletion(TASK_ID);
+
+        verify(taskStatsRepository).adjustTaskCount(eq(PENDING_HIGH), anyInt(), eq(-1L));
+        verify(taskStatsRepository).adjustAssigneeTaskCount(eq(ASSIGNEE_ID), eq(PENDING_HIGH), anyInt(), eq(-1L));
+    }
+
+    @Test
+    public void testRecordAssignments_AggregatesCountsPerAssignee() {
+        when(taskStatsRepository.lockTasksForShare(List.of(TASK_ID, OTHER_TASK_ID)))
+                .thenReturn(Map.of(TASK_ID, PENDING_HIGH, OTHER_TASK_ID, PENDING_HIGH));
+
+        taskStatsService.recordAssignments(List.of(Map.entry(TASK_ID, ASSIGNEE_ID),
+                Map.entry(OTHER_TASK_ID, ASSIGNEE_ID), Map.entry(TASK_ID, OTHER_ASSIGNEE_ID)));
+
+        verify(taskStatsRepository).adjustAssigneeTaskCount(eq(ASSIGNEE_ID), eq(PENDING_HIGH), anyInt(), eq(2L));
+        verify(taskStatsRepository).adjustAssigneeTaskCount(eq(OTHER_ASSIGNEE_ID), eq(PENDING_HIGH), anyInt(),
+                eq(1L));
+        verify(taskStatsRepository, never()).adjustTaskCount(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testReconcile_ReturnsDrift() {
+        when(taskStatsRepository.reconcile()).thenReturn(3);
+
+        assertEquals(3, taskStatsService.reconcile());
+    }
+}
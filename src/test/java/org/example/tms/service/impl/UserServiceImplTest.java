@@ -5,6 +5,7 @@ import org.example.tms.exception.UserNotFoundException;
 import org.example.tms.mapper.UserMapper;
 import org.example.tms.model.User;
 import org.example.tms.model.enums.UserRole;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +52,9 @@ public class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private EntityResolver entityResolver;
+
     @Test
     public void testSave_ShouldSaveUser() {
         userService.save(user);
@@ -74,6 +79,17 @@ public class UserServiceImplTest {
         verify(userRepository).findById(userId);
     }
 
+    @Test
+    public void testGetUserEntityById_ShouldReuseUser_WhenResolvedInRequest() {
+        UUID userId = user.getId();
+        when(entityResolver.findResolved(User.class, userId)).thenReturn(Optional.of(user));
+
+        User result = userService.getUserEntityById(userId);
+
+        assertEquals(user, result);
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     public void testGetUserEntityById_ShouldThrowException_WhenUserDoesNotExist() {
         UUID userId = UUID.randomUUID();
@@ -0,0 +1,64 @@
+package org.example.tms.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ETagUtilTest {
+
+    @Test
+    public void testETag_IsQuotedAndDependsOnEveryPartInOrder() {
+        String eTag = ETagUtil.eTag("a", 1L);
+
+        assertTrue(eTag.matches("\"[0-9a-f]{32}\""));
+        assertEquals(eTag, ETagUtil.eTag("a", 1L));
+        assertNotEquals(eTag, ETagUtil.eTag("a", 2L));
+        assertNotEquals(eTag, ETagUtil.eTag(1L, "a"));
+        assertNotEquals(ETagUtil.eTag("ab", "c"), ETagUtil.eTag("a", "bc"));
+    }
+
+    @Test
+    public void testPageETag_ChangesWithElementsAndTotal() {
+        Page<String> page = new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 5);
+
+        String eTag = ETagUtil.pageETag(page, ETagUtil::eTag);
+
+        assertEquals(eTag, ETagUtil.pageETag(new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 5),
+                ETagUtil::eTag));
+        assertNotEquals(eTag, ETagUtil.pageETag(new PageImpl<>(List.of("a", "c"), PageRequest.of(0, 2), 5),
+                ETagUtil::eTag));
+        assertNotEquals(eTag, ETagUtil.pageETag(new PageImpl<>(List.of("b", "a"), PageRequest.of(0, 2), 5),
+                ETagUtil::eTag));
+        assertNotEquals(eTag, ETagUtil.pageETag(new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 6),
+                ETagUtil::eTag));
+    }
+
+    @Test
+    public void testToConditionalResponse_ModifiedReturnsBodyThatMustBeRevalidated() {
+        ResponseEntity<String> response = ETagUtil.toConditionalResponse(Optional.of("body"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("body", response.getBody());
+        assertEquals("no-cache, private", response.getHeaders()
+                .getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void testToConditionalResponse_NotModifiedReturnsNoBody() {
+        ResponseEntity<String> response = ETagUtil.toConditionalResponse(Optional.empty());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("no-cache, private", response.getHeaders()
+                .getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+}
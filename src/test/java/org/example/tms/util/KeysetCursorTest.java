@@ -0,0 +1,34 @@
+package org.example.tms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetCursorTest {
+
+    @Test
+    public void testEncodeDecode_RoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456000),
+                UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="));
+        assertEquals(cursor, KeysetCursor.decode(token));
+    }
+
+    @Test
+    public void testDecode_NullOrBlankReturnsStart() {
+        assertEquals(KeysetCursor.start(), KeysetCursor.decode(null));
+        assertEquals(KeysetCursor.start(), KeysetCursor.decode(" "));
+    }
+
+    @Test
+    public void testDecode_MalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+    }
+}
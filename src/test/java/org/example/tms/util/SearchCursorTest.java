@@ -0,0 +1,34 @@
+package org.example.tms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchCursorTest {
+
+    @Test
+    public void testEncodeDecode_RoundTripKeepsExactRank() {
+        SearchCursor cursor = new SearchCursor((double) 0.0607927f, UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="));
+        assertEquals(cursor, SearchCursor.decode(token));
+    }
+
+    @Test
+    public void testDecode_NullOrBlankReturnsStart() {
+        assertEquals(SearchCursor.start(), SearchCursor.decode(null));
+        assertEquals(SearchCursor.start(), SearchCursor.decode(" "));
+    }
+
+    @Test
+    public void testDecode_MalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(new KeysetCursor(
+                KeysetCursor.start()
+                        .createdAt(), UUID.randomUUID()).encode()));
+    }
+}
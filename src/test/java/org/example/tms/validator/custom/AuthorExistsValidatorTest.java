@@ -1,6 +1,7 @@
 package org.example.tms.validator.custom;
 
-import org.example.tms.repository.UserRepository;
+import org.example.tms.model.User;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.validator.constraint.AuthorExistsValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,35 +19,35 @@ import static org.mockito.Mockito.*;
 public class AuthorExistsValidatorTest {
 
     @Mock
-    private UserRepository userRepository;
+    private EntityResolver entityResolver;
 
     private AuthorExistsValidator validator;
 
     @BeforeEach
     public void setUp() {
-        validator = new AuthorExistsValidator(userRepository);
+        validator = new AuthorExistsValidator(entityResolver);
     }
 
     @Test
     public void testIsValid_ShouldReturnTrue_WhenUserExists() {
         UUID existingUserId = UUID.randomUUID();
-        when(userRepository.existsById(existingUserId)).thenReturn(true);
+        when(entityResolver.exists(User.class, existingUserId)).thenReturn(true);
 
         boolean isValid = validator.isValid(existingUserId, null);
 
         assertTrue(isValid);
-        verify(userRepository).existsById(existingUserId);
+        verify(entityResolver).exists(User.class, existingUserId);
     }
 
     @Test
     public void testIsValid_ShouldReturnFalse_WhenUserDoesNotExist() {
         UUID nonExistingUserId = UUID.randomUUID();
-        when(userRepository.existsById(nonExistingUserId)).thenReturn(false);
+        when(entityResolver.exists(User.class, nonExistingUserId)).thenReturn(false);
 
         boolean isValid = validator.isValid(nonExistingUserId, null);
 
         assertFalse(isValid);
-        verify(userRepository).existsById(nonExistingUserId);
+        verify(entityResolver).exists(User.class, nonExistingUserId);
     }
 
     @Test
@@ -54,6 +55,6 @@ public class AuthorExistsValidatorTest {
         boolean isValid = validator.isValid(null, null);
 
         assertFalse(isValid);
-        verifyNoInteractions(userRepository);
+        verifyNoInteractions(entityResolver);
     }
 }
@@ -1,6 +1,7 @@
 package org.example.tms.validator.custom;
 
-import org.example.tms.repository.CommentRepository;
+import org.example.tms.model.Comment;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.validator.constraint.CommentExistsValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,13 +19,13 @@ import static org.mockito.Mockito.*;
 public class CommentExistsValidatorTest {
 
     @Mock
-    private CommentRepository commentRepository;
+    private EntityResolver entityResolver;
 
     private CommentExistsValidator validator;
 
     @BeforeEach
     public void setUp() {
-        validator = new CommentExistsValidator(commentRepository);
+        validator = new CommentExistsValidator(entityResolver);
     }
 
     @Test
@@ -32,32 +33,32 @@ public class CommentExistsValidatorTest {
         boolean isValid = validator.isValid(null, null);
 
         assertFalse(isValid, "Expected false when commentId is null");
-        verifyNoInteractions(commentRepository);
+        verifyNoInteractions(entityResolver);
     }
 
     @Test
     public void testIsValid_ShouldReturnTrue_WhenCommentExists() {
         UUID commentId = UUID.randomUUID();
-        when(commentRepository.existsById(commentId))
+        when(entityResolver.exists(Comment.class, commentId))
                 .thenReturn(true);
 
         boolean isValid = validator.isValid(commentId, null);
 
         assertTrue(isValid, "Expected true when the comment exists in the repository");
-        verify(commentRepository)
-                .existsById(commentId);
+        verify(entityResolver)
+                .exists(Comment.class, commentId);
     }
 
     @Test
     public void testIsValid_ShouldReturnFalse_WhenCommentDoesNotExist() {
         UUID commentId = UUID.randomUUID();
-        when(commentRepository.existsById(commentId))
+        when(entityResolver.exists(Comment.class, commentId))
                 .thenReturn(false);
 
         boolean isValid = validator.isValid(commentId, null);
 
         assertFalse(isValid, "Expected false when the comment does not exist in the repository");
-        verify(commentRepository)
-                .existsById(commentId);
+        verify(entityResolver)
+                .exists(Comment.class, commentId);
     }
 }
@@ -1,6 +1,7 @@
 package org.example.tms.validator.custom;
 
-import org.example.tms.repository.TaskRepository;
+import org.example.tms.model.Task;
+import org.example.tms.repository.EntityResolver;
 import org.example.tms.validator.constraint.TaskExistsValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,13 +19,13 @@ import static org.mockito.Mockito.*;
 public class TaskExistsValidatorTest {
 
     @Mock
-    private TaskRepository taskRepository;
+    private EntityResolver entityResolver;
 
     private TaskExistsValidator validator;
 
     @BeforeEach
     public void setUp() {
-        validator = new TaskExistsValidator(taskRepository);
+        validator = new TaskExistsValidator(entityResolver);
     }
 
     @Test
@@ -32,32 +33,32 @@ public class TaskExistsValidatorTest {
         boolean isValid = validator.isValid(null, null);
 
         assertFalse(isValid);
-        verifyNoInteractions(taskRepository);
+        verifyNoInteractions(entityResolver);
     }
 
     @Test
     public void testIsValid_ShouldReturnTrue_WhenTaskExists() {
         UUID taskId = UUID.randomUUID();
-        when(taskRepository.existsById(taskId))
+        when(entityResolver.exists(Task.class, taskId))
                 .thenReturn(true);
 
         boolean isValid = validator.isValid(taskId, null);
 
         assertTrue(isValid);
-        verify(taskRepository)
-                .existsById(taskId);
+        verify(entityResolver)
+                .exists(Task.class, taskId);
     }
 
     @Test
     public void testIsValid_ShouldReturnFalse_WhenTaskDoesNotExist() {
         UUID taskId = UUID.randomUUID();
-        when(taskRepository.existsById(taskId))
+        when(entityResolver.exists(Task.class, taskId))
                 .thenReturn(false);
 
         boolean isValid = validator.isValid(taskId, null);
 
         assertFalse(isValid);
-        verify(taskRepository)
-                .existsById(taskId);
+        verify(entityResolver)
+                .exists(Task.class, taskId);
     }
 }
@@ -0,0 +1,70 @@
+package org.example.tms.validator.custom;
+
+import org.example.tms.dto.requests.create.CreateTaskAssigneeRequestDto;
+import org.example.tms.repository.TaskAssigneeRepository;
+import org.example.tms.validator.constraint.UniqueTaskAssignmentValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UniqueTaskAssignmentValidatorTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+    private static final UUID ASSIGNEE_ID = UUID.randomUUID();
+
+    @Mock
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    private UniqueTaskAssignmentValidator validator;
+    private CreateTaskAssigneeRequestDto request;
+
+    @BeforeEach
+    public void setUp() {
+        validator = new UniqueTaskAssignmentValidator(taskAssigneeRepository);
+
+        request = CreateTaskAssigneeRequestDto.builder()
+                .taskId(TASK_ID)
+                .assigneeId(ASSIGNEE_ID)
+                .build();
+    }
+
+    @Test
+    public void testIsValid_ShouldReturnTrue_WhenAssignmentIsNew() {
+        when(taskAssigneeRepository.existsByTask_IdAndAssignee_Id(TASK_ID, ASSIGNEE_ID)).thenReturn(false);
+
+        boolean isValid = validator.isValid(request, null);
+
+        assertTrue(isValid);
+        verify(taskAssigneeRepository).existsByTask_IdAndAssignee_Id(TASK_ID, ASSIGNEE_ID);
+    }
+
+    @Test
+    public void testIsValid_ShouldReturnFalse_WhenAssignmentExists() {
+        when(taskAssigneeRepository.existsByTask_IdAndAssignee_Id(TASK_ID, ASSIGNEE_ID)).thenReturn(true);
+
+        boolean isValid = validator.isValid(request, null);
+
+        assertFalse(isValid);
+        verify(taskAssigneeRepository).existsByTask_IdAndAssignee_Id(TASK_ID, ASSIGNEE_ID);
+    }
+
+    @Test
+    public void testIsValid_ShouldSkipLookup_WhenIdIsMissing() {
+        request.setTaskId(null);
+
+        boolean isValid = validator.isValid(request, null);
+
+        assertTrue(isValid);
+        verifyNoInteractions(taskAssigneeRepository);
+    }
+}
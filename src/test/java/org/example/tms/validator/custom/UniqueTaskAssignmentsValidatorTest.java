@@ -0,0 +1,101 @@
+package org.example.tms.validator.custom;
+
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto;
+import org.example.tms.dto.requests.create.CreateTaskAssigneeBatchRequestDto.Assignment;
+import org.example.tms.model.Task;
+import org.example.tms.model.TaskAssignee;
+import org.example.tms.model.User;
+import org.example.tms.repository.TaskAssigneeRepository;
+import org.example.tms.validator.constraint.UniqueTaskAssignmentsValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UniqueTaskAssignmentsValidatorTest {
+    private static final UUID TASK_ID = UUID.randomUUID();
+    private static final UUID FIRST_ASSIGNEE_ID = UUID.randomUUID();
+    private static final UUID SECOND_ASSIGNEE_ID = UUID.randomUUID();
+
+    @Mock
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    private UniqueTaskAssignmentsValidator validator;
+
+    @BeforeEach
+    public void setUp() {
+        validator = new UniqueTaskAssignmentsValidator(taskAssigneeRepository);
+    }
+
+    @Test
+    public void testIsValid_ShouldReturnTrue_WhenAllAssignmentsAreNew() {
+        when(taskAssigneeRepository.findAllByTask_IdInAndAssignee_IdIn(Set.of(TASK_ID),
+                Set.of(FIRST_ASSIGNEE_ID, SECOND_ASSIGNEE_ID))).thenReturn(List.of());
+
+        boolean isValid = validator.isValid(batch(assignment(FIRST_ASSIGNEE_ID), assignment(SECOND_ASSIGNEE_ID)), null);
+
+        assertTrue(isValid);
+        verify(taskAssigneeRepository).findAllByTask_IdInAndAssignee_IdIn(Set.of(TASK_ID),
+                Set.of(FIRST_ASSIGNEE_ID, SECOND_ASSIGNEE_ID));
+    }
+
+    @Test
+    public void testIsValid_ShouldReturnFalse_WhenAssignmentExists() {
+        when(taskAssigneeRepository.findAllByTask_IdInAndAssignee_IdIn(Set.of(TASK_ID),
+                Set.of(FIRST_ASSIGNEE_ID, SECOND_ASSIGNEE_ID))).thenReturn(List.of(TaskAssignee.builder()
+                .task(Task.builder()
+                        .id(TASK_ID)
+                        .build())
+                .assignee(User.builder()
+                        .id(SECOND_ASSIGNEE_ID)
+                        .build())
+                .build()));
+
+        boolean isValid = validator.isValid(batch(assignment(FIRST_ASSIGNEE_ID), assignment(SECOND_ASSIGNEE_ID)), null);
+
+        assertFalse(isValid);
+    }
+
+    @Test
+    public void testIsValid_ShouldReturnFalse_WhenBatchRepeatsAssignment() {
+        boolean isValid = validator.isValid(batch(assignment(FIRST_ASSIGNEE_ID), assignment(FIRST_ASSIGNEE_ID)), null);
+
+        assertFalse(isValid);
+        verifyNoInteractions(taskAssigneeRepository);
+    }
+
+    @Test
+    public void testIsValid_ShouldSkipLookup_WhenIdsAreMissing() {
+        boolean isValid = validator.isValid(batch(Assignment.builder()
+                .taskId(TASK_ID)
+                .build()), null);
+
+        assertTrue(isValid);
+        verifyNoInteractions(taskAssigneeRepository);
+    }
+
+    private static CreateTaskAssigneeBatchRequestDto batch(Assignment... assignments) {
+        return CreateTaskAssigneeBatchRequestDto.builder()
+                .assignments(List.of(assignments))
+                .build();
+    }
+
+    private static Assignment assignment(UUID assigneeId) {
+        return Assignment.builder()
+                .taskId(TASK_ID)
+                .assigneeId(assigneeId)
+                .build();
+    }
+}